@@ -0,0 +1,66 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * JwtTokenFilter 의 토큰 검증 경로 성능 측정
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=JwtTokenFilterBenchmark
+ * </pre>
+ * legacy   : 요청마다 키 생성 + 파서 생성 + 세 번 파싱 (parseUserId, isValid 의 parseUserId, isTokenExpired)
+ * uncached : 키와 파서를 재사용하여 한 번만 검증 (캐시 없음)
+ * cached   : 검증한 claims 캐시 적중
+ */
+@State(Scope.Benchmark)
+public class JwtTokenFilterBenchmark {
+
+    private static final String SIGNING_KEY = "benchmark-signing-key-benchmark-signing-key-benchmark";
+
+    private JwtProviderImpl uncachedProvider;
+    private JwtProviderImpl cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtProviderImpl(SIGNING_KEY, 0);
+        cachedProvider = new JwtProviderImpl(SIGNING_KEY, 10_000);
+        token = cachedProvider.generateTokens(1L).accessToken();
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        long userId = Long.parseLong(legacyParse(token).getSubject());
+        Long extractedUserId = Long.parseLong(legacyParse(token).getSubject());
+        return Objects.equals(userId, extractedUserId) && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public Long uncached() {
+        return uncachedProvider.verify(token).userId();
+    }
+
+    @Benchmark
+    public Long cached() {
+        return cachedProvider.verify(token).userId();
+    }
+
+    // 변경 전 JwtProviderImpl.extractAllClaims 와 같은 방식
+    private Claims legacyParse(String token) {
+        String encoded = Base64.getEncoder().encodeToString(SIGNING_KEY.getBytes());
+        SecretKey key = Keys.hmacShaKeyFor(encoded.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bangguddle.ownbang.global.config.security.filter;
+
+import com.bangguddle.ownbang.global.config.security.filter.RouteMatcher.RouteAuthorization;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+
+/**
+ * JwtTokenFilter 의 URI 분류 성능 측정 (요청 URI 8개를 한 번씩 분류)
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=RouteMatcherBenchmark
+ * </pre>
+ * legacy   : 변경 전 규칙 배열을 stream + contains 로 두 번 검사
+ * compiled : 조각 단위 오토마톤으로 한 번 분류
+ */
+@State(Scope.Benchmark)
+public class RouteMatcherBenchmark {
+
+    private static final String[] LEGACY_ANONYMOUS = {"/search"};
+    private static final String[] LEGACY_USER = {
+            "/bookmarks", "/agents/auths", "/logout", "/get-token", "/remove-token", "/auths/password-check",
+            "/videos", "/mypage", "/checklists", "/auths/password-change", "/reviews", "/room", "/reservations"
+    };
+    private static final String[] LEGACY_AGENT = {
+            "/rooms/agents", "/agents/reservations", "/agents/mypage", "agents/workhour"
+    };
+
+    private final String[] uris = {
+            "/auths/login", "/rooms/search/12", "/webrtcs/get-token", "/agents/workhour",
+            "/reservations/list", "/streamings", "/checklists/template", "/storage/hls/1/master.m3u8"
+    };
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String uri : uris) {
+            boolean nonAuthenticated = !(Arrays.stream(LEGACY_AGENT).anyMatch(uri::contains)
+                    || Arrays.stream(LEGACY_USER).anyMatch(uri::contains)
+                    || Arrays.stream(LEGACY_ANONYMOUS).anyMatch(uri::contains));
+            boolean possibleAnonymous = Arrays.stream(LEGACY_ANONYMOUS).anyMatch(uri::contains);
+            blackhole.consume(nonAuthenticated);
+            blackhole.consume(possibleAnonymous);
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (String uri : uris) {
+            RouteAuthorization authorization = JwtTokenFilter.ROUTE_MATCHER.classify(uri);
+            blackhole.consume(authorization);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.bangguddle.ownbang.domain.agent.workhour.entity.AgentWorkhour;
 import com.bangguddle.ownbang.domain.agent.workhour.repository.AgentWorkhourRepository;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import com.bangguddle.ownbang.global.config.security.PrincipalCache;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
 import com.bangguddle.ownbang.global.handler.AppException;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
@@ -24,6 +25,7 @@ public class AgentAuthServiceImpl implements AgentAuthService {
     private final AgentRepository agentRepository;
     private final UserRepository userRepository;
     private final AgentWorkhourRepository agentWorkhourRepository;
+    private final PrincipalCache principalCache;
     @Override
     public SuccessResponse<NoneResponse> signUp(Long id, AgentSignUpRequest request) {
         User user = userRepository.getById(id);
@@ -37,6 +39,9 @@ public class AgentAuthServiceImpl implements AgentAuthService {
 
         agentRepository.save(agent);
         agentWorkhourRepository.save(agentWorkhour);
+
+        // 인증 필터가 캐시한 권한을 지워 다음 요청부터 중개인 권한 적용
+        principalCache.invalidate(id);
         return new SuccessResponse<>(UPGRADE_SUCCESS, NoneResponse.NONE);
     }
 
@@ -5,11 +5,13 @@ import com.bangguddle.ownbang.global.dto.Tokens;
 import com.bangguddle.ownbang.domain.auth.service.AuthService;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import com.bangguddle.ownbang.domain.user.service.UserDuplicateFilterService;
 import com.bangguddle.ownbang.global.config.security.JwtProvider;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
 import com.bangguddle.ownbang.global.handler.AppException;
 import com.bangguddle.ownbang.global.repository.RedisRepository;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,6 +30,7 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtProvider jwtProvider;
     private final RedisRepository redisRepository;
+    private final UserDuplicateFilterService userDuplicateFilterService;
     @Override
     public SuccessResponse<NoneResponse> signUp(UserSignUpRequest request) {
         validateByEmail(request.email());
@@ -35,19 +38,22 @@ public class AuthServiceImpl implements AuthService {
         User user = request.toEntity(passwordEncoder.encode(request.password()));
 
         userRepository.save(user);
+        userDuplicateFilterService.add(user.getEmail(), user.getPhoneNumber());
         return new SuccessResponse<>(SIGNUP_SUCCESS, NoneResponse.NONE);
     }
 
     @Override
     public SuccessResponse<DuplicateResponse> checkEmailDuplicate(String email) {
-        Boolean isDuplicated = userRepository.findByEmail(email).isPresent();
+        // 필터가 "없음"이라고 하면 DB를 조회하지 않는다.
+        Boolean isDuplicated = userDuplicateFilterService.mightExistEmail(email) && userRepository.existsByEmail(email);
         DuplicateResponse response = new DuplicateResponse(isDuplicated);
         return new SuccessResponse<>(CHECK_EMAIL_DUPLICATE_SUCCESS, response);
     }
 
     @Override
     public SuccessResponse<DuplicateResponse> checkPhoneNumberDuplicate(String phoneNumber) {
-        Boolean isDuplicated = userRepository.findByPhoneNumber(phoneNumber).isPresent();
+        Boolean isDuplicated = userDuplicateFilterService.mightExistPhoneNumber(phoneNumber)
+                && userRepository.existsByPhoneNumber(phoneNumber);
         DuplicateResponse response = new DuplicateResponse(isDuplicated);
         return new SuccessResponse<>(CHECK_PHONE_NUMBER_DUPLICATE_SUCCESS, response);
     }
@@ -89,25 +95,30 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public SuccessResponse<Tokens> refreshTokens(Tokens tokens) {
-        String accessToken = tokens.accessToken();
-        String refreshToken = redisRepository.getByToken(accessToken);
-        if (!refreshToken.equals(tokens.refreshToken()))
-            throw new AppException(TOKEN_INVALID);
-        redisRepository.delete(accessToken);
-        long userId = jwtProvider.parseUserId(refreshToken);
+        long userId = parseRefreshUserId(tokens.refreshToken());
         Tokens refresh = jwtProvider.generateTokens(userId);
-        redisRepository.save(refresh);
+        // 저장된 refresh token 확인, 기존 토큰 삭제, 새 토큰 저장을 한 번에 처리
+        if (!redisRepository.rotate(tokens.accessToken(), tokens.refreshToken(), refresh))
+            throw new AppException(TOKEN_INVALID);
         return new SuccessResponse<>(AUTH_TOKEN_CHANGE_SUCCESS, refresh);
     }
 
 
+    private long parseRefreshUserId(final String refreshToken) {
+        try {
+            return jwtProvider.parseUserId(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AppException(TOKEN_INVALID);
+        }
+    }
+
     private void validateByEmail(final String email) {
-        if (userRepository.findByEmail(email).isPresent())
+        if (userRepository.existsByEmail(email))
             throw new AppException(EMAIL_DUPLICATED);
     }
 
     private void validateByPhoneNumber(final String phoneNumber) {
-        if (userRepository.findByPhoneNumber(phoneNumber).isPresent())
+        if (userRepository.existsByPhoneNumber(phoneNumber))
             throw new AppException(PHONE_NUMBER_DUPLICATED);
     }
 
@@ -44,6 +44,12 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>{
 
     @Query("SELECT r.reservationTime FROM Reservation r WHERE r.room.id = :roomId AND DATE(r.reservationTime) = :date AND r.status = 'CONFIRMED'")
     List<LocalDateTime> findConfirmedReservationDateTimes(@Param("roomId") Long roomId, @Param("date") LocalDate date);
+    List<Reservation> findByStatusAndReservationTimeBetweenOrderByReservationTimeAsc(ReservationStatus status, LocalDateTime from, LocalDateTime to);
+
+    // 투어 모드: 같은 중개인/임차인의 예약 중 from ~ to 사이에 가장 늦게 시작한 예약 (excludeId 제외)
+    Optional<Reservation> findFirstByRoomAgentIdAndUserIdAndStatusAndIdNotAndReservationTimeBetweenOrderByReservationTimeDescIdDesc(
+            Long agentId, Long userId, ReservationStatus status, Long excludeId, LocalDateTime from, LocalDateTime to);
+
     boolean existsByUserIdAndReservationTimeAndStatusNot(Long userId, LocalDateTime reservationTime, ReservationStatus status);
 
     default Reservation getById(Long id) {
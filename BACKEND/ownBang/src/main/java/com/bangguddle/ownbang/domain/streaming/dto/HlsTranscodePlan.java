@@ -0,0 +1,99 @@
+package com.bangguddle.ownbang.domain.streaming.dto;
+
+import com.bangguddle.ownbang.domain.streaming.enums.TranscodeMode;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties.EncodeProfile;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
+import net.bramp.ffmpeg.probe.FFmpegStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FFprobe 결과를 보고 정한 렌디션별 변환 방식
+ *
+ * @param mode          전체 변환 방식
+ * @param renditions    만들 렌디션 (인코딩 프로필 순서)
+ * @param hasVideo      영상 트랙 존재 여부
+ * @param hasAudio      오디오 트랙 존재 여부
+ * @param ladderSize    설정된 렌디션 수 = 모두 재인코딩했을 때의 영상 인코딩 수
+ */
+public record HlsTranscodePlan(
+        TranscodeMode mode,
+        List<Rendition> renditions,
+        boolean hasVideo,
+        boolean hasAudio,
+        int ladderSize
+) {
+
+    // 프로필이 없을 때 만드는 원본 화질 렌디션
+    public static final EncodeProfile SOURCE_PROFILE = new EncodeProfile("source", null, 23, null, null, "128k");
+
+    private static final Set<String> COPY_VIDEO_CODECS = Set.of("h264");
+    private static final Set<String> COPY_PIX_FMTS = Set.of("yuv420p", "yuvj420p");
+    private static final Set<String> COPY_AUDIO_CODECS = Set.of("aac");
+
+    /**
+     * @param profile   인코딩 프로필
+     * @param copyVideo true면 원본 영상 스트림을 그대로 세그먼트로 자름
+     * @param copyAudio true면 원본 오디오 스트림을 그대로 사용
+     */
+    public record Rendition(EncodeProfile profile, boolean copyVideo, boolean copyAudio) {
+    }
+
+    /**
+     * 가장 적은 비용의 변환 방식을 고릅니다.<br/>
+     * 원본 해상도 이상인 프로필은 원본 렌디션 하나로 합치고, 원본 렌디션은 코덱이 HLS에 맞으면 복사합니다.
+     *
+     * @param probe          FFprobe 결과, null이면 모두 재인코딩
+     * @param profiles       설정된 인코딩 프로필, 비어 있으면 원본 화질 하나
+     * @param copyMaxHeight  복사를 허용할 최대 세로 해상도
+     */
+    public static HlsTranscodePlan of(FFmpegProbeResult probe, List<EncodeProfile> profiles, int copyMaxHeight) {
+        if (profiles.isEmpty()) profiles = List.of(SOURCE_PROFILE);
+
+        FFmpegStream video = findStream(probe, "VIDEO");
+        FFmpegStream audio = findStream(probe, "AUDIO");
+        int sourceHeight = video != null ? video.height : 0;
+        boolean videoCompatible = video != null
+                && COPY_VIDEO_CODECS.contains(video.codec_name)
+                && COPY_PIX_FMTS.contains(video.pix_fmt)
+                && sourceHeight > 0 && sourceHeight <= copyMaxHeight;
+        boolean audioCompatible = audio != null && COPY_AUDIO_CODECS.contains(audio.codec_name);
+
+        boolean hasSourceProfile = profiles.stream().anyMatch(profile -> profile.height() == null);
+        boolean sourceCovered = false;
+        List<Rendition> renditions = new ArrayList<>();
+        for (EncodeProfile profile : profiles) {
+            boolean isSource = profile.height() == null || (sourceHeight > 0 && profile.height() >= sourceHeight);
+            if (isSource) {
+                // 원본 이상 해상도는 모두 같은 결과이므로 한 번만 만든다.
+                if (sourceCovered || (profile.height() != null && hasSourceProfile)) continue;
+                sourceCovered = true;
+            }
+            renditions.add(new Rendition(profile, isSource && videoCompatible, audioCompatible));
+        }
+
+        return new HlsTranscodePlan(decideMode(renditions, audio != null), renditions,
+                probe == null || video != null, probe == null || audio != null, profiles.size());
+    }
+
+    // 영상 인코딩 횟수
+    public long videoEncodes() {
+        return renditions.stream().filter(rendition -> !rendition.copyVideo()).count();
+    }
+
+    private static TranscodeMode decideMode(List<Rendition> renditions, boolean hasAudio) {
+        if (renditions.stream().anyMatch(rendition -> !rendition.copyVideo())) return TranscodeMode.ENCODE;
+        if (hasAudio && renditions.stream().anyMatch(rendition -> !rendition.copyAudio())) return TranscodeMode.AUDIO_TRANSCODE;
+        return TranscodeMode.REMUX;
+    }
+
+    private static FFmpegStream findStream(FFmpegProbeResult probe, String codecType) {
+        if (probe == null || probe.getStreams() == null) return null;
+        return probe.getStreams().stream()
+                .filter(stream -> stream.codec_type != null && codecType.equals(stream.codec_type.name()))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bangguddle.ownbang.domain.streaming.dto;
+
+import lombok.Builder;
+
+/**
+ * HLS 변환 진행 상황
+ *
+ * @param percent          진행률(%), 영상 길이를 모르면 null
+ * @param processedSeconds 변환된 영상 길이(초)
+ * @param durationSeconds  전체 영상 길이(초), 모르면 null
+ * @param speed            재생 속도 대비 변환 속도 (ex. 2.5 -> 2.5배속)
+ * @param etaSeconds       남은 예상 시간(초), 계산할 수 없으면 null
+ */
+@Builder
+public record StreamingProgress(
+        Double percent,
+        Double processedSeconds,
+        Double durationSeconds,
+        Float speed,
+        Long etaSeconds
+) {
+
+    static public StreamingProgress of(long durationMillis, long processedMillis, float speed) {
+        processedMillis = Math.max(processedMillis, 0);
+        boolean hasDuration = durationMillis > 0;
+
+        Double percent = hasDuration
+                ? Math.min(100.0, Math.round(processedMillis * 1000.0 / durationMillis) / 10.0)
+                : null;
+        Long etaSeconds = hasDuration && speed > 0
+                ? (long) Math.ceil(Math.max(durationMillis - processedMillis, 0) / 1000.0 / speed)
+                : null;
+
+        return StreamingProgress.builder()
+                .percent(percent)
+                .processedSeconds(processedMillis / 1000.0)
+                .durationSeconds(hasDuration ? durationMillis / 1000.0 : null)
+                .speed(speed)
+                .etaSeconds(etaSeconds)
+                .build();
+    }
+}
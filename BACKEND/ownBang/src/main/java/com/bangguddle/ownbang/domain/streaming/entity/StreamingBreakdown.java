@@ -0,0 +1,71 @@
+package com.bangguddle.ownbang.domain.streaming.entity;
+
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 녹화 처리 작업의 단계별 소요 시간과 처리량 (마지막으로 성공한 수행 기준)<br/>
+ * 처리가 느린 영상이 대기, 압축 해제, 변환, 업로드 중 어디서 느려졌는지 확인할 때 사용한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StreamingBreakdown {
+
+    // 작업이 저장된 뒤 수행이 시작되기까지 기다린 시간
+    private Long queueWaitMillis;
+
+    private Long extractMillis;
+
+    // 압축 해제한 녹화 파일 크기
+    private Long extractBytes;
+
+    private Long transcodeMillis;
+
+    // 변환한 영상 길이
+    private Long mediaMillis;
+
+    private Long uploadMillis;
+
+    // 업로드한 HLS 결과물 크기 (변환 중 먼저 올린 파일 포함)
+    private Long uploadBytes;
+
+    private Long finalizeMillis;
+
+    private Long deleteRecordingMillis;
+
+    public static StreamingBreakdown empty() {
+        return new StreamingBreakdown();
+    }
+
+    public void recordQueueWait(long millis) {
+        this.queueWaitMillis = millis;
+    }
+
+    public void recordStage(StreamingStage stage, long millis) {
+        switch (stage) {
+            case EXTRACT -> this.extractMillis = millis;
+            case TRANSCODE -> this.transcodeMillis = millis;
+            case UPLOAD -> this.uploadMillis = millis;
+            case FINALIZE -> this.finalizeMillis = millis;
+            case DELETE_RECORDING -> this.deleteRecordingMillis = millis;
+            case DONE -> {
+            }
+        }
+    }
+
+    public void updateExtractBytes(long bytes) {
+        this.extractBytes = bytes;
+    }
+
+    public void updateMediaMillis(long millis) {
+        this.mediaMillis = millis;
+    }
+
+    public void updateUploadBytes(long bytes) {
+        this.uploadBytes = bytes;
+    }
+}
@@ -0,0 +1,140 @@
+package com.bangguddle.ownbang.domain.streaming.entity;
+
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.enums.TranscodeMode;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "streaming_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StreamingJob {
+
+    @Id
+    @Column(name = "streaming_job_id", nullable = false, columnDefinition = "INT UNSIGNED")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne
+    @JoinColumn(name = "video_id", nullable = false, unique = true)
+    private Video video;
+
+    // Openvidu Session Id = 녹화 ID = 녹화 폴더명
+    @Column(nullable = false)
+    private String sessionId;
+
+    // 다음에 수행할 단계
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StreamingStage stage;
+
+    // 압축 해제한 중개인 녹화 파일명
+    private String recordFileName;
+
+    private String playlistUrl;
+
+    // 업로드된 포스터, WebVTT 썸네일 트랙 url
+    private String posterUrl;
+
+    private String thumbnailUrl;
+
+    @Enumerated(EnumType.STRING)
+    private TranscodeMode transcodeMode;
+
+    // 실패 횟수 - 재시작 시 복구 대상에서 제외할지 판단
+    @Column(nullable = false)
+    private int failCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embedded
+    private StreamingBreakdown breakdown;
+
+    // 작업을 점유한 노드와 점유 만료 시각 - 엔티티 저장으로 덮어쓰지 않도록 StreamingJobRepository의 쿼리로만 변경한다.
+    @Column(insertable = false, updatable = false)
+    private String leaseOwner;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime leaseExpiresAt;
+
+    // 인코딩 진행 상황 - 변환 중인 노드가 주기적으로 기록하고, 어느 노드에서든 조회한다. (StreamingJobRepository의 쿼리로만 변경)
+    @Column(insertable = false, updatable = false)
+    private Long progressDurationMillis;
+
+    @Column(insertable = false, updatable = false)
+    private Long progressProcessedMillis;
+
+    @Column(insertable = false, updatable = false)
+    private Float progressSpeed;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime progressUpdatedAt;
+
+    @Builder
+    public StreamingJob(Video video, String sessionId) {
+        this.video = video;
+        this.sessionId = sessionId;
+        this.stage = StreamingStage.EXTRACT;
+        this.failCount = 0;
+        this.breakdown = StreamingBreakdown.empty();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 측정 값이 모두 비어 있으면 JPA가 null로 읽는다.
+    public StreamingBreakdown getBreakdown() {
+        if (breakdown == null) breakdown = StreamingBreakdown.empty();
+        return breakdown;
+    }
+
+    public boolean hasProgress() {
+        return progressUpdatedAt != null;
+    }
+
+    public boolean isDone() {
+        return stage == StreamingStage.DONE;
+    }
+
+    // 현재 단계 완료 -> 다음 단계로
+    public void complete() {
+        this.stage = stage.next();
+    }
+
+    public void fail() {
+        this.failCount++;
+    }
+
+    // 사용자가 직접 재시도 -> 자동 재시도 횟수를 다시 센다.
+    public void resetFailCount() {
+        this.failCount = 0;
+    }
+
+    public void updateRecordFileName(String recordFileName) {
+        this.recordFileName = recordFileName;
+    }
+
+    public void updatePlaylistUrl(String playlistUrl) {
+        this.playlistUrl = playlistUrl;
+    }
+
+    public void updateThumbnailUrls(String posterUrl, String thumbnailUrl) {
+        this.posterUrl = posterUrl;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public void updateTranscodeMode(TranscodeMode transcodeMode) {
+        this.transcodeMode = transcodeMode;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bangguddle.ownbang.domain.streaming.enums;
+
+/**
+ * 녹화영상 처리 단계 (선언 순서대로 수행)<br/>
+ * 각 단계는 다시 수행해도 결과가 같도록 작성되어, 중단된 작업은 마지막으로 완료된 다음 단계부터 이어서 수행한다.
+ */
+public enum StreamingStage {
+    EXTRACT,          // zip에서 중개인 녹화 파일 압축 해제
+    TRANSCODE,        // HLS 변환
+    UPLOAD,           // 스토리지에 없는 HLS 결과물 업로드
+    FINALIZE,         // 영상 상태 RECORDED로 변경
+    DELETE_RECORDING, // Openvidu 녹화 파일 삭제
+    DONE;
+
+    public StreamingStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
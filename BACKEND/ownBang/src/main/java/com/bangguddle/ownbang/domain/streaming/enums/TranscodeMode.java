@@ -0,0 +1,7 @@
+package com.bangguddle.ownbang.domain.streaming.enums;
+
+public enum TranscodeMode {
+    REMUX,           // 영상, 오디오 모두 복사
+    AUDIO_TRANSCODE, // 영상은 복사, 오디오만 변환
+    ENCODE           // 영상 재인코딩 (일부 렌디션만 복사하는 경우 포함)
+}
@@ -0,0 +1,67 @@
+package com.bangguddle.ownbang.domain.streaming.repository;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StreamingJobRepository extends JpaRepository<StreamingJob, Long> {
+    Optional<StreamingJob> findByVideoId(Long videoId);
+
+    List<StreamingJob> findAllByStageNotAndFailCountLessThan(StreamingStage stage, int failCount);
+
+    // 점유되지 않은 가장 오래된 작업 하나를 잠근다. 다른 노드가 잠근 행은 기다리지 않고 건너뛴다.
+    @Query(value = "SELECT * FROM streaming_job"
+            + " WHERE stage <> 'DONE' AND fail_count < :maxFailCount"
+            + " AND (lease_expires_at IS NULL OR lease_expires_at < :now)"
+            + " ORDER BY updated_at"
+            + " LIMIT 1"
+            + " FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<StreamingJob> findClaimableForUpdate(@Param("maxFailCount") int maxFailCount,
+                                                  @Param("now") LocalDateTime now);
+
+    // 인코딩 진행 상황 기록, 모두 null이면 기록 제거
+    // ffmpeg 진행 이벤트 스레드에서 호출되므로 각 기록이 자신의 트랜잭션으로 끝난다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE StreamingJob j SET j.progressDurationMillis = :durationMillis, j.progressProcessedMillis = :processedMillis,"
+            + " j.progressSpeed = :speed, j.progressUpdatedAt = :updatedAt WHERE j.video.id = :videoId")
+    int updateProgress(@Param("videoId") Long videoId, @Param("durationMillis") Long durationMillis,
+                       @Param("processedMillis") Long processedMillis, @Param("speed") Float speed,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 비어 있거나, 만료되었거나, 이미 내가 점유한 작업만 점유한다.
+    @Modifying
+    @Query("UPDATE StreamingJob j SET j.leaseOwner = :owner, j.leaseExpiresAt = :expiresAt"
+            + " WHERE j.id = :id AND (j.leaseOwner IS NULL OR j.leaseOwner = :owner OR j.leaseExpiresAt < :now)")
+    int acquireLease(@Param("id") Long id, @Param("owner") String owner,
+                     @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StreamingJob j SET j.leaseExpiresAt = :expiresAt WHERE j.id IN :ids AND j.leaseOwner = :owner")
+    int renewLeases(@Param("ids") List<Long> ids, @Param("owner") String owner,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 만료되지 않은 내 점유만 연장한다. 0이면 점유를 잃은 것이다.
+    @Modifying
+    @Query("UPDATE StreamingJob j SET j.leaseExpiresAt = :expiresAt"
+            + " WHERE j.id = :id AND j.leaseOwner = :owner AND j.leaseExpiresAt >= :now")
+    int extendLease(@Param("id") Long id, @Param("owner") String owner,
+                    @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM StreamingJob j WHERE j.id IN :ids AND j.leaseOwner = :owner")
+    List<Long> findLeasedIds(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Query("UPDATE StreamingJob j SET j.leaseOwner = NULL, j.leaseExpiresAt = NULL WHERE j.id = :id AND j.leaseOwner = :owner")
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+}
@@ -0,0 +1,16 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+public interface HlsPublishService {
+
+    // 인코딩 시작 전 호출 -> 닫힌 세그먼트가 생길 때마다 업로드하고, 첫 공개 시 플레이리스트 url을 넘겨준다.
+    void open(String sessionId, Path hlsPath, String playlistName, Consumer<String> onFirstPublish);
+
+    // 인코딩 완료 후 호출 -> 플레이리스트를 VOD로 확정하고 남은 파일을 업로드한 뒤 플레이리스트 url을 반환
+    String close(String sessionId);
+
+    // 인코딩 실패 시 호출 -> 업로드를 중단
+    void cancel(String sessionId);
+}
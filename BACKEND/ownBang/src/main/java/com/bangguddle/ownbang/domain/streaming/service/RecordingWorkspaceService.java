@@ -0,0 +1,30 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+
+import java.nio.file.Path;
+
+public interface RecordingWorkspaceService {
+
+    // 녹화 폴더 (Openvidu zip, 압축 해제한 파일)
+    Path getSessionPath(String sessionId);
+
+    // HLS 변환 결과 폴더
+    Path getHlsPath(String sessionId);
+
+    // 디스크를 늘리는 단계 시작 전 호출 -> 사용량이 상한 이상이면 여유가 생길 때까지 대기
+    void awaitCapacity(String sessionId);
+
+    // 단계 완료가 저장된 후 호출 -> 더 이상 필요 없는 중간 파일 삭제 후 사용량 재측정
+    void cleanup(String sessionId, StreamingStage completedStage, String recordFileName);
+
+    long getSessionBytes(String sessionId);
+
+    // 압축 해제한 녹화 파일 크기
+    long getRecordFileBytes(String sessionId, String recordFileName);
+
+    // HLS 변환 결과 폴더 크기
+    long getHlsBytes(String sessionId);
+
+    long getUsedBytes();
+}
@@ -0,0 +1,24 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import java.util.Optional;
+
+public interface StreamingJobLeaseService {
+
+    // 아무 노드도 점유하지 않은 작업 하나를 점유하고 ID 반환
+    Optional<Long> claimNext();
+
+    // 특정 작업 점유 시도 -> 다른 노드가 점유 중이면 false
+    boolean claim(Long streamingJobId);
+
+    // 작업 종료(성공/실패) 후 호출 -> 다른 노드가 가져갈 수 있도록 점유 해제
+    void release(Long streamingJobId);
+
+    // 아직 이 노드가 점유 중이면 만료 시각을 연장하고 true, 점유를 잃었으면 false
+    // -> 단계 시작과 저장 전에 확인하여, 다른 노드가 가져간 작업을 덮어쓰지 않는다.
+    boolean holdsLease(Long streamingJobId);
+
+    // 이 노드가 점유 중인 작업의 만료 시각 연장, 점유를 잃은 작업은 더 이상 점유 중으로 보지 않는다.
+    void renewLeases();
+
+    String getOwner();
+}
@@ -0,0 +1,13 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+
+public interface StreamingMetricsService {
+
+    // 저장된 작업이 수행되기 시작할 때까지 기다린 시간
+    void recordQueueWait(long millis);
+
+    // 단계 수행 시간, 성공한 단계는 작업에 기록된 처리량까지 기록
+    void recordStage(StreamingJob job, StreamingStage stage, boolean success, long elapsedMillis);
+}
@@ -0,0 +1,20 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+
+import java.util.Optional;
+
+public interface StreamingProgressService {
+
+    // 인코딩 시작 시 호출 -> 영상 길이를 기준으로 진행률을 계산한다. (길이를 모르면 0)
+    void start(Long videoId, long durationMillis);
+
+    // ffmpeg 진행 이벤트마다 호출 -> 일정 주기로만 기록
+    void update(Long videoId, long processedMillis, float speed);
+
+    // 인코딩 종료(성공/실패) 시 호출 -> 기록 제거
+    void finish(Long videoId);
+
+    // 인코딩 중인 영상의 마지막 기록 조회
+    Optional<StreamingProgress> getProgress(Long videoId);
+}
@@ -0,0 +1,7 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+public interface StreamingRecoveryService {
+
+    // 서버 시작 시 호출 -> 끝나지 않은 녹화영상 처리 작업을 이어서 수행하고, 재개한 작업 수를 반환
+    int recover();
+}
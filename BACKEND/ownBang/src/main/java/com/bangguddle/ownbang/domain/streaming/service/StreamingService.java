@@ -9,4 +9,10 @@ public interface StreamingService {
 
     // zip파일 위치, 중개인 토큰명, reservationId 받아 압축 해제, hls 변환, s3 업로드 하고, 완료 후 m3u8의 uri를 return하는 부분
     void uploadStreaming(Long reservationId, String sessionId);
+
+    // 서버 재시작 등으로 중단된 작업을 마지막으로 완료된 다음 단계부터 이어서 수행
+    void resumeStreaming(Long streamingJobId);
+
+    // resumeStreaming과 같으나 호출한 스레드에서 수행 (worker 전용)
+    void processStreamingJob(Long streamingJobId);
 }
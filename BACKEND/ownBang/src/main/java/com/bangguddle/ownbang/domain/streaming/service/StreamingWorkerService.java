@@ -0,0 +1,7 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+public interface StreamingWorkerService {
+
+    // 남은 처리 슬롯만큼 작업을 점유하여 수행 시작, 시작한 작업 수 반환
+    int poll();
+}
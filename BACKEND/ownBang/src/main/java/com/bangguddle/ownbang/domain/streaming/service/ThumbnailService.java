@@ -0,0 +1,25 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+
+import java.nio.file.Path;
+
+public interface ThumbnailService {
+
+    boolean isEnabled();
+
+    // HLS 변환과 같은 디코딩에서 [0:v]를 받아 포스터와 스프라이트 시트를 만드는 filter_complex 체인
+    String getFilter(long durationMillis);
+
+    // 필터 결과를 hlsPath/thumbnails 폴더의 jpg로 쓰는 출력 추가
+    void addOutputs(FFmpegBuilder builder, Path hlsPath);
+
+    // 변환 완료 후 호출 -> 스프라이트 시트의 타일 좌표를 가리키는 WebVTT 썸네일 트랙 작성
+    void writeTrack(Path hlsPath, long durationMillis);
+
+    // hlsPath 기준 포스터 상대 경로, 파일이 없으면 null
+    String getPosterPath(Path hlsPath);
+
+    // hlsPath 기준 썸네일 트랙 상대 경로, 파일이 없으면 null
+    String getTrackPath(Path hlsPath);
+}
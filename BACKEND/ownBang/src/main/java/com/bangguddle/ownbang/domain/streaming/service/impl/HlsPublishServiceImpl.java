@@ -0,0 +1,219 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.service.HlsPublishService;
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.S3UploaderService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.BAD_REQUEST;
+import static com.bangguddle.ownbang.global.enums.ErrorCode.HLS_CONVERTING_ERROR;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HlsPublishServiceImpl implements HlsPublishService {
+
+    private static final String m3u8Extend = ".m3u8";
+    private static final String tmpExtend = ".tmp";
+    private static final String EVENT_PLAYLIST_TYPE = "#EXT-X-PLAYLIST-TYPE:EVENT";
+    private static final String VOD_PLAYLIST_TYPE = "#EXT-X-PLAYLIST-TYPE:VOD";
+    private static final String END_LIST_TAG = "#EXT-X-ENDLIST";
+    private static final String STREAM_INF_TAG = "#EXT-X-STREAM-INF";
+
+    private final S3UploaderService s3UploaderService;
+    private final ScheduledExecutorService publishScheduler = Executors.newScheduledThreadPool(2);
+    private final Map<String, Publication> mapPublications = new ConcurrentHashMap<>();
+
+    @Value("${video.hls.publish-interval-millis:1000}")
+    private long publishIntervalMillis;
+
+    /**
+     * sessionId의 HLS 폴더를 주기적으로 확인하여, ffmpeg가 플레이리스트에 기록한(= 닫힌) 세그먼트부터 업로드합니다.<br/>
+     * 세그먼트를 먼저 올린 뒤 플레이리스트를 올리므로, 공개된 플레이리스트가 아직 없는 세그먼트를 가리키지 않습니다.
+     *
+     * @param sessionId
+     * @param hlsPath        ffmpeg가 HLS 결과물을 쓰는 폴더
+     * @param playlistName   사용자에게 공개할 플레이리스트 파일명
+     * @param onFirstPublish 플레이리스트가 처음 업로드되었을 때 url을 받아 호출
+     */
+    @Override
+    public void open(String sessionId, Path hlsPath, String playlistName, Consumer<String> onFirstPublish) {
+        Publication publication = new Publication(hlsPath, hlsPath.resolve(playlistName), onFirstPublish);
+        if (mapPublications.putIfAbsent(sessionId, publication) != null) throw new AppException(BAD_REQUEST);
+
+        publication.task = publishScheduler.scheduleWithFixedDelay(
+                () -> publishQuietly(sessionId, publication),
+                publishIntervalMillis, publishIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 인코딩이 끝난 HLS 결과물을 VOD 플레이리스트로 확정하고, 아직 올라가지 않은 파일을 모두 업로드합니다.
+     *
+     * @param sessionId
+     * @return 공개된 플레이리스트의 url
+     */
+    @Override
+    public String close(String sessionId) {
+        Publication publication = mapPublications.remove(sessionId);
+        if (publication == null) throw new AppException(BAD_REQUEST);
+        publication.task.cancel(false);
+
+        try {
+            synchronized (publication) {
+                finalizeToVod(publication.hlsPath);
+                publish(sessionId, publication);
+            }
+        } catch (IOException e) {
+            throw new AppException(HLS_CONVERTING_ERROR);
+        }
+        return getPlaylistUrl(sessionId, publication);
+    }
+
+    @Override
+    public void cancel(String sessionId) {
+        Publication publication = mapPublications.remove(sessionId);
+        if (publication != null) publication.task.cancel(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publishScheduler.shutdownNow();
+    }
+
+    private void publishQuietly(String sessionId, Publication publication) {
+        try {
+            synchronized (publication) {
+                publish(sessionId, publication);
+            }
+        } catch (Exception e) {
+            // 다음 주기 또는 close에서 다시 시도한다.
+            log.warn("HLS publish failed sessionId:{} - {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 내용이 바뀐 플레이리스트마다 새로 닫힌 세그먼트를 올리고 플레이리스트를 갱신합니다.<br/>
+     * 미디어 플레이리스트를 먼저, 마스터 플레이리스트를 마지막에 올립니다.
+     */
+    private void publish(String sessionId, Publication publication) throws IOException {
+        for (Path playlist : findPlaylists(publication.hlsPath)) {
+            String content = Files.readString(playlist);
+            if (content.equals(publication.mapPublishedPlaylists.get(playlist))) continue;
+
+            List<String> entries = readEntries(content);
+            // 마스터 플레이리스트는 가리키는 렌디션 플레이리스트가 모두 올라간 뒤에 공개한다.
+            if (!isVariantsPublished(publication, playlist, entries)) continue;
+
+            for (String entry : entries) {
+                if (entry.endsWith(m3u8Extend)) continue;
+                Path segment = playlist.resolveSibling(entry);
+                if (publication.uploadedSegments.add(segment)) {
+                    s3UploaderService.uploadHlsFile(publication.hlsPath, segment, sessionId);
+                }
+            }
+            s3UploaderService.uploadHlsFile(publication.hlsPath, playlist, sessionId);
+            publication.mapPublishedPlaylists.put(playlist, content);
+        }
+
+        if (!publication.announced && publication.mapPublishedPlaylists.containsKey(publication.playlist)) {
+            announce(sessionId, publication);
+        }
+    }
+
+    /**
+     * 공개된 플레이리스트 url을 알립니다.<br/>
+     * 알림이 성공한 뒤에만 완료로 표시하므로, 실패하면 다음 주기 또는 close에서 다시 알립니다.
+     */
+    private void announce(String sessionId, Publication publication) {
+        try {
+            publication.onFirstPublish.accept(getPlaylistUrl(sessionId, publication));
+            publication.announced = true;
+        } catch (RuntimeException e) {
+            log.warn("HLS playlist announce failed sessionId:{} - {}", sessionId, e.getMessage());
+        }
+    }
+
+    private boolean isVariantsPublished(Publication publication, Path playlist, List<String> entries) {
+        return entries.stream()
+                .filter(entry -> entry.endsWith(m3u8Extend))
+                .allMatch(entry -> publication.mapPublishedPlaylists.containsKey(playlist.resolveSibling(entry)));
+    }
+
+    /**
+     * ffmpeg가 남긴 EVENT 플레이리스트를 VOD 플레이리스트로 바꿉니다.
+     */
+    private void finalizeToVod(Path hlsPath) throws IOException {
+        for (Path playlist : findPlaylists(hlsPath)) {
+            String content = Files.readString(playlist);
+            if (!content.contains(EVENT_PLAYLIST_TYPE)) continue;
+
+            String vod = content.replace(EVENT_PLAYLIST_TYPE, VOD_PLAYLIST_TYPE);
+            if (!vod.contains(END_LIST_TAG)) vod = vod.stripTrailing() + System.lineSeparator() + END_LIST_TAG + System.lineSeparator();
+
+            // 업로드 중인 플레이리스트가 반쯤 쓰인 상태로 읽히지 않도록 임시 파일을 옮겨 교체한다.
+            Path tmp = playlist.resolveSibling(playlist.getFileName() + tmpExtend);
+            Files.writeString(tmp, vod);
+            Files.move(tmp, playlist, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private List<Path> findPlaylists(Path hlsPath) throws IOException {
+        if (!Files.exists(hlsPath)) return List.of();
+        try (Stream<Path> paths = Files.walk(hlsPath)) {
+            List<Path> playlists = new ArrayList<>(paths
+                    .filter(path -> path.getFileName().toString().endsWith(m3u8Extend))
+                    .toList());
+            playlists.sort(Comparator.comparing(this::isMasterPlaylist));
+            return playlists;
+        }
+    }
+
+    private boolean isMasterPlaylist(Path playlist) {
+        try {
+            return Files.readString(playlist).contains(STREAM_INF_TAG);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private List<String> readEntries(String content) {
+        return content.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+
+    private String getPlaylistUrl(String sessionId, Publication publication) {
+        String relativePath = publication.hlsPath.relativize(publication.playlist).toString().replace('\\', '/');
+        return s3UploaderService.getHlsUrl(sessionId) + "/" + relativePath;
+    }
+
+    private static class Publication {
+        private final Path hlsPath;
+        private final Path playlist;
+        private final Consumer<String> onFirstPublish;
+        private final Set<Path> uploadedSegments = new HashSet<>();
+        private final Map<Path, String> mapPublishedPlaylists = new HashMap<>();
+        private boolean announced;
+        private ScheduledFuture<?> task;
+
+        private Publication(Path hlsPath, Path playlist, Consumer<String> onFirstPublish) {
+            this.hlsPath = hlsPath;
+            this.playlist = playlist;
+            this.onFirstPublish = onFirstPublish;
+        }
+    }
+}
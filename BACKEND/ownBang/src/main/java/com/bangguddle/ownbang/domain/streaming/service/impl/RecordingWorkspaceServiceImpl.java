@@ -0,0 +1,245 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.service.RecordingWorkspaceService;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.RECORDING_WORKSPACE_FULL;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordingWorkspaceServiceImpl implements RecordingWorkspaceService {
+
+    private static final String jsonExtend = ".json";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> mapSessionBytes = new ConcurrentHashMap<>();
+    private final AtomicInteger waitingJobs = new AtomicInteger();
+
+    @Value("${video.recordings.path}")
+    private String recordingPath;
+
+    // 디스크 사용률이 이 값 이상이면 새 작업을 멈춘다.
+    @Value("${video.workspace.high-water-ratio:0.9}")
+    private double highWaterRatio;
+
+    // 작업 공간 전체 용량 상한(byte), 0이면 디스크 사용률만 본다.
+    @Value("${video.workspace.max-bytes:0}")
+    private long maxBytes;
+
+    @Value("${video.workspace.wait-timeout-millis:600000}")
+    private long waitTimeoutMillis;
+
+    @Value("${video.workspace.poll-interval-millis:5000}")
+    private long pollIntervalMillis;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("recording.workspace.used", this, RecordingWorkspaceService::getUsedBytes)
+                .description("녹화 작업 공간에서 세션들이 차지하는 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("recording.workspace.disk.usable", this, service -> service.getUsableDiskBytes())
+                .description("녹화 작업 공간 디스크의 남은 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("recording.workspace.disk.usage", this, service -> service.getDiskUsageRatio())
+                .description("녹화 작업 공간 디스크 사용률")
+                .register(meterRegistry);
+        Gauge.builder("recording.workspace.sessions", mapSessionBytes, Map::size)
+                .description("작업 공간에 남아 있는 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("recording.workspace.waiting.jobs", waitingJobs, AtomicInteger::get)
+                .description("용량 부족으로 대기 중인 작업 수")
+                .register(meterRegistry);
+
+        // 재시작 전부터 남아 있던 세션 폴더도 사용량에 포함한다.
+        Path root = Paths.get(recordingPath);
+        if (!Files.isDirectory(root)) return;
+        try (Stream<Path> sessions = Files.list(root)) {
+            sessions.filter(Files::isDirectory)
+                    .forEach(session -> measure(session.getFileName().toString()));
+        } catch (IOException e) {
+            log.warn("Recording workspace scan failed - {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Path getSessionPath(String sessionId) {
+        return Paths.get(recordingPath, sessionId);
+    }
+
+    @Override
+    public Path getHlsPath(String sessionId) {
+        return Paths.get(recordingPath, sessionId, sessionId);
+    }
+
+    /**
+     * 디스크 사용률이 high-water-ratio 미만이 될 때까지 기다립니다.<br/>
+     * 다른 작업의 정리로 공간이 생기면 이어서 진행하고, wait-timeout-millis가 지나면 실패합니다.
+     *
+     * @param sessionId
+     */
+    @Override
+    public void awaitCapacity(String sessionId) {
+        if (hasCapacity()) return;
+
+        waitingJobs.incrementAndGet();
+        log.warn("Recording workspace is full, waiting sessionId:{} usage:{} used:{}bytes",
+                sessionId, getDiskUsageRatio(), getUsedBytes());
+        try {
+            long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+            while (!hasCapacity()) {
+                if (System.currentTimeMillis() >= deadline) throw new AppException(RECORDING_WORKSPACE_FULL);
+                Thread.sleep(pollIntervalMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(RECORDING_WORKSPACE_FULL);
+        } finally {
+            waitingJobs.decrementAndGet();
+        }
+    }
+
+    /**
+     * 완료된 단계 이후로 필요 없는 파일을 지웁니다.
+     * <pre>
+     * TRANSCODE        압축 해제한 녹화 파일, json
+     * UPLOAD           HLS 변환 결과 폴더
+     * DELETE_RECORDING 세션 폴더 전체 (Openvidu가 지우지 못한 나머지)
+     * </pre>
+     *
+     * @param sessionId
+     * @param completedStage 완료가 저장된 단계
+     * @param recordFileName 압축 해제한 녹화 파일명
+     */
+    @Override
+    public void cleanup(String sessionId, StreamingStage completedStage, String recordFileName) {
+        Path sessionPath = getSessionPath(sessionId);
+        switch (completedStage) {
+            case TRANSCODE -> {
+                if (recordFileName != null) delete(sessionPath.resolve(recordFileName));
+                delete(sessionPath.resolve(sessionId + jsonExtend));
+            }
+            case UPLOAD -> delete(getHlsPath(sessionId));
+            case DELETE_RECORDING -> delete(sessionPath);
+            default -> {
+            }
+        }
+        measure(sessionId);
+    }
+
+    @Override
+    public long getSessionBytes(String sessionId) {
+        return mapSessionBytes.getOrDefault(sessionId, 0L);
+    }
+
+    @Override
+    public long getRecordFileBytes(String sessionId, String recordFileName) {
+        if (recordFileName == null) return 0;
+        return sizeOf(getSessionPath(sessionId).resolve(recordFileName));
+    }
+
+    @Override
+    public long getHlsBytes(String sessionId) {
+        Path hlsPath = getHlsPath(sessionId);
+        if (!Files.exists(hlsPath)) return 0;
+        try (Stream<Path> paths = Files.walk(hlsPath)) {
+            return paths.filter(Files::isRegularFile).mapToLong(this::sizeOf).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public long getUsedBytes() {
+        return mapSessionBytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private boolean hasCapacity() {
+        if (maxBytes > 0 && getUsedBytes() >= maxBytes) return false;
+        return getDiskUsageRatio() < highWaterRatio;
+    }
+
+    private double getDiskUsageRatio() {
+        try {
+            FileStore store = Files.getFileStore(getExistingRoot());
+            if (store.getTotalSpace() <= 0) return 0;
+            return 1 - (double) store.getUsableSpace() / store.getTotalSpace();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private long getUsableDiskBytes() {
+        try {
+            return Files.getFileStore(getExistingRoot()).getUsableSpace();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // 녹화 폴더가 아직 없으면 가장 가까운 상위 폴더의 디스크를 본다.
+    private Path getExistingRoot() {
+        Path root = Paths.get(recordingPath).toAbsolutePath();
+        while (root != null && !Files.exists(root)) root = root.getParent();
+        return root != null ? root : Paths.get("").toAbsolutePath();
+    }
+
+    private void measure(String sessionId) {
+        Path sessionPath = getSessionPath(sessionId);
+        if (!Files.exists(sessionPath)) {
+            mapSessionBytes.remove(sessionId);
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(sessionPath)) {
+            mapSessionBytes.put(sessionId, paths.filter(Files::isRegularFile).mapToLong(this::sizeOf).sum());
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Recording workspace measure failed sessionId:{} - {}", sessionId, e.getMessage());
+        }
+    }
+
+    private long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0; // 측정 중 지워진 파일
+        }
+    }
+
+    private void delete(Path target) {
+        if (!Files.exists(target)) return;
+        try (Stream<Path> paths = Files.walk(target)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("FILE DELETE FAILED: {}", path);
+                }
+            });
+            log.info("FILE DELETE SUCCESS: {}", target);
+        } catch (IOException e) {
+            log.warn("FILE DELETE FAILED: {}", target);
+        }
+    }
+}
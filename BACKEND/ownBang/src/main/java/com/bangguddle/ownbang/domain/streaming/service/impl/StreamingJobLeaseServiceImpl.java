@@ -0,0 +1,128 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingJobLeaseService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 노드가 같은 녹화 폴더를 공유할 때 한 작업을 한 노드만 수행하도록 streaming_job 행을 점유(lease)합니다.<br/>
+ * 점유는 만료 시각을 가지므로, 노드가 죽으면 만료 후 다른 노드가 이어서 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingJobLeaseServiceImpl implements StreamingJobLeaseService {
+
+    private final StreamingJobRepository streamingJobRepository;
+    private final Set<Long> heldJobs = ConcurrentHashMap.newKeySet();
+
+    // 노드 식별자, 비어 있으면 호스트명으로 만든다.
+    @Value("${video.streaming.lease.owner:}")
+    private String owner;
+
+    // 갱신이 없으면 이 시간 후 다른 노드가 가져갈 수 있다.
+    @Value("${video.streaming.lease.duration-millis:120000}")
+    private long leaseDurationMillis;
+
+    @Value("${video.streaming.max-fail-count:3}")
+    private int maxFailCount;
+
+    @PostConstruct
+    public void init() {
+        if (owner == null || owner.isBlank()) owner = createOwner();
+        log.info("streaming job lease owner:{}", owner);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Long> jobId = streamingJobRepository.findClaimableForUpdate(maxFailCount, now)
+                .map(StreamingJob::getId)
+                // 행 잠금을 잡고 있으므로 다른 노드와 경합하지 않는다.
+                .filter(id -> streamingJobRepository.acquireLease(id, getOwner(), expiresAt(now), now) == 1);
+        jobId.ifPresent(heldJobs::add);
+        return jobId;
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(Long streamingJobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (streamingJobRepository.acquireLease(streamingJobId, getOwner(), expiresAt(now), now) != 1) return false;
+        heldJobs.add(streamingJobId);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void release(Long streamingJobId) {
+        heldJobs.remove(streamingJobId);
+        streamingJobRepository.releaseLease(streamingJobId, getOwner());
+    }
+
+    @Override
+    @Transactional
+    public boolean holdsLease(Long streamingJobId) {
+        if (!heldJobs.contains(streamingJobId)) return false;
+        LocalDateTime now = LocalDateTime.now();
+        if (streamingJobRepository.extendLease(streamingJobId, getOwner(), expiresAt(now), now) == 1) return true;
+        heldJobs.remove(streamingJobId);
+        log.warn("streaming job lease lost owner:{} streamingJobId:{}", getOwner(), streamingJobId);
+        return false;
+    }
+
+    // 만료 시간보다 짧은 주기로 갱신하여, 갱신이 몇 번 늦어져도 점유를 잃지 않게 한다.
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${video.streaming.lease.renew-interval-millis:30000}")
+    public void renewLeases() {
+        if (heldJobs.isEmpty()) return;
+        List<Long> ids = new ArrayList<>(heldJobs);
+        int renewed = streamingJobRepository.renewLeases(ids, getOwner(), expiresAt(LocalDateTime.now()));
+        if (renewed < ids.size()) {
+            // 다른 노드가 가져간 작업은 수행 중인 스레드가 다음 확인에서 멈추도록 점유 목록에서 뺀다.
+            Set<Long> leased = new HashSet<>(streamingJobRepository.findLeasedIds(ids, getOwner()));
+            ids.stream().filter(id -> !leased.contains(id)).forEach(heldJobs::remove);
+            log.warn("streaming job lease lost owner:{} held:{} renewed:{}", getOwner(), ids.size(), renewed);
+        }
+    }
+
+    @Override
+    public String getOwner() {
+        return owner;
+    }
+
+    private LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plusNanos(leaseDurationMillis * 1_000_000);
+    }
+
+    // 같은 호스트에서 재시작해도 이전 프로세스의 점유와 구분되도록 임의 값을 붙인다.
+    private String createOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
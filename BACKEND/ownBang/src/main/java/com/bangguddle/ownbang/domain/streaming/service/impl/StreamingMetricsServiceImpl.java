@@ -0,0 +1,91 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingBreakdown;
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingMetricsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 녹화 처리 단계별 소요 시간과 처리량을 히스토그램으로 기록합니다.
+ * <pre>
+ * streaming.queue.wait            작업 대기 시간
+ * streaming.stage.duration        단계 수행 시간 (stage, outcome)
+ * streaming.stage.bytes           단계에서 처리한 바이트 (stage)
+ * streaming.extract.throughput    압축 해제 bytes/s
+ * streaming.transcode.realtime    변환한 영상 길이 / 변환 시간 (mode)
+ * streaming.upload.throughput     업로드 bytes/s
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class StreamingMetricsServiceImpl implements StreamingMetricsService {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordQueueWait(long millis) {
+        Timer.builder("streaming.queue.wait")
+                .description("녹화 처리 작업이 저장된 뒤 수행되기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Math.max(millis, 0), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordStage(StreamingJob job, StreamingStage stage, boolean success, long elapsedMillis) {
+        String stageName = stage.name().toLowerCase(Locale.ROOT);
+        Timer.builder("streaming.stage.duration")
+                .description("녹화 처리 단계 수행 시간")
+                .tag("stage", stageName)
+                .tag("outcome", success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        // 실패한 단계의 측정 값은 이전 수행의 값일 수 있다.
+        if (!success || elapsedMillis <= 0) return;
+
+        StreamingBreakdown breakdown = job.getBreakdown();
+        switch (stage) {
+            case EXTRACT -> recordThroughput("streaming.extract.throughput", stageName, breakdown.getExtractBytes(), elapsedMillis);
+            case UPLOAD -> recordThroughput("streaming.upload.throughput", stageName, breakdown.getUploadBytes(), elapsedMillis);
+            case TRANSCODE -> {
+                if (breakdown.getMediaMillis() == null || breakdown.getMediaMillis() <= 0) return;
+                DistributionSummary.builder("streaming.transcode.realtime")
+                        .description("변환한 영상 길이 / 변환 시간 (1보다 크면 실시간보다 빠름)")
+                        .tag("mode", job.getTranscodeMode() != null ? job.getTranscodeMode().name() : "UNKNOWN")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record((double) breakdown.getMediaMillis() / elapsedMillis);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void recordThroughput(String name, String stageName, Long bytes, long elapsedMillis) {
+        if (bytes == null || bytes <= 0) return;
+        Counter.builder("streaming.stage.bytes")
+                .tag("stage", stageName)
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .increment(bytes);
+        DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(bytes * 1000.0 / elapsedMillis);
+    }
+}
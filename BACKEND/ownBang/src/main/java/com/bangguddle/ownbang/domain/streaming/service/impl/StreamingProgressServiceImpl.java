@@ -0,0 +1,93 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingProgressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인코딩 진행 상황을 streaming_job에 기록합니다.<br/>
+ * 변환은 worker 노드에서, 조회는 API 노드에서 일어나므로 메모리가 아닌 DB에서 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingProgressServiceImpl implements StreamingProgressService {
+
+    private final StreamingJobRepository streamingJobRepository;
+    // 이 노드에서 변환 중인 영상의 마지막 기록 시각 - 기록 주기 조절에만 사용
+    private final Map<Long, Job> mapJobs = new ConcurrentHashMap<>();
+
+    // ffmpeg는 초당 여러 번 진행 상황을 보내므로 이 주기보다 자주 기록하지 않는다.
+    @Value("${video.hls.progress-interval-millis:1000}")
+    private long progressIntervalMillis;
+
+    @Override
+    public void start(Long videoId, long durationMillis) {
+        mapJobs.put(videoId, new Job(durationMillis));
+        save(videoId, durationMillis, 0L, 0f, LocalDateTime.now());
+    }
+
+    /**
+     * 변환 진행 상황을 기록합니다.<br/>
+     * 마지막 기록 후 progressIntervalMillis가 지나지 않았으면 무시합니다.
+     *
+     * @param videoId
+     * @param processedMillis 변환된 영상 길이(ms)
+     * @param speed           재생 속도 대비 변환 속도
+     */
+    @Override
+    public void update(Long videoId, long processedMillis, float speed) {
+        Job job = mapJobs.get(videoId);
+        if (job == null) return;
+
+        long now = System.currentTimeMillis();
+        if (job.recordedAt > 0 && now - job.recordedAt < progressIntervalMillis) return;
+
+        job.recordedAt = now;
+        save(videoId, job.durationMillis, Math.max(processedMillis, 0), speed, LocalDateTime.now());
+    }
+
+    @Override
+    public void finish(Long videoId) {
+        mapJobs.remove(videoId);
+        save(videoId, null, null, null, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StreamingProgress> getProgress(Long videoId) {
+        return streamingJobRepository.findByVideoId(videoId)
+                .filter(StreamingJob::hasProgress)
+                .map(job -> StreamingProgress.of(job.getProgressDurationMillis(),
+                        job.getProgressProcessedMillis(), job.getProgressSpeed()));
+    }
+
+    // 진행 상황 기록 실패로 변환을 중단하지 않는다.
+    private void save(Long videoId, Long durationMillis, Long processedMillis, Float speed, LocalDateTime updatedAt) {
+        try {
+            streamingJobRepository.updateProgress(videoId, durationMillis, processedMillis, speed, updatedAt);
+        } catch (RuntimeException e) {
+            log.warn("streaming progress save failed videoId:{}", videoId, e);
+        }
+    }
+
+    private static class Job {
+        private final long durationMillis;
+        private volatile long recordedAt;
+
+        private Job(long durationMillis) {
+            this.durationMillis = durationMillis;
+        }
+    }
+}
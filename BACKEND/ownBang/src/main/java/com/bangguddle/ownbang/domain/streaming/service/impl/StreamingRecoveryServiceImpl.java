@@ -0,0 +1,73 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingRecoveryService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingRecoveryServiceImpl implements StreamingRecoveryService {
+
+    private final StreamingService streamingService;
+    private final StreamingJobRepository streamingJobRepository;
+    private final VideoRepository videoRepository;
+
+    @Value("${video.streaming.recovery-enabled:true}")
+    private boolean recoveryEnabled;
+
+    // 이 횟수 이상 실패한 작업은 자동으로 재개하지 않는다. (retryStreaming으로만 재시도)
+    @Value("${video.streaming.max-fail-count:3}")
+    private int maxFailCount;
+
+    // enqueue-only 노드는 작업만 만들고, 재개는 worker가 점유하여 수행한다.
+    @Value("${video.streaming.enqueue-only:false}")
+    private boolean enqueueOnly;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (recoveryEnabled) recover();
+    }
+
+    /**
+     * 끝나지 않은 작업을 찾아 각각 마지막으로 완료된 다음 단계부터 비동기로 이어서 수행합니다.<br/>
+     * 작업이 저장되기 전에 중단되어 ENCODING 상태로만 남은 영상은 작업을 새로 만들어 처음부터 수행합니다.
+     *
+     * @return 재개한 작업 수
+     */
+    @Override
+    public int recover() {
+        for (Video video : videoRepository.findAllByVideoStatus(VideoStatus.ENCODING)) {
+            if (streamingJobRepository.findByVideoId(video.getId()).isPresent()) continue;
+
+            // 세션 ID가 저장되기 전의 영상은 videoUrl에 세션 ID가 들어있다.
+            String sessionId = video.getSessionId() != null ? video.getSessionId() : video.getVideoUrl();
+            streamingJobRepository.save(StreamingJob.builder()
+                    .video(video)
+                    .sessionId(sessionId)
+                    .build());
+        }
+        if (enqueueOnly) return 0;
+
+        List<StreamingJob> jobs =
+                streamingJobRepository.findAllByStageNotAndFailCountLessThan(StreamingStage.DONE, maxFailCount);
+        jobs.forEach(job -> {
+            log.info("recover streaming job sessionId:{} stage:{}", job.getSessionId(), job.getStage());
+            streamingService.resumeStreaming(job.getId());
+        });
+        return jobs.size();
+    }
+}
@@ -3,7 +3,18 @@ package com.bangguddle.ownbang.domain.streaming.service.impl;
 
 import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
 import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.dto.HlsTranscodePlan;
+import com.bangguddle.ownbang.domain.streaming.dto.HlsTranscodePlan.Rendition;
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.HlsPublishService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingJobLeaseService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingMetricsService;
+import com.bangguddle.ownbang.domain.streaming.service.RecordingWorkspaceService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingProgressService;
 import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.streaming.service.ThumbnailService;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.domain.user.repository.UserRepository;
 import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
@@ -12,11 +23,13 @@ import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
 import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
 import com.bangguddle.ownbang.domain.video.service.VideoService;
 import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties.EncodeProfile;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
 import com.bangguddle.ownbang.global.enums.SuccessCode;
 import com.bangguddle.ownbang.global.handler.AppException;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
-import com.bangguddle.ownbang.global.service.impl.S3UploaderServiceImpl;
+import com.bangguddle.ownbang.global.service.S3UploaderService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +38,8 @@ import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFmpegExecutor;
 import net.bramp.ffmpeg.FFprobe;
 import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import net.bramp.ffmpeg.builder.FFmpegOutputBuilder;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
 import net.bramp.ffmpeg.progress.Progress;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
@@ -34,9 +49,21 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -51,20 +78,41 @@ public class StreamingServiceImpl implements StreamingService {
     private final ObjectMapper objectMapper;
     private final FFmpeg fFmpeg;
     private final FFprobe fFprobe;
-    private final S3UploaderServiceImpl s3UploaderService;
+    private final S3UploaderService s3UploaderService;
     private final VideoService videoService;
     private final VideoRepository videoRepository;
     private final WebrtcSessionService webrtcSessionService;
+    private final HlsPublishService hlsPublishService;
+    private final HlsEncodeProperties hlsEncodeProperties;
+    private final StreamingProgressService streamingProgressService;
+    private final StreamingJobRepository streamingJobRepository;
+    private final RecordingWorkspaceService recordingWorkspaceService;
+    private final ThumbnailService thumbnailService;
+    private final StreamingJobLeaseService streamingJobLeaseService;
+    private final StreamingMetricsService streamingMetricsService;
+    // 같은 작업이 재시도와 복구로 동시에 수행되지 않도록 막는다.
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
 
     private static final String zipExtend = ".zip";
     private static final String m3u8Extend = ".m3u8";
     private static final String tsExtend = "_%08d.ts";
     private static final String jsonExtend = ".json";
+    private static final String hlsTime = "10";
+    private static final String variantPattern = "%v";
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
 
-    @Value("${video.recordings.path}")
-    private String recordingPath;
+    // 원본 영상을 재인코딩 없이 복사할 수 있는 최대 세로 해상도
+    @Value("${video.hls.copy-max-height:1080}")
+    private int copyMaxHeight;
+
+    // 인코딩 중 닫힌 세그먼트부터 업로드할지 여부
+    @Value("${video.hls.pipelined:true}")
+    private boolean pipelined;
+
+    // true면 작업을 저장만 하고 직접 수행하지 않는다. (worker 노드가 점유하여 수행)
+    @Value("${video.streaming.enqueue-only:false}")
+    private boolean enqueueOnly;
 
     @Override
     public SuccessResponse<NoneResponse> retryStreaming(Long userId, Long reservationId) {
@@ -76,13 +124,26 @@ public class StreamingServiceImpl implements StreamingService {
         Video video = videoRepository.findByReservationId(reservationId)
                 .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
 
-        uploadStreaming(reservationId, video.getVideoUrl());
+        // 이미 처리가 끝난 영상
+        streamingJobRepository.findByVideoId(video.getId())
+                .ifPresent(job -> {
+                    if (job.isDone()) throw new AppException(VIDEO_DUPLICATE);
+                    // 실패 횟수를 넘겨 자동으로 재개되지 않던 작업도 다시 점유될 수 있게 한다.
+                    job.resetFailCount();
+                    streamingJobRepository.save(job);
+                });
+
+        // 세션 ID가 저장되기 전의 영상은 videoUrl에 세션 ID가 들어있다.
+        String sessionId = video.getSessionId() != null ? video.getSessionId() : video.getVideoUrl();
+        uploadStreaming(reservationId, sessionId);
 
         return new SuccessResponse<>(SuccessCode.VIDEO_PROCESS_SUCCESS, NoneResponse.NONE);
     }
 
     /**
-     * [비동기]sessionId를 받아 zip 압축 해제 후 hls로 변환하여 S3에 올림
+     * [비동기]sessionId를 받아 zip 압축 해제 후 hls로 변환하여 S3에 올림<br/>
+     * 이전에 중단된 작업이 있으면 마지막으로 완료된 다음 단계부터 이어서 수행한다.<br/>
+     * enqueue-only 노드는 작업만 저장하고, worker 노드가 점유하여 수행한다.
      *
      * @param reservationId 예약 ID
      * @param sessionId     해당 예약에 대해 생성된 Openvidu Session Id
@@ -92,41 +153,227 @@ public class StreamingServiceImpl implements StreamingService {
     @Override
     public void uploadStreaming(Long reservationId, String sessionId) {
         log.info("uploadStreaming sessionId:{}", sessionId);
-        Path outputPath = Paths.get(recordingPath, sessionId);
+        Video video = videoRepository.findByReservationId(reservationId)
+                .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+
+        StreamingJob job = streamingJobRepository.findByVideoId(video.getId())
+                .orElseGet(() -> streamingJobRepository.save(StreamingJob.builder()
+                        .video(video)
+                        .sessionId(sessionId)
+                        .build()));
+        if (enqueueOnly) {
+            log.info("streaming job enqueued sessionId:{}", sessionId);
+            return;
+        }
+        processJob(job.getId());
+    }
+
+    /**
+     * [비동기]중단된 작업을 마지막으로 완료된 다음 단계부터 이어서 수행
+     *
+     * @param streamingJobId
+     */
+    @Async
+    @Override
+    public void resumeStreaming(Long streamingJobId) {
+        processJob(streamingJobId);
+    }
+
+    /**
+     * 중단된 작업을 호출한 스레드에서 이어서 수행 (worker가 자신의 스레드 수만큼만 수행하도록 사용)
+     *
+     * @param streamingJobId
+     */
+    @Override
+    public void processStreamingJob(Long streamingJobId) {
+        processJob(streamingJobId);
+    }
+
+    /**
+     * 작업을 점유한 뒤 남은 단계를 순서대로 수행하고, 단계가 끝날 때마다 다음 단계를 저장한다.<br/>
+     * 실패하면 현재 단계에 머물러, 재시도나 서버 재시작 시 이 단계부터 다시 수행한다.<br/>
+     * 다른 노드가 점유 중인 작업은 수행하지 않고, 수행 중 점유를 잃으면 저장하지 않고 중단한다.
+     *
+     * @param streamingJobId
+     */
+    private void processJob(Long streamingJobId) {
+        if (!runningJobs.add(streamingJobId)) {
+            log.info("streaming job is already running streamingJobId:{}", streamingJobId);
+            return;
+        }
+        if (!streamingJobLeaseService.claim(streamingJobId)) {
+            runningJobs.remove(streamingJobId);
+            log.info("streaming job is leased by another node streamingJobId:{}", streamingJobId);
+            return;
+        }
+
+        // 다른 노드가 진행한 단계를 반영하도록 점유한 뒤 다시 읽는다.
+        StreamingJob job;
+        try {
+            job = streamingJobRepository.findById(streamingJobId)
+                    .orElseThrow(() -> new AppException(BAD_REQUEST));
+        } catch (RuntimeException e) {
+            release(streamingJobId);
+            throw e;
+        }
+        log.info("process streaming job sessionId:{} stage:{} owner:{}",
+                job.getSessionId(), job.getStage(), streamingJobLeaseService.getOwner());
+
+        // 마지막 저장(생성, 단계 완료, 실패) 이후 다시 수행되기까지의 시간
+        long queueWaitMillis = Duration.between(job.getUpdatedAt(), LocalDateTime.now()).toMillis();
+        job.getBreakdown().recordQueueWait(queueWaitMillis);
+        streamingMetricsService.recordQueueWait(queueWaitMillis);
+
+        StreamingStage stage = job.getStage();
+        // 단계 수행 중일 때만 값이 있다. (작업 공간 대기, 저장 중 실패는 단계 시간에 넣지 않는다.)
+        Long stageStartedAt = null;
+        try {
+            while (!job.isDone()) {
+                stage = job.getStage();
+                if (!holdsLease(job)) return;
+                // 디스크 사용량을 늘리는 단계는 작업 공간에 여유가 있을 때만 시작한다.
+                if (stage == StreamingStage.EXTRACT || stage == StreamingStage.TRANSCODE) {
+                    recordingWorkspaceService.awaitCapacity(job.getSessionId());
+                }
+
+                stageStartedAt = System.nanoTime();
+                runStage(job);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stageStartedAt);
+                job.getBreakdown().recordStage(stage, elapsedMillis);
+                streamingMetricsService.recordStage(job, stage, true, elapsedMillis);
+                stageStartedAt = null;
+                // 단계 수행 중 다른 노드가 가져갔으면 그 노드의 진행 상태를 덮어쓰지 않는다.
+                if (!holdsLease(job)) return;
+                job.complete();
+                streamingJobRepository.save(job);
+
+                // 완료가 저장된 단계의 중간 파일만 지운다.
+                recordingWorkspaceService.cleanup(job.getSessionId(), stage, job.getRecordFileName());
+            }
+        } catch (RuntimeException e) {
+            if (stageStartedAt != null) {
+                streamingMetricsService.recordStage(job, stage, false,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stageStartedAt));
+            }
+            if (!holdsLease(job)) throw e;
+            job.fail();
+            streamingJobRepository.save(job);
+            log.error("streaming job failed sessionId:{} stage:{} failCount:{}",
+                    job.getSessionId(), job.getStage(), job.getFailCount(), e);
+            throw e;
+        } finally {
+            release(streamingJobId);
+        }
+    }
+
+    private boolean holdsLease(StreamingJob job) {
+        if (streamingJobLeaseService.holdsLease(job.getId())) return true;
+        log.warn("streaming job lease lost, stop processing sessionId:{} stage:{}", job.getSessionId(), job.getStage());
+        return false;
+    }
+
+    private void release(Long streamingJobId) {
+        try {
+            streamingJobLeaseService.release(streamingJobId);
+        } finally {
+            runningJobs.remove(streamingJobId);
+        }
+    }
+
+    private void runStage(StreamingJob job) {
+        switch (job.getStage()) {
+            case EXTRACT -> extract(job);
+            case TRANSCODE -> transcode(job);
+            case UPLOAD -> upload(job);
+            case FINALIZE -> finalizeVideo(job);
+            // Openvidu 녹화 ID는 세션 ID와 같다.
+            case DELETE_RECORDING -> webrtcSessionService.deleteRecordById(job.getSessionId());
+            case DONE -> {
+            }
+        }
+    }
+
+    // json에서 publisher(중개인)의 녹화 파일명을 얻어 해당 파일만 압축 해제한다.
+    private void extract(StreamingJob job) {
+        String sessionId = job.getSessionId();
+        Path outputPath = recordingWorkspaceService.getSessionPath(sessionId);
         if (!Files.exists(outputPath)) throw new AppException(RECORDING_ERROR);
         log.info(outputPath.toAbsolutePath().toString());
 
-        // json에서 publisher(중개인)의 녹화 파일명을 얻는다.
         unzipFile(outputPath.toString(), sessionId, sessionId);
 
         String filename = getPublisherFileName(outputPath.toString(), sessionId);
         if (filename == null) throw new AppException(RECORDING_ERROR);
 
         // 압축 해제한 파일이 zip파일과 같은 위치여야 openvidu의 delete기능을 사용할 수 있다.
-        String unzipFileName = unzipFile(outputPath.toString(), sessionId, filename);
+        job.updateRecordFileName(unzipFile(outputPath.toString(), sessionId, filename));
+        job.getBreakdown().updateExtractBytes(recordingWorkspaceService.getRecordFileBytes(sessionId, job.getRecordFileName()));
+    }
 
+    private void transcode(StreamingJob job) {
+        String sessionId = job.getSessionId();
+        String filename = job.getRecordFileName();
+        Long videoId = job.getVideo().getId();
+        Path outputPath = recordingWorkspaceService.getSessionPath(sessionId);
 
-        // 압축 파일들을 hls로 변환한다.
-        convertToHls(unzipFileName, sessionId);
+        // 녹화영상을 분석하여 재인코딩이 필요 없는 스트림은 복사하도록 변환 방식을 정한다.
+        FFmpegProbeResult probe = probe(outputPath.resolve(filename));
+        HlsTranscodePlan plan = HlsTranscodePlan.of(probe, hlsEncodeProperties.profiles(), copyMaxHeight);
+        long durationMillis = getDurationMillis(probe, outputPath.toString(), sessionId);
+        job.updateTranscodeMode(plan.mode());
 
-        // s3에 업로드한다.
-        String uploadedUrl = s3UploaderService.uploadHlsFiles(Paths.get(outputPath.toString(), sessionId), sessionId);
+        streamingProgressService.start(videoId, durationMillis);
+        long startedAt = System.currentTimeMillis();
+        try {
+            FFmpegBuilder builder = createHlsBuilder(filename, sessionId, pipelined, plan, durationMillis);
+            long encodedMillis;
+            if (pipelined) {
+                encodedMillis = convertAndPublishHls(builder, filename, sessionId, videoId);
+                job.updatePlaylistUrl(hlsPublishService.close(sessionId));
+            } else {
+                encodedMillis = run(builder, filename, videoId);
+            }
+            long mediaMillis = encodedMillis > 0 ? encodedMillis : durationMillis;
+            job.getBreakdown().updateMediaMillis(mediaMillis);
+            // 컨테이너에 길이가 없어도 실제로 변환한 길이로 썸네일 트랙을 만든다.
+            if (plan.hasVideo() && thumbnailService.isEnabled()) {
+                thumbnailService.writeTrack(getHlsPath(sessionId), mediaMillis);
+            }
+        } finally {
+            streamingProgressService.finish(videoId);
+        }
+        logTranscodeResult(sessionId, plan, durationMillis, System.currentTimeMillis() - startedAt);
+    }
 
-        // video 수정
-        Video video = videoRepository.findByReservationId(reservationId)
-                .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+    // 변환 중 올리지 못한 파일(비파이프라인, 재시작, 썸네일 등)만 업로드한다.
+    private void upload(StreamingJob job) {
+        String sessionId = job.getSessionId();
+        Path hlsPath = getHlsPath(sessionId);
+        String uploadedUrl = s3UploaderService.uploadHlsFiles(hlsPath, sessionId);
+        job.updatePlaylistUrl(uploadedUrl + "/" + sessionId + m3u8Extend);
+        job.getBreakdown().updateUploadBytes(recordingWorkspaceService.getHlsBytes(sessionId));
+
+        String posterPath = thumbnailService.getPosterPath(hlsPath);
+        String trackPath = thumbnailService.getTrackPath(hlsPath);
+        job.updateThumbnailUrls(
+                posterPath != null ? uploadedUrl + "/" + posterPath : null,
+                trackPath != null ? uploadedUrl + "/" + trackPath : null);
+    }
 
+    // video 수정
+    private void finalizeVideo(StreamingJob job) {
+        Video video = videoRepository.findById(job.getVideo().getId())
+                .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+        if (video.getVideoStatus() == VideoStatus.RECORDED) return;
 
         VideoUpdateRequest videoUpdateRequest =
                 VideoUpdateRequest.builder()
-                        .videoUrl(uploadedUrl + "/" + sessionId + m3u8Extend)
+                        .videoUrl(job.getPlaylistUrl())
                         .videoStatus(VideoStatus.RECORDED)
+                        .posterUrl(job.getPosterUrl())
+                        .thumbnailUrl(job.getThumbnailUrl())
                         .build();
         videoService.modifyVideo(videoUpdateRequest, video.getId());
-
-
-        // record 제거
-        webrtcSessionService.deleteRecord(reservationId);
     }
 
     /**
@@ -137,6 +384,11 @@ public class StreamingServiceImpl implements StreamingService {
      * @return publisher(중개인)의 녹화 파일명
      */
     private String getPublisherFileName(String outputPath, String sessionId) {
+        JsonNode file = getPublisherFileNode(outputPath, sessionId);
+        return file != null ? file.path("name").asText() : null; // 파일이 없거나 name 필드가 없는 경우
+    }
+
+    private JsonNode getPublisherFileNode(String outputPath, String sessionId) {
         try {
             String jsonString = new String(Files.readAllBytes(Paths.get(outputPath, sessionId + jsonExtend)));
             JsonNode filesNode = objectMapper.readTree(jsonString).path("files");
@@ -144,16 +396,50 @@ public class StreamingServiceImpl implements StreamingService {
             if (filesNode.isArray() && !filesNode.isEmpty()) {
                 for (JsonNode file : filesNode) {
                     if ("ROLE_AGENT".equals(file.path("serverData").asText()))
-                        return file.path("name").asText();
+                        return file;
                 }
             }
-            return null; // 파일이 없거나 name 필드가 없는 경우
+            return null;
         } catch (Exception e) {
             // 예외 처리: 로깅을 하거나 사용자 정의 예외를 던질 수 있습니다.
             throw new AppException(RECORDING_ERROR);
         }
     }
 
+    /**
+     * 녹화영상의 코덱, 해상도, 길이를 분석합니다.
+     *
+     * @param inputPath 압축 해제한 녹화영상 경로
+     * @return FFprobe 결과, 실패하면 null (모두 재인코딩)
+     */
+    private FFmpegProbeResult probe(Path inputPath) {
+        try {
+            return fFprobe.probe(inputPath.toAbsolutePath().toString());
+        } catch (IOException | RuntimeException e) {
+            log.warn("ffprobe failed {} - {}", inputPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 진행률 계산에 쓸 녹화영상 길이를 구합니다.<br/>
+     * 브라우저가 녹화한 webm은 컨테이너에 길이가 없는 경우가 많아, 이때는 Openvidu json의 녹화 구간을 사용합니다.
+     *
+     * @param probe      FFprobe 결과
+     * @param outputPath
+     * @param sessionId
+     * @return 영상 길이(ms), 알 수 없으면 0
+     */
+    private long getDurationMillis(FFmpegProbeResult probe, String outputPath, String sessionId) {
+        if (probe != null && probe.getFormat() != null && probe.getFormat().duration > 0) {
+            return (long) (probe.getFormat().duration * 1000);
+        }
+
+        JsonNode file = getPublisherFileNode(outputPath, sessionId);
+        if (file == null) return 0;
+        return Math.max(file.path("endTimeOffset").asLong() - file.path("startTimeOffset").asLong(), 0);
+    }
+
 
     /**
      * 압축 파일에서 publisher(중개인)의 녹화영상만을 sessionId를 파일명으로 압축 해제합니다.
@@ -197,16 +483,44 @@ public class StreamingServiceImpl implements StreamingService {
 
 
     /**
-     * fileName의 녹화영상을 HLS 포맷으로 sessionId 폴더에 압축 해제한다.
+     * 녹화영상을 HLS로 변환하는 동안 닫힌 세그먼트부터 S3에 업로드한다.<br/>
+     * 첫 세그먼트가 올라가면 ENCODING 상태인 영상의 url을 EVENT 플레이리스트로 먼저 공개하고,
+     * 변환이 끝나면 호출한 쪽에서 VOD 플레이리스트로 확정한다.
      *
+     * @param builder   EVENT 플레이리스트로 변환하는 FFMPEG Builder
      * @param filename  변환할 녹화영상의 파일명 (sessionId+확장자)
      * @param sessionId
-     * @return m3u8 파일의 파일명
+     * @param videoId   url을 먼저 공개할 영상 ID
+     * @return 변환된 영상 길이(ms)
      */
-    private String convertToHls(String filename, String sessionId) {
+    private long convertAndPublishHls(FFmpegBuilder builder, String filename, String sessionId, Long videoId) {
+        hlsPublishService.open(sessionId, getHlsPath(sessionId), sessionId + m3u8Extend,
+                playlistUrl -> videoService.publishVideo(videoId, playlistUrl));
         try {
-            String inputFilePath = Paths.get(recordingPath, sessionId, filename).toAbsolutePath().toString();
-            File output = new File(Paths.get(recordingPath, sessionId, sessionId).toAbsolutePath().toString());
+            return run(builder, filename, videoId);
+        } catch (RuntimeException e) {
+            hlsPublishService.cancel(sessionId);
+            throw e;
+        }
+    }
+
+    /**
+     * fileName의 녹화영상을 HLS 포맷으로 sessionId 폴더에 변환하는 ffmpeg 명령을 만든다.<br/>
+     * 인코딩 프로필이 설정되어 있으면 한 번의 디코딩으로 여러 화질을 만들고, sessionId.m3u8은 마스터 플레이리스트가 된다.<br/>
+     * 썸네일도 같은 디코딩에서 함께 만들어 thumbnails 폴더에 쓴다.
+     *
+     * @param filename       변환할 녹화영상의 파일명 (sessionId+확장자)
+     * @param sessionId
+     * @param isEvent        true면 세그먼트가 닫힐 때마다 갱신되는 EVENT 플레이리스트로 변환
+     * @param plan           렌디션별 변환 방식
+     * @param durationMillis 녹화영상 길이(ms), 포스터 시점 계산에 사용
+     * @return FFMPEG Builder
+     */
+    private FFmpegBuilder createHlsBuilder(String filename, String sessionId, boolean isEvent, HlsTranscodePlan plan,
+                                           long durationMillis) {
+        try {
+            String inputFilePath = recordingWorkspaceService.getSessionPath(sessionId).resolve(filename).toAbsolutePath().toString();
+            File output = getHlsPath(sessionId).toAbsolutePath().toFile();
 
             // 파일 없을 때
             if (!(new File(inputFilePath)).exists()) throw new FileNotFoundException(filename);
@@ -215,25 +529,153 @@ public class StreamingServiceImpl implements StreamingService {
 
             FFmpegBuilder builder = new FFmpegBuilder()
                     .setInput(inputFilePath)
-                    .overrideOutputFiles(true)
-                    .addOutput(Paths.get(output.getAbsolutePath(), sessionId + m3u8Extend).toAbsolutePath().toString())
+                    .overrideOutputFiles(true);
+
+            List<String> filters = new ArrayList<>();
+            // 영상 트랙이 없으면 나눌 영상이 없으므로 오디오만 담은 렌디션 하나로 만든다.
+            FFmpegOutputBuilder outputBuilder = hlsEncodeProperties.profiles().isEmpty() || !plan.hasVideo()
+                    ? addSingleRendition(builder, output, sessionId, plan)
+                    : addRenditionLadder(builder, output, sessionId, plan, filters);
+
+            outputBuilder
                     .setFormat("hls")
-                    .addExtraArgs("-hls_time", "10")
-                    .addExtraArgs("-hls_list_size", "0")
-                    .addExtraArgs("-hls_segment_filename", output.getAbsolutePath() + File.separator + sessionId + tsExtend) // 청크 파일 이름
-                    .addExtraArgs("-c:v", "libx264")
-                    .addExtraArgs("-preset", "faster")
-                    .addExtraArgs("-crf", "23")
-                    .addExtraArgs("-c:a", "aac")
-                    .addExtraArgs("-b:a", "128k")
-                    .done();
-
-            run(builder, filename);
-            return filename + m3u8Extend;
+                    .addExtraArgs("-hls_time", hlsTime)
+                    .addExtraArgs("-hls_list_size", "0");
+
+            if (isEvent) {
+                outputBuilder
+                        .addExtraArgs("-hls_playlist_type", "event")
+                        .addExtraArgs("-hls_flags", "temp_file"); // 완성된 세그먼트만 최종 파일명으로 보이게 함
+            }
+            outputBuilder.done();
+
+            if (plan.hasVideo() && thumbnailService.isEnabled()) {
+                filters.add(thumbnailService.getFilter(durationMillis));
+                thumbnailService.addOutputs(builder, output.toPath());
+            }
+            if (!filters.isEmpty()) builder.setComplexFilter(String.join(";", filters));
+            return builder;
         } catch (FileNotFoundException e) {
             throw new AppException(HLS_CONVERTING_ERROR);
         }
+    }
+
+    private FFmpegOutputBuilder addSingleRendition(FFmpegBuilder builder, File output, String sessionId,
+                                                   HlsTranscodePlan plan) {
+        FFmpegOutputBuilder outputBuilder = builder
+                .addOutput(Paths.get(output.getAbsolutePath(), sessionId + m3u8Extend).toAbsolutePath().toString())
+                .addExtraArgs("-hls_segment_filename", output.getAbsolutePath() + File.separator + sessionId + tsExtend) // 청크 파일 이름
+                // 썸네일 출력이 함께 있어도 원본 영상/오디오가 HLS로 가도록 직접 지정한다.
+                .addExtraArgs("-map", "0:v:0?");
+        if (plan.hasAudio()) outputBuilder.addExtraArgs("-map", "0:a:0?");
+        addCodecArgs(outputBuilder, 0, plan.renditions().get(0), plan.hasVideo(), plan.hasAudio());
+        return outputBuilder;
+    }
+
+    /**
+     * 디코딩한 영상을 split 필터로 나눠 재인코딩할 렌디션마다 scale한 뒤, 렌디션별 폴더(%v)에 변환한다.<br/>
+     * 복사하는 렌디션은 디코딩 없이 원본 영상 스트림을 그대로 자른다.
+     * <pre>
+     * sessionId.m3u8              마스터 플레이리스트
+     * {name}/sessionId.m3u8       렌디션 플레이리스트
+     * {name}/sessionId_00000000.ts
+     * </pre>
+     */
+    private FFmpegOutputBuilder addRenditionLadder(FFmpegBuilder builder, File output, String sessionId,
+                                                   HlsTranscodePlan plan, List<String> filters) {
+        List<Rendition> renditions = plan.renditions();
+        List<Integer> encodeIndexes = IntStream.range(0, renditions.size())
+                .filter(i -> !renditions.get(i).copyVideo())
+                .boxed()
+                .toList();
+
+        if (!encodeIndexes.isEmpty()) {
+            StringBuilder filter = new StringBuilder("[0:v]split=").append(encodeIndexes.size());
+            for (int i : encodeIndexes) filter.append("[v").append(i).append("]");
+            for (int i : encodeIndexes) {
+                Integer height = renditions.get(i).profile().height();
+                filter.append(";[v").append(i).append("]")
+                        // 원본보다 키우지 않고, libx264가 요구하는 짝수 해상도로 맞춘다.
+                        .append(height == null ? "null" : "scale=-2:'trunc(min(" + height + ",ih)/2)*2'")
+                        .append("[v").append(i).append("out]");
+            }
+            filters.add(filter.toString());
+        }
+
+        String variantPath = output.getAbsolutePath() + File.separator + variantPattern + File.separator;
+        FFmpegOutputBuilder outputBuilder = builder
+                .addOutput(variantPath + sessionId + m3u8Extend)
+                .addExtraArgs("-hls_segment_filename", variantPath + sessionId + tsExtend) // 청크 파일 이름
+                .addExtraArgs("-master_pl_name", sessionId + m3u8Extend);
+
+        StringJoiner streamMap = new StringJoiner(" ");
+        for (int i = 0; i < renditions.size(); i++) {
+            Rendition rendition = renditions.get(i);
+            outputBuilder.addExtraArgs("-map", rendition.copyVideo() ? "0:v:0" : "[v" + i + "out]");
+            if (plan.hasAudio()) outputBuilder.addExtraArgs("-map", "0:a:0");
+            addCodecArgs(outputBuilder, i, rendition, true, plan.hasAudio());
+
+            streamMap.add("v:" + i + (plan.hasAudio() ? ",a:" + i : "") + ",name:" + rendition.profile().name());
+
+            File variantDir = new File(output, rendition.profile().name());
+            if (!variantDir.exists()) variantDir.mkdirs();
+        }
+        return outputBuilder.addExtraArgs("-var_stream_map", streamMap.toString());
+    }
+
+    // index번째 렌디션의 영상/오디오 코덱 옵션
+    private void addCodecArgs(FFmpegOutputBuilder outputBuilder, int index, Rendition rendition,
+                              boolean hasVideo, boolean hasAudio) {
+        EncodeProfile profile = rendition.profile();
+        // 영상 트랙이 없으면 영상 코덱 옵션을 넣지 않는다.
+        if (hasVideo && rendition.copyVideo()) {
+            outputBuilder.addExtraArgs("-c:v:" + index, "copy");
+        } else if (hasVideo) {
+            outputBuilder
+                    .addExtraArgs("-c:v:" + index, "libx264")
+                    .addExtraArgs("-preset:v:" + index, "faster")
+                    .addExtraArgs("-crf:v:" + index, String.valueOf(profile.crf()))
+                    // 렌디션마다 같은 시점에 키프레임을 두어 세그먼트 경계를 맞춘다.
+                    .addExtraArgs("-force_key_frames:v:" + index, "expr:gte(t,n_forced*" + hlsTime + ")");
+            if (profile.maxRate() != null) {
+                outputBuilder
+                        .addExtraArgs("-maxrate:v:" + index, profile.maxRate())
+                        .addExtraArgs("-bufsize:v:" + index, profile.bufSize() != null ? profile.bufSize() : doubleRate(profile.maxRate()));
+            }
+        }
+
+        if (!hasAudio) return;
+        if (rendition.copyAudio()) {
+            outputBuilder.addExtraArgs("-c:a:" + index, "copy");
+        } else {
+            outputBuilder
+                    .addExtraArgs("-c:a:" + index, "aac")
+                    .addExtraArgs("-b:a:" + index, profile.audioBitrate());
+        }
+    }
+
+    // 800k -> 1600k, 1.5M -> 3M
+    private String doubleRate(String rate) {
+        char unit = rate.charAt(rate.length() - 1);
+        String number = Character.isDigit(unit) ? rate : rate.substring(0, rate.length() - 1);
+        String doubled = new BigDecimal(number).multiply(BigDecimal.valueOf(2)).stripTrailingZeros().toPlainString();
+        return Character.isDigit(unit) ? doubled : doubled + unit;
+    }
+
+    /**
+     * 고른 변환 방식과, 모두 재인코딩했을 때보다 줄인 영상 인코딩 수를 기록합니다.
+     */
+    private void logTranscodeResult(String sessionId, HlsTranscodePlan plan, long durationMillis, long elapsedMillis) {
+        log.info("HLS converted sessionId:{} mode:{} renditions:{} videoEncodes:{}/{} (skipped {}) elapsed:{}ms realtime:{}x",
+                sessionId, plan.mode(),
+                plan.renditions().stream().map(rendition -> rendition.profile().name()).toList(),
+                plan.videoEncodes(), plan.ladderSize(), plan.ladderSize() - plan.videoEncodes(),
+                elapsedMillis,
+                elapsedMillis > 0 && durationMillis > 0 ? String.format("%.1f", (double) durationMillis / elapsedMillis) : "-");
+    }
 
+    private Path getHlsPath(String sessionId) {
+        return recordingWorkspaceService.getHlsPath(sessionId);
     }
 
     /**
@@ -241,16 +683,23 @@ public class StreamingServiceImpl implements StreamingService {
      *
      * @param builder  FFMPEG Builder
      * @param filename hls 변환 결과의 파일명
+     * @param videoId  진행 상황을 기록할 영상 ID
+     * @return 변환된 영상 길이(ms), ffmpeg가 진행 상황을 보내지 않았으면 0
      */
-    private void run(FFmpegBuilder builder, String filename) {
+    private long run(FFmpegBuilder builder, String filename, Long videoId) {
         FFmpegExecutor executor = new FFmpegExecutor(fFmpeg, fFprobe);
+        AtomicLong encodedMillis = new AtomicLong();
         executor
                 .createJob(builder, progress -> {
+                    long processedMillis = TimeUnit.NANOSECONDS.toMillis(progress.out_time_ns);
+                    encodedMillis.accumulateAndGet(processedMillis, Math::max);
+                    streamingProgressService.update(videoId, processedMillis, progress.speed);
                     if (progress.status.equals(Progress.Status.END)) {
                         log.info("============================ JOB FINISHED {}============================", filename);
                     }
                 })
                 .run();
+        return encodedMillis.get();
     }
 
 
@@ -0,0 +1,75 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.service.StreamingJobLeaseService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingWorkerService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * worker 프로필에서만 동작하며, API 노드가 저장한 녹화 처리 작업을 DB 점유로 나눠 가져가 수행합니다.<br/>
+ * 노드마다 동시에 수행하는 작업 수를 제한하여, 노드를 늘리는 만큼 처리량이 늘어납니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "video.streaming.worker.enabled", havingValue = "true")
+public class StreamingWorkerServiceImpl implements StreamingWorkerService {
+
+    private final StreamingService streamingService;
+    private final StreamingJobLeaseService streamingJobLeaseService;
+    private final AtomicInteger runningJobs = new AtomicInteger();
+    private ExecutorService workerExecutor;
+
+    // 이 노드에서 동시에 수행할 작업 수
+    @Value("${video.streaming.worker.concurrency:1}")
+    private int concurrency;
+
+    @PostConstruct
+    public void init() {
+        workerExecutor = Executors.newFixedThreadPool(concurrency);
+        log.info("streaming worker started concurrency:{} owner:{}", concurrency, streamingJobLeaseService.getOwner());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${video.streaming.worker.poll-interval-millis:5000}")
+    public int poll() {
+        int started = 0;
+        while (runningJobs.get() < concurrency) {
+            Optional<Long> jobId = streamingJobLeaseService.claimNext();
+            if (jobId.isEmpty()) break;
+
+            runningJobs.incrementAndGet();
+            workerExecutor.execute(() -> process(jobId.get()));
+            started++;
+        }
+        return started;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdownNow();
+    }
+
+    private void process(Long streamingJobId) {
+        try {
+            streamingService.processStreamingJob(streamingJobId);
+        } catch (RuntimeException e) {
+            // 실패 횟수는 작업에 기록되어 있고, 점유가 풀렸으므로 다음 poll에서 다시 가져간다.
+            log.warn("streaming worker job failed streamingJobId:{} - {}", streamingJobId, e.getMessage());
+        } finally {
+            runningJobs.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.bangguddle.ownbang.domain.streaming.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.service.ThumbnailService;
+import com.bangguddle.ownbang.global.handler.AppException;
+import lombok.extern.slf4j.Slf4j;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.HLS_CONVERTING_ERROR;
+
+@Slf4j
+@Service
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final String THUMBNAIL_DIR = "thumbnails";
+    private static final String POSTER_NAME = "poster.jpg";
+    private static final String SPRITE_NAME = "sprite_%03d.jpg";
+    private static final String TRACK_NAME = "thumbnails.vtt";
+    private static final String POSTER_LABEL = "[poster]";
+    private static final String SPRITE_LABEL = "[sprite]";
+    // mjpeg 품질 (2~31, 낮을수록 고화질)
+    private static final String JPEG_QUALITY = "3";
+
+    @Value("${video.thumbnail.enabled:true}")
+    private boolean enabled;
+
+    // 스프라이트 타일 하나가 담당하는 구간(초)
+    @Value("${video.thumbnail.interval-seconds:5}")
+    private int intervalSeconds;
+
+    @Value("${video.thumbnail.width:160}")
+    private int width;
+
+    @Value("${video.thumbnail.height:90}")
+    private int height;
+
+    // 스프라이트 시트 한 장의 타일 배치 (columns x rows)
+    @Value("${video.thumbnail.columns:10}")
+    private int columns;
+
+    @Value("${video.thumbnail.rows:10}")
+    private int rows;
+
+    // 포스터로 쓸 시점(초), 영상이 짧으면 영상 중간 지점
+    @Value("${video.thumbnail.poster-seconds:3}")
+    private int posterSeconds;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 포스터는 지정한 시점 이후 첫 프레임 한 장, 스프라이트는 intervalSeconds마다 한 프레임을 축소해 타일로 붙입니다.<br/>
+     * 렌디션 인코딩과 같은 입력 스트림을 공유하므로 녹화영상을 다시 디코딩하지 않습니다.
+     *
+     * @param durationMillis 녹화영상 길이(ms), 알 수 없으면 0
+     */
+    @Override
+    public String getFilter(long durationMillis) {
+        long posterMillis = durationMillis > 0
+                ? Math.min(posterSeconds * 1000L, durationMillis / 2)
+                : 0;
+        String tileScale = String.format(Locale.ROOT,
+                "scale=%d:%d:force_original_aspect_ratio=decrease,pad=%d:%d:(ow-iw)/2:(oh-ih)/2",
+                width, height, width, height);
+
+        // trim으로 한 프레임만 내보내 포스터 체인이 바로 끝나게 한다.
+        return String.format(Locale.ROOT, "[0:v]select='gte(t,%.3f)',trim=end_frame=1%s", posterMillis / 1000.0, POSTER_LABEL)
+                + ";[0:v]fps=1/" + intervalSeconds + "," + tileScale + ",tile=" + columns + "x" + rows + SPRITE_LABEL;
+    }
+
+    @Override
+    public void addOutputs(FFmpegBuilder builder, Path hlsPath) {
+        Path thumbnailPath = createThumbnailPath(hlsPath);
+        builder.addOutput(thumbnailPath.resolve(POSTER_NAME).toAbsolutePath().toString())
+                .addExtraArgs("-map", POSTER_LABEL)
+                .addExtraArgs("-frames:v", "1")
+                .addExtraArgs("-q:v", JPEG_QUALITY)
+                .done()
+                .addOutput(thumbnailPath.resolve(SPRITE_NAME).toAbsolutePath().toString())
+                .addExtraArgs("-map", SPRITE_LABEL)
+                .addExtraArgs("-q:v", JPEG_QUALITY)
+                .done();
+    }
+
+    /**
+     * 구간마다 스프라이트 시트 파일과 타일 좌표를 media fragment(#xywh)로 기록합니다.
+     * <pre>
+     * WEBVTT
+     *
+     * 00:00:00.000 --> 00:00:05.000
+     * sprite_001.jpg#xywh=0,0,160,90
+     * </pre>
+     *
+     * @param hlsPath        HLS 결과 폴더
+     * @param durationMillis 변환된 영상 길이(ms), 0이면 트랙을 만들지 않는다.
+     */
+    @Override
+    public void writeTrack(Path hlsPath, long durationMillis) {
+        if (durationMillis <= 0) return;
+
+        long intervalMillis = intervalSeconds * 1000L;
+        int tilesPerSprite = columns * rows;
+        StringBuilder track = new StringBuilder("WEBVTT\n");
+        for (long index = 0; index * intervalMillis < durationMillis; index++) {
+            long start = index * intervalMillis;
+            long end = Math.min(start + intervalMillis, durationMillis);
+            int tile = (int) (index % tilesPerSprite);
+            track.append('\n')
+                    .append(formatTimestamp(start)).append(" --> ").append(formatTimestamp(end)).append('\n')
+                    .append(String.format(SPRITE_NAME, index / tilesPerSprite + 1))
+                    .append("#xywh=").append(tile % columns * width).append(',').append(tile / columns * height)
+                    .append(',').append(width).append(',').append(height).append('\n');
+        }
+
+        try {
+            Files.writeString(createThumbnailPath(hlsPath).resolve(TRACK_NAME), track.toString());
+        } catch (IOException e) {
+            log.error("thumbnail track write failed {}", hlsPath, e);
+            throw new AppException(HLS_CONVERTING_ERROR);
+        }
+    }
+
+    @Override
+    public String getPosterPath(Path hlsPath) {
+        return getRelativePath(hlsPath, POSTER_NAME);
+    }
+
+    @Override
+    public String getTrackPath(Path hlsPath) {
+        return getRelativePath(hlsPath, TRACK_NAME);
+    }
+
+    private String getRelativePath(Path hlsPath, String fileName) {
+        if (!Files.exists(hlsPath.resolve(THUMBNAIL_DIR).resolve(fileName))) return null;
+        return THUMBNAIL_DIR + "/" + fileName;
+    }
+
+    private Path createThumbnailPath(Path hlsPath) {
+        Path thumbnailPath = hlsPath.resolve(THUMBNAIL_DIR);
+        try {
+            return Files.createDirectories(thumbnailPath);
+        } catch (IOException e) {
+            throw new AppException(HLS_CONVERTING_ERROR);
+        }
+    }
+
+    // 00:01:05.000
+    private String formatTimestamp(long millis) {
+        return String.format(Locale.ROOT, "%02d:%02d:%02d.%03d",
+                millis / 3_600_000, millis / 60_000 % 60, millis / 1000 % 60, millis % 1000);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bangguddle.ownbang.domain.user.dto;
+
+import lombok.Builder;
+
+/**
+ * 중복 확인 필터를 채울 때 읽는 회원 연락처 (엔티티 전체를 읽지 않는다)
+ */
+@Builder
+public record UserContact(
+        Long id,
+        String email,
+        String phoneNumber
+) {
+}
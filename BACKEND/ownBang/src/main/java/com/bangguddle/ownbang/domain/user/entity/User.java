@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_user_phone_number", columnList = "phoneNumber"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
     @Id
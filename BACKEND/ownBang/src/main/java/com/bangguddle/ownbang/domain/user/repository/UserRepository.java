@@ -1,11 +1,16 @@
 package com.bangguddle.ownbang.domain.user.repository;
 
+import com.bangguddle.ownbang.domain.user.dto.UserContact;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.global.enums.ErrorCode;
 import com.bangguddle.ownbang.global.handler.AppException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +19,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByPhoneNumber(final String phoneNumber);
 
+    boolean existsByEmail(final String email);
+
+    boolean existsByPhoneNumber(final String phoneNumber);
+
+    // id 순으로 afterId 다음 회원들의 연락처 (키셋 페이지)
+    @Query("SELECT new com.bangguddle.ownbang.domain.user.dto.UserContact(u.id, u.email, u.phoneNumber)"
+            + " FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserContact> findContactsAfter(@Param("afterId") final Long afterId, final Pageable pageable);
+
     Optional<User> findById(final Long id);
 
     default User getById(final Long id) {
@@ -0,0 +1,22 @@
+package com.bangguddle.ownbang.domain.user.service;
+
+/**
+ * 회원 가입 중 이메일/전화번호 중복 확인 앞단의 메모리 필터<br/>
+ * false 는 "가입된 적 없음"이 확실하다는 뜻이며, true 는 DB에서 다시 확인해야 합니다.
+ */
+public interface UserDuplicateFilterService {
+
+    boolean mightExistEmail(String email);
+
+    boolean mightExistPhoneNumber(String phoneNumber);
+
+    // 가입한 회원을 필터에 바로 반영
+    void add(String email, String phoneNumber);
+
+    /**
+     * 마지막으로 읽은 회원 다음부터 DB의 회원 연락처를 배치 단위로 읽어 필터에 넣습니다.
+     *
+     * @return 새로 읽은 회원 수
+     */
+    int refresh();
+}
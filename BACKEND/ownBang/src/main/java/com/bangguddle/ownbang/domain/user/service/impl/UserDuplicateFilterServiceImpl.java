@@ -0,0 +1,112 @@
+package com.bangguddle.ownbang.domain.user.service.impl;
+
+import com.bangguddle.ownbang.domain.user.dto.UserContact;
+import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import com.bangguddle.ownbang.domain.user.service.UserDuplicateFilterService;
+import com.bangguddle.ownbang.global.utils.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 정규화한 이메일/전화번호를 Bloom filter 로 보관합니다.<br/>
+ * 시작 시 회원 연락처만 id 순 배치로 읽어 채우고, 이후 주기적으로 새 회원만 이어서 읽어
+ * 다른 서버에서 가입한 회원도 반영합니다.<br/>
+ * id는 발급 순서와 커밋 순서가 다를 수 있으므로 (늦게 커밋된 작은 id) 갱신마다 마지막 id 앞의 rescanIds 개 구간을 다시 읽습니다.<br/>
+ * 채우기 전에는 모두 "있을 수 있음"으로 답해 DB에서 확인하게 합니다.<br/>
+ * 정규화는 DB 비교보다 넓게 같다고 봐야 하므로 (대소문자, 앞뒤 공백, 전화번호 구분 기호 무시) "없음" 응답이 틀리지 않습니다.
+ */
+@Slf4j
+@Service
+public class UserDuplicateFilterServiceImpl implements UserDuplicateFilterService {
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long rescanIds;
+    private final BloomFilter emailFilter;
+    private final BloomFilter phoneNumberFilter;
+    private volatile boolean ready;
+    // refresh 는 한 번에 하나만 실행되며 이 값도 그 안에서만 바꾼다.
+    private long lastUserId;
+
+    public UserDuplicateFilterServiceImpl(UserRepository userRepository,
+                                          @Value("${user.duplicate-filter.enabled:true}") boolean enabled,
+                                          @Value("${user.duplicate-filter.expected-insertions:1000000}") long expectedInsertions,
+                                          @Value("${user.duplicate-filter.fpp:0.01}") double fpp,
+                                          @Value("${user.duplicate-filter.batch-size:1000}") int batchSize,
+                                          @Value("${user.duplicate-filter.rescan-ids:1000}") long rescanIds) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.rescanIds = Math.max(rescanIds, 0);
+        this.emailFilter = new BloomFilter(expectedInsertions, fpp);
+        this.phoneNumberFilter = new BloomFilter(expectedInsertions, fpp);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 끄면 채우지 않으므로 모든 조회가 DB로 간다.
+        if (!enabled) return;
+        int loaded = refresh();
+        ready = true;
+        log.info("user duplicate filter warmed users:{}", loaded);
+    }
+
+    // 다른 서버에서 가입한 회원 반영
+    @Scheduled(initialDelayString = "${user.duplicate-filter.refresh-interval-millis:5000}",
+            fixedDelayString = "${user.duplicate-filter.refresh-interval-millis:5000}")
+    public void refreshIfReady() {
+        if (ready) refresh();
+    }
+
+    @Override
+    public boolean mightExistEmail(String email) {
+        if (!ready || email == null) return true;
+        return emailFilter.mightContain(normalizeEmail(email));
+    }
+
+    @Override
+    public boolean mightExistPhoneNumber(String phoneNumber) {
+        if (!ready || phoneNumber == null) return true;
+        return phoneNumberFilter.mightContain(normalizePhoneNumber(phoneNumber));
+    }
+
+    @Override
+    public void add(String email, String phoneNumber) {
+        if (email != null) emailFilter.put(normalizeEmail(email));
+        if (phoneNumber != null) phoneNumberFilter.put(normalizePhoneNumber(phoneNumber));
+    }
+
+    @Override
+    public synchronized int refresh() {
+        int loaded = 0;
+        // 이미 넣은 연락처를 다시 넣어도 결과는 같다.
+        long afterId = Math.max(lastUserId - rescanIds, 0);
+        List<UserContact> contacts;
+        do {
+            contacts = userRepository.findContactsAfter(afterId, PageRequest.of(0, batchSize));
+            for (UserContact contact : contacts) {
+                add(contact.email(), contact.phoneNumber());
+                afterId = contact.id();
+            }
+            loaded += contacts.size();
+        } while (contacts.size() == batchSize);
+        lastUserId = Math.max(lastUserId, afterId);
+        return loaded;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizePhoneNumber(String phoneNumber) {
+        return phoneNumber.replaceAll("[^0-9]", "");
+    }
+}
@@ -1,6 +1,7 @@
 package com.bangguddle.ownbang.domain.video.controller;
 
 import com.bangguddle.ownbang.domain.video.dto.VideoSearchResponse;
+import com.bangguddle.ownbang.domain.video.dto.VideoStatusResponse;
 import com.bangguddle.ownbang.domain.video.service.VideoService;
 import com.bangguddle.ownbang.global.response.Response;
 import jakarta.validation.Valid;
@@ -22,4 +23,10 @@ public class VideoController {
                                                                   @PathVariable(name = "reservationId") @Positive @Valid Long reservationId){
         return Response.success(videoService.getVideo(userId, reservationId));
     }
+
+    @GetMapping("/{reservationId}/status")
+    public ResponseEntity<Response<VideoStatusResponse>> getVideoStatus(@AuthenticationPrincipal Long userId,
+                                                                        @PathVariable(name = "reservationId") @Positive @Valid Long reservationId){
+        return Response.success(videoService.getVideoStatus(userId, reservationId));
+    }
 }
@@ -18,7 +18,9 @@ public record VideoRecordRequest(
         String videoUrl,
 
         @NotNull
-        VideoStatus videoStatus
+        VideoStatus videoStatus,
+
+        String sessionId
 ) {
 
     public Video toEntity(Reservation reservation){
@@ -26,6 +28,7 @@ public record VideoRecordRequest(
                 .reservation(reservation)
                 .videoUrl(this.videoUrl)
                 .videoStatus(this.videoStatus)
+                .sessionId(this.sessionId)
                 .build();
     }
 }
\ No newline at end of file
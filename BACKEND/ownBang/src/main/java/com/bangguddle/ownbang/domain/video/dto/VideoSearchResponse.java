@@ -5,7 +5,8 @@ import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
 import lombok.Builder;
 
 @Builder
-public record VideoSearchResponse(Long videoId, Long reservationId, String videoUrl, VideoStatus videoStatus) {
+public record VideoSearchResponse(Long videoId, Long reservationId, String videoUrl, VideoStatus videoStatus,
+                                  String posterUrl, String thumbnailUrl) {
 
     static public VideoSearchResponse from(Video video) {
         return VideoSearchResponse.builder()
@@ -13,6 +14,8 @@ public record VideoSearchResponse(Long videoId, Long reservationId, String video
                 .reservationId(video.getReservation().getId())
                 .videoUrl(video.getVideoUrl())
                 .videoStatus(video.getVideoStatus())
+                .posterUrl(video.getPosterUrl())
+                .thumbnailUrl(video.getThumbnailUrl())
                 .build();
     }
 }
@@ -0,0 +1,22 @@
+package com.bangguddle.ownbang.domain.video.dto;
+
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import lombok.Builder;
+
+@Builder
+public record VideoStatusResponse(Long videoId, Long reservationId, VideoStatus videoStatus, String videoUrl,
+                                  StreamingProgress progress) {
+
+    static public VideoStatusResponse from(Video video, StreamingProgress progress) {
+        return VideoStatusResponse.builder()
+                .videoId(video.getId())
+                .reservationId(video.getReservation().getId())
+                .videoStatus(video.getVideoStatus())
+                // 녹화 중에는 url에 세션 ID가 들어있으므로 내보내지 않는다.
+                .videoUrl(video.getVideoStatus() == VideoStatus.RECORDING ? null : video.getVideoUrl())
+                .progress(progress)
+                .build();
+    }
+}
@@ -14,5 +14,9 @@ public record VideoUpdateRequest(
         String videoUrl,
 
         @NotNull
-        VideoStatus videoStatus
+        VideoStatus videoStatus,
+
+        String posterUrl,
+
+        String thumbnailUrl
 ) { }
\ No newline at end of file
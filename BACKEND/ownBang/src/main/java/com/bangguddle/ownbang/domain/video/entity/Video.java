@@ -29,15 +29,33 @@ public class Video {
     @Enumerated(EnumType.STRING)
     private VideoStatus videoStatus;
 
+    // 녹화된 Openvidu Session Id - 인코딩 중 videoUrl이 공개되어도 재처리할 수 있도록 따로 저장
+    private String sessionId;
+
+    // 대표 이미지와 탐색 미리보기용 WebVTT 썸네일 트랙
+    private String posterUrl;
+
+    private String thumbnailUrl;
+
     @Builder
-    public Video(Reservation reservation, String videoUrl, VideoStatus videoStatus){
+    public Video(Reservation reservation, String videoUrl, VideoStatus videoStatus, String sessionId){
         this.reservation = reservation;
         this.videoUrl = videoUrl;
         this.videoStatus = videoStatus;
+        this.sessionId = sessionId;
     }
 
     public void update(String videoUrl, VideoStatus videoStatus){
         this.videoUrl = videoUrl;
         this.videoStatus = videoStatus;
     }
+
+    public void updateVideoUrl(String videoUrl){
+        this.videoUrl = videoUrl;
+    }
+
+    public void updateThumbnails(String posterUrl, String thumbnailUrl){
+        this.posterUrl = posterUrl;
+        this.thumbnailUrl = thumbnailUrl;
+    }
 }
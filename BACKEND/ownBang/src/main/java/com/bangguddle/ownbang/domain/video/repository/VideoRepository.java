@@ -1,12 +1,18 @@
 package com.bangguddle.ownbang.domain.video.repository;
 
 import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
     Optional<Video> findByReservationId(Long reservationId);
+
+    Optional<Video> findBySessionId(String sessionId);
+
+    List<Video> findAllByVideoStatus(VideoStatus videoStatus);
 }
@@ -3,6 +3,7 @@ package com.bangguddle.ownbang.domain.video.service;
 
 import com.bangguddle.ownbang.domain.video.dto.VideoRecordRequest;
 import com.bangguddle.ownbang.domain.video.dto.VideoSearchResponse;
+import com.bangguddle.ownbang.domain.video.dto.VideoStatusResponse;
 import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
@@ -13,10 +14,16 @@ public interface VideoService {
     // 단건 조회 -> API 주 기능
     SuccessResponse<VideoSearchResponse> getVideo(Long userId, Long reservationId);
 
+    // 상태 조회 -> 인코딩 진행률 확인
+    SuccessResponse<VideoStatusResponse> getVideoStatus(Long userId, Long reservationId);
+
     // 단건 저장 -> Webrtc에서 호출 예정
     SuccessResponse<NoneResponse> registerVideo(@Valid VideoRecordRequest request);
 
     // 단건 수정 -> API 주 기능
     SuccessResponse<NoneResponse> modifyVideo(@Valid VideoUpdateRequest request, Long videoId);
 
+    // 인코딩 중 공개 -> Streaming에서 호출
+    SuccessResponse<NoneResponse> publishVideo(Long videoId, String videoUrl);
+
 }
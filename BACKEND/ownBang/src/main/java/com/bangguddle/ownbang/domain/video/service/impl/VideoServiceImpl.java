@@ -3,8 +3,11 @@ package com.bangguddle.ownbang.domain.video.service.impl;
 import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
 import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
 import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingProgressService;
 import com.bangguddle.ownbang.domain.video.dto.VideoRecordRequest;
 import com.bangguddle.ownbang.domain.video.dto.VideoSearchResponse;
+import com.bangguddle.ownbang.domain.video.dto.VideoStatusResponse;
 import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
 import com.bangguddle.ownbang.domain.video.entity.Video;
 import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
@@ -30,6 +33,7 @@ public class VideoServiceImpl implements VideoService {
 
     private final ReservationRepository reservationRepository;
     private final VideoRepository videoRepository;
+    private final StreamingProgressService streamingProgressService;
 
     /**
      * 녹화된 영상을 조회하는 메소드.<br/>
@@ -53,6 +57,31 @@ public class VideoServiceImpl implements VideoService {
         return new SuccessResponse<>(VIDEO_FIND_SUCCESS, VideoSearchResponse.from(video));
     }
 
+    /**
+     * 영상의 상태를 조회하는 메소드.<br/>
+     * 인코딩 중이면 변환 진행률과 남은 예상 시간을 함께 반환
+     * @param userId
+     * @param reservationId
+     * @return VideoStatusResponse
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SuccessResponse<VideoStatusResponse> getVideoStatus(final Long userId, final Long reservationId) {
+        // 영상 및 유저 유효성 검사
+        Video video = videoRepository.findByReservationId(reservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
+
+        if(!video.getReservation().getUser().getId().equals(userId)){
+            throw new AppException(ACCESS_DENIED);
+        }
+
+        StreamingProgress progress = video.getVideoStatus() == VideoStatus.ENCODING
+                ? streamingProgressService.getProgress(video.getId()).orElse(null)
+                : null;
+
+        return new SuccessResponse<>(VIDEO_STATUS_FIND_SUCCESS, VideoStatusResponse.from(video, progress));
+    }
+
     /**
      * 녹화 영상을 등록하는 메소드.<br/>
      * WebRTC Service에서 호출됨.
@@ -100,6 +129,31 @@ public class VideoServiceImpl implements VideoService {
 
         // 업데이트
         video.update(request.videoUrl(), request.videoStatus());
+        if (request.posterUrl() != null || request.thumbnailUrl() != null) {
+            video.updateThumbnails(request.posterUrl(), request.thumbnailUrl());
+        }
+        videoRepository.save(video);
+
+        return new SuccessResponse<>(VIDEO_UPDATE_SUCCESS,NoneResponse.NONE);
+    }
+
+    /**
+     * 인코딩이 끝나기 전에 재생 가능한 플레이리스트 URL을 먼저 공개하는 메소드 <br/>
+     * 기존 상태가 ENCODING 인 경우만 수정 가능
+     * @param videoId
+     * @param videoUrl
+     * @return NoneResponse
+     */
+    @Override
+    public SuccessResponse<NoneResponse> publishVideo(final Long videoId, final String videoUrl) {
+        // 유효성 검사
+        Video video = validateVideo(videoId);
+        if(video.getVideoStatus() != VideoStatus.ENCODING){
+            throw new AppException(BAD_REQUEST);
+        }
+
+        // 업데이트
+        video.updateVideoUrl(videoUrl);
         videoRepository.save(video);
 
         return new SuccessResponse<>(VIDEO_UPDATE_SUCCESS,NoneResponse.NONE);
@@ -3,6 +3,8 @@ package com.bangguddle.ownbang.domain.webrtc.controller;
 import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCreateTokenRequest;
 import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcRemoveTokenRequest;
 import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcTokenResponse;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcWebhookEvent;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcWebhookService;
 import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcAgentService;
 import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcUserService;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
@@ -10,6 +12,7 @@ import com.bangguddle.ownbang.global.response.Response;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,6 +27,7 @@ public class WebrtcController {
 
     private final WebrtcUserService webrtcUserService;
     private final WebrtcAgentService webrtcAgentService;
+    private final WebrtcWebhookService webrtcWebhookService;
 
     /**
      * reservationId를 통해 session과 connection을 생성하고<br/>
@@ -69,4 +73,20 @@ public class WebrtcController {
 
         return Response.success(response);
     }
+
+
+    /**
+     * Openvidu 웹훅을 수신합니다.<br/>
+     * Openvidu에 설정한 Authorization 헤더로 인증하며, 녹화가 준비(ready)되면 영상 변환을 등록합니다.
+     * @param authorization
+     * @param event
+     * @return Response NoneResponse
+     */
+    @PostMapping(value = "/webhook")
+    public ResponseEntity<Response<NoneResponse>> receiveWebhook(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                                                 @RequestBody WebrtcWebhookEvent event
+    ){
+        SuccessResponse<NoneResponse> response = webrtcWebhookService.receive(authorization, event);
+        return Response.success(response);
+    }
 }
@@ -0,0 +1,153 @@
+package com.bangguddle.ownbang.domain.webrtc.dto;
+
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.global.handler.AppException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.BAD_REQUEST;
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBRTC_TOKEN_DUPLICATED;
+
+/**
+ * 예약 한 건의 화상 통화 상태 (불변)<br/>
+ * 저장소의 compute 안에서 아래 전이 메서드로만 바뀌며, 허용되지 않는 전이는 AppException으로 거절합니다.<br/>
+ * 상태가 없는 것(null)은 통화가 없는 상태입니다.
+ *
+ * @param status      통화 상태
+ * @param sessionId   Openvidu session id, WARM/OPEN/RECORDING 일 때만 존재
+ * @param tokens      참여자 종류별 발급된 토큰
+ * @param recordingId 녹화 id, RECORDING/RECORDED 일 때만 존재
+ * @param version     저장할 때마다 1씩 증가
+ * @param updatedAt   마지막 저장 시각 (epoch millis)
+ */
+public record WebrtcCallState(
+        CallStatus status,
+        String sessionId,
+        Map<UserType, String> tokens,
+        String recordingId,
+        long version,
+        long updatedAt
+) {
+
+    public WebrtcCallState {
+        Objects.requireNonNull(status);
+        tokens = tokens == null ? Map.of() : Map.copyOf(tokens);
+    }
+
+    /**
+     * 없음 -> OPENING<br/>
+     * 세션을 만들던 서버가 응답 없이 openingTimeoutMillis 이상 지난 경우에는 다시 가져올 수 있습니다.
+     */
+    public static WebrtcCallState opening(WebrtcCallState current, long now, long openingTimeoutMillis) {
+        if (current != null
+                && !(current.status == CallStatus.OPENING && current.updatedAt + openingTimeoutMillis < now)) {
+            throw new AppException(BAD_REQUEST);
+        }
+        return new WebrtcCallState(CallStatus.OPENING, null, Map.of(), null, versionOf(current), now);
+    }
+
+    // OPENING -> 없음 (세션 생성 실패), 다른 상태는 그대로 둔다.
+    public static WebrtcCallState cancelOpening(WebrtcCallState current) {
+        return current != null && current.status == CallStatus.OPENING ? null : current;
+    }
+
+    /**
+     * 없음 -> OPEN (투어 모드: 직전 예약의 세션과 참여자 토큰을 이어받음)<br/>
+     * from은 세션이 열려 있고 녹화가 없는 상태여야 하며, 녹화 중이던 구간은 호출 전에 중지되어 있어야 합니다.
+     */
+    public static WebrtcCallState handover(WebrtcCallState current, WebrtcCallState from) {
+        if (current != null || from == null || !from.hasSession() || from.isWarm()) {
+            throw new AppException(BAD_REQUEST);
+        }
+        return new WebrtcCallState(CallStatus.OPEN, from.sessionId, from.tokens, null, 0, from.updatedAt);
+    }
+
+    public static long versionOf(WebrtcCallState state) {
+        return state == null ? 0 : state.version;
+    }
+
+    // OPENING -> OPEN
+    public WebrtcCallState open(String sessionId) {
+        if (status != CallStatus.OPENING) throw new AppException(BAD_REQUEST);
+        return with(CallStatus.OPEN, Objects.requireNonNull(sessionId), Map.of(), null);
+    }
+
+    // OPENING -> WARM (미리 준비한 세션)
+    public WebrtcCallState warm(String sessionId) {
+        if (status != CallStatus.OPENING) throw new AppException(BAD_REQUEST);
+        return with(CallStatus.WARM, Objects.requireNonNull(sessionId), Map.of(), null);
+    }
+
+    // WARM -> OPEN (중개인 입장), 미리 만든 토큰은 유지한다.
+    public WebrtcCallState claim() {
+        if (status != CallStatus.WARM) throw new AppException(BAD_REQUEST);
+        return with(CallStatus.OPEN, sessionId, tokens, null);
+    }
+
+    // WARM/OPEN/RECORDING 에서 참여자 토큰 추가
+    public WebrtcCallState withToken(UserType userType, String token) {
+        if (!hasSession()) throw new AppException(BAD_REQUEST);
+        if (tokens.containsKey(userType)) throw new AppException(WEBRTC_TOKEN_DUPLICATED);
+
+        Map<UserType, String> next = new EnumMap<>(UserType.class);
+        next.putAll(tokens);
+        next.put(userType, Objects.requireNonNull(token));
+        return with(status, sessionId, next, recordingId);
+    }
+
+    // WARM/OPEN/RECORDING 에서 저장된 토큰과 같을 때만 제거
+    public WebrtcCallState withoutToken(UserType userType, String token) {
+        if (!hasSession() || token == null || !token.equals(tokens.get(userType))) {
+            throw new AppException(BAD_REQUEST);
+        }
+
+        Map<UserType, String> next = new EnumMap<>(UserType.class);
+        next.putAll(tokens);
+        next.remove(userType);
+        return with(status, sessionId, next, recordingId);
+    }
+
+    // OPEN (참여자 2명) -> RECORDING
+    public WebrtcCallState recording(String recordingId) {
+        if (status != CallStatus.OPEN || tokens.size() != UserType.values().length) {
+            throw new AppException(BAD_REQUEST);
+        }
+        return with(CallStatus.RECORDING, sessionId, tokens, Objects.requireNonNull(recordingId));
+    }
+
+    // WARM/OPEN -> 없음, RECORDING -> RECORDED (녹화는 변환을 위해 남긴다)
+    public WebrtcCallState close() {
+        if (!hasSession()) throw new AppException(BAD_REQUEST);
+        return status == CallStatus.RECORDING ? with(CallStatus.RECORDED, null, Map.of(), recordingId) : null;
+    }
+
+    // RECORDING -> OPEN, RECORDED -> 없음 (녹화 id가 같을 때만)
+    public WebrtcCallState withoutRecording(String recordingId) {
+        if (!hasRecording() || !this.recordingId.equals(recordingId)) throw new AppException(BAD_REQUEST);
+        return status == CallStatus.RECORDING ? with(CallStatus.OPEN, sessionId, tokens, null) : null;
+    }
+
+    // 저장소가 저장 직전에 호출
+    public WebrtcCallState stamp(long version, long updatedAt) {
+        return new WebrtcCallState(status, sessionId, tokens, recordingId, version, updatedAt);
+    }
+
+    public boolean hasSession() {
+        return status == CallStatus.WARM || status == CallStatus.OPEN || status == CallStatus.RECORDING;
+    }
+
+    public boolean isWarm() {
+        return status == CallStatus.WARM;
+    }
+
+    public boolean hasRecording() {
+        return status == CallStatus.RECORDING || status == CallStatus.RECORDED;
+    }
+
+    private WebrtcCallState with(CallStatus status, String sessionId, Map<UserType, String> tokens, String recordingId) {
+        return new WebrtcCallState(status, sessionId, tokens, recordingId, version, updatedAt);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bangguddle.ownbang.domain.webrtc.dto;
+
+import lombok.Builder;
+
+/**
+ * 정리 작업 한 번에 회수한 자원
+ *
+ * @param closedSessions     닫은 통화 세션 (Openvidu에서 사라짐, 참여자 없음, 예약 시간 초과)
+ * @param abandonedOpenings  세션 생성 중 멈춘 상태
+ * @param stoppedRecordings  중지한 녹화
+ * @param enqueuedRecordings 변환을 등록한 녹화
+ * @param orphanSessions     통화 상태 없이 Openvidu에 남은 세션
+ * @param orphanRecordings   통화 상태 없이 진행 중이던 녹화
+ */
+@Builder
+public record WebrtcReapResult(
+        int closedSessions,
+        int abandonedOpenings,
+        int stoppedRecordings,
+        int enqueuedRecordings,
+        int orphanSessions,
+        int orphanRecordings
+) {
+    public static final WebrtcReapResult EMPTY = new WebrtcReapResult(0, 0, 0, 0, 0, 0);
+
+    public boolean isEmpty() {
+        return this.equals(EMPTY);
+    }
+}
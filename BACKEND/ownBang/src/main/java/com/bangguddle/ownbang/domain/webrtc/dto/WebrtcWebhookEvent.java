@@ -0,0 +1,23 @@
+package com.bangguddle.ownbang.domain.webrtc.dto;
+
+import lombok.Builder;
+
+/**
+ * Openvidu 웹훅 이벤트 (사용하는 필드만)
+ *
+ * @param event     이벤트 종류 (ex. recordingStatusChanged, sessionDestroyed)
+ * @param sessionId 세션 ID
+ * @param id        녹화 ID (recordingStatusChanged)
+ * @param status    녹화 상태 (recordingStatusChanged: started, stopped, ready, failed)
+ * @param reason    상태 변경/종료 사유
+ * @param timestamp 이벤트 발생 시각 (ms)
+ */
+@Builder
+public record WebrtcWebhookEvent(
+        String event,
+        String sessionId,
+        String id,
+        String status,
+        String reason,
+        Long timestamp
+) { }
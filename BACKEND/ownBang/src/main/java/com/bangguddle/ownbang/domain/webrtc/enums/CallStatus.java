@@ -0,0 +1,14 @@
+package com.bangguddle.ownbang.domain.webrtc.enums;
+
+/**
+ * 예약 한 건의 화상 통화 상태<br/>
+ * OPENING -> OPEN -> RECORDING -> RECORDED 순서로 진행하며, 통화가 끝나면 상태가 삭제된다.<br/>
+ * 미리 준비한 세션은 OPENING -> WARM 이 되고, 중개인이 입장하면 OPEN 으로 이어진다.
+ */
+public enum CallStatus {
+    OPENING,    // 한 서버가 Openvidu 세션을 만드는 중 (다른 요청의 세션 생성을 막음)
+    WARM,       // 예약 시작 전에 미리 만든 세션 (중개인 입장 전, 임차인은 아직 입장 불가)
+    OPEN,       // 세션 생성 완료, 토큰 발급 가능
+    RECORDING,  // 녹화 진행 중
+    RECORDED    // 세션 종료 후 녹화만 남음 (변환 후 녹화 삭제 시 상태 삭제)
+}
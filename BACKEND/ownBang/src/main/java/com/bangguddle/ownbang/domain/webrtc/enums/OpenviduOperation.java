@@ -0,0 +1,17 @@
+package com.bangguddle.ownbang.domain.webrtc.enums;
+
+/**
+ * Openvidu 서버 호출 종류 (작업별 제한 시간, 지표 태그)
+ */
+public enum OpenviduOperation {
+    CREATE_SESSION,
+    CLOSE_SESSION,
+    CREATE_CONNECTION,
+    FORCE_DISCONNECT,
+    FETCH,
+    START_RECORDING,
+    STOP_RECORDING,
+    GET_RECORDING,
+    LIST_RECORDINGS,
+    DELETE_RECORDING
+}
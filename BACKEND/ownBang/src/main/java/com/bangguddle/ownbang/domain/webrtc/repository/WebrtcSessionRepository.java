@@ -0,0 +1,33 @@
+package com.bangguddle.ownbang.domain.webrtc.repository;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * 예약별 화상 통화 상태 저장소<br/>
+ * 상태는 compute 로만 바뀌므로, 확인 후 변경 사이에 다른 요청(다른 서버 포함)이 끼어들 수 없습니다.
+ */
+public interface WebrtcSessionRepository {
+
+    Optional<WebrtcCallState> findByReservationId(Long reservationId);
+
+    Optional<Long> findReservationIdByRecordingId(String recordingId);
+
+    // Openvidu 세션을 쓰고 있는 예약 id (투어 모드에서는 세션을 이어받은 예약)
+    Optional<Long> findReservationIdBySessionId(String sessionId);
+
+    // 상태가 저장된 모든 예약 id (정리 작업 용)
+    List<Long> findAllReservationIds();
+
+    /**
+     * 현재 상태(없으면 null)에 전이를 원자적으로 적용합니다.<br/>
+     * 전이가 null을 반환하면 상태를 삭제하고, 같은 객체를 반환하면 아무것도 저장하지 않습니다.<br/>
+     * 전이가 던진 예외는 저장 없이 그대로 전달되며, 전이는 경합 시 여러 번 호출될 수 있으므로 부수 효과가 없어야 합니다.
+     *
+     * @return 적용 후 상태
+     */
+    Optional<WebrtcCallState> compute(Long reservationId, UnaryOperator<WebrtcCallState> transition);
+}
@@ -0,0 +1,57 @@
+package com.bangguddle.ownbang.domain.webrtc.repository.impl;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 서버 한 대로 운영할 때 쓰는 메모리 저장소 (webrtc.session.registry=local)
+ */
+@Repository
+@ConditionalOnProperty(name = "webrtc.session.registry", havingValue = "local")
+public class LocalWebrtcSessionRepositoryImpl implements WebrtcSessionRepository {
+
+    private final Map<Long, WebrtcCallState> mapCallStates = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<WebrtcCallState> findByReservationId(Long reservationId) {
+        return Optional.ofNullable(mapCallStates.get(reservationId));
+    }
+
+    @Override
+    public Optional<Long> findReservationIdByRecordingId(String recordingId) {
+        return mapCallStates.entrySet().stream()
+                .filter(entry -> recordingId.equals(entry.getValue().recordingId()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Long> findReservationIdBySessionId(String sessionId) {
+        return mapCallStates.entrySet().stream()
+                .filter(entry -> sessionId.equals(entry.getValue().sessionId()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    @Override
+    public List<Long> findAllReservationIds() {
+        return List.copyOf(mapCallStates.keySet());
+    }
+
+    @Override
+    public Optional<WebrtcCallState> compute(Long reservationId, UnaryOperator<WebrtcCallState> transition) {
+        return Optional.ofNullable(mapCallStates.compute(reservationId, (id, current) -> {
+            WebrtcCallState next = transition.apply(current);
+            if (next == null || next == current) return next;
+            return next.stamp(WebrtcCallState.versionOf(current) + 1, System.currentTimeMillis());
+        }));
+    }
+}
@@ -0,0 +1,270 @@
+package com.bangguddle.ownbang.domain.webrtc.repository.impl;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.global.handler.AppException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBRTC_STATE_CONFLICT;
+
+/**
+ * Redis에 예약별 통화 상태를 저장하여 여러 API 서버가 공유합니다.<br/>
+ * 상태는 해시(WEBRTC_SESSION_{예약 id}) 하나에 TTL과 함께 저장하고, 녹화 id -> 예약 id 역인덱스를 둡니다.<br/>
+ * compute 는 version 필드로 낙관적 잠금을 하여, 읽은 뒤 다른 서버가 바꿨으면 다시 읽고 전이를 다시 적용합니다.<br/>
+ * 조회 결과는 서버별 근거리 캐시에 잠깐 보관하고, 쓰기가 일어나면 pub/sub 으로 모든 서버의 캐시를 비웁니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "webrtc.session.registry", havingValue = "redis", matchIfMissing = true)
+public class RedisWebrtcSessionRepositoryImpl implements WebrtcSessionRepository, MessageListener {
+
+    private static final String SESSION_KEY_PREFIX = "WEBRTC_SESSION_";
+    private static final String RECORDING_ID_KEY_PREFIX = "WEBRTC_RECORDING_ID_";
+    private static final String SESSION_KEYS_KEY = "WEBRTC_CALL_STATE_KEYS";
+    private static final String INVALIDATE_CHANNEL = "WEBRTC_SESSION_INVALIDATE";
+    private static final String STATUS_FIELD = "status";
+    private static final String SESSION_ID_FIELD = "sessionId";
+    private static final String RECORDING_ID_FIELD = "recordingId";
+    private static final String VERSION_FIELD = "version";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+    private static final String TOKEN_FIELD_PREFIX = "token:";
+    private static final int MAX_COMPUTE_ATTEMPTS = 16;
+
+    /*
+     * 저장된 version이 읽을 때와 같을 때만 해시를 새 상태로 바꾸고 녹화 역인덱스를 맞춘다.
+     * KEYS[1] 상태 해시, KEYS[2] 상태 해시 키 집합, KEYS[3] 이전 녹화 역인덱스, KEYS[4] 새 녹화 역인덱스
+     * ARGV[1] 읽을 때의 version (없으면 0), ARGV[2] TTL,
+     * ARGV[3] 이전 녹화 id, ARGV[4] 새 녹화 id (없으면 빈 문자열), ARGV[5] 예약 id,
+     * ARGV[6..] 새 상태의 field, value 목록 (없으면 삭제)
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('HGET', KEYS[1], 'version') or '0'
+            if version ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 5 then
+                redis.call('HSET', KEYS[1], unpack(ARGV, 6))
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                redis.call('SADD', KEYS[2], KEYS[1])
+            else
+                redis.call('SREM', KEYS[2], KEYS[1])
+            end
+            if ARGV[3] ~= ARGV[4] then
+                if ARGV[3] ~= '' then redis.call('DEL', KEYS[3]) end
+                if ARGV[4] ~= '' then redis.call('SET', KEYS[4], ARGV[5], 'EX', ARGV[2]) end
+            elseif ARGV[4] ~= '' then
+                redis.call('EXPIRE', KEYS[4], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+     * TTL로 사라진 상태 해시 키를 집합에서 지우고 남은 키를 반환한다.
+     * KEYS[1] 상태 해시 키 집합, KEYS[2..] 집합에서 읽은 상태 해시 키
+     */
+    private static final RedisScript<List> FIND_ALL_SESSION_KEYS_SCRIPT = new DefaultRedisScript<>("""
+            local keys = {}
+            for i = 2, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    table.insert(keys, KEYS[i])
+                else
+                    redis.call('SREM', KEYS[1], KEYS[i])
+                end
+            end
+            return keys
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<Long, CachedState> mapNearCache = new ConcurrentHashMap<>();
+    // 캐시를 비울 때마다 증가, 조회 중에 무효화가 일어났으면 조회 결과를 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${webrtc.session.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    @Value("${webrtc.session.near-cache-millis:1000}")
+    private long nearCacheMillis;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public Optional<WebrtcCallState> findByReservationId(Long reservationId) {
+        long now = System.currentTimeMillis();
+        CachedState cached = mapNearCache.get(reservationId);
+        if (cached != null && cached.expiresAt() > now) return cached.state();
+
+        long generation = invalidations.get();
+        Optional<WebrtcCallState> state = load(reservationId);
+        if (nearCacheMillis > 0 && invalidations.get() == generation) {
+            mapNearCache.put(reservationId, new CachedState(state, now + nearCacheMillis));
+        }
+        return state;
+    }
+
+    @Override
+    public Optional<Long> findReservationIdByRecordingId(String recordingId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(getRecordingIdKey(recordingId)))
+                .map(Long::valueOf);
+    }
+
+    // 세션 id 역인덱스는 두지 않고 상태가 있는 예약을 훑는다. (웹훅의 세션 종료 이벤트에서만 사용)
+    @Override
+    public Optional<Long> findReservationIdBySessionId(String sessionId) {
+        return findAllReservationIds().stream()
+                .filter(reservationId -> load(reservationId)
+                        .map(state -> sessionId.equals(state.sessionId()))
+                        .orElse(false))
+                .findFirst();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findAllReservationIds() {
+        // 집합에는 상태 해시 키 자체를 저장하므로, 스크립트가 확인할 키를 모두 KEYS로 넘길 수 있다.
+        Set<String> members = redisTemplate.opsForSet().members(SESSION_KEYS_KEY);
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<String> keys = new ArrayList<>(members.size() + 1);
+        keys.add(SESSION_KEYS_KEY);
+        keys.addAll(members);
+        List<String> sessionKeys = redisTemplate.execute(FIND_ALL_SESSION_KEYS_SCRIPT, keys);
+        return sessionKeys == null ? List.of() : sessionKeys.stream()
+                .map(key -> Long.valueOf(key.substring(SESSION_KEY_PREFIX.length())))
+                .toList();
+    }
+
+    @Override
+    public Optional<WebrtcCallState> compute(Long reservationId, UnaryOperator<WebrtcCallState> transition) {
+        for (int attempt = 0; attempt < MAX_COMPUTE_ATTEMPTS; attempt++) {
+            // 근거리 캐시는 오래된 값일 수 있으므로 항상 Redis에서 읽는다.
+            WebrtcCallState current = load(reservationId).orElse(null);
+            WebrtcCallState next = transition.apply(current);
+            if (next == current) return Optional.ofNullable(current);
+            if (next != null) next = next.stamp(WebrtcCallState.versionOf(current) + 1, System.currentTimeMillis());
+
+            String currentRecordingId = recordingIdOf(current);
+            String nextRecordingId = recordingIdOf(next);
+            List<String> args = new ArrayList<>(List.of(
+                    String.valueOf(WebrtcCallState.versionOf(current)),
+                    String.valueOf(ttlSeconds),
+                    currentRecordingId,
+                    nextRecordingId,
+                    String.valueOf(reservationId)));
+            if (next != null) args.addAll(toFields(next));
+
+            // 스크립트가 건드리는 키는 모두 KEYS로 넘긴다. (녹화 id가 없으면 쓰이지 않는 접두사 키)
+            Long saved = redisTemplate.execute(COMPARE_AND_SET_SCRIPT,
+                    List.of(getSessionKey(reservationId), SESSION_KEYS_KEY,
+                            getRecordingIdKey(currentRecordingId), getRecordingIdKey(nextRecordingId)),
+                    args.toArray());
+            if (saved != null && saved > 0) {
+                invalidate(reservationId);
+                return Optional.ofNullable(next);
+            }
+        }
+        log.warn("Webrtc call state compute conflict reservationId:{}", reservationId);
+        throw new AppException(WEBRTC_STATE_CONFLICT);
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 무효화 메시지를 받아 근거리 캐시를 비웁니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid webrtc session invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private Optional<WebrtcCallState> load(Long reservationId) {
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        Map<String, String> hash = hashOperations.entries(getSessionKey(reservationId));
+        if (hash.isEmpty() || !hash.containsKey(STATUS_FIELD)) return Optional.empty();
+
+        Map<UserType, String> tokens = new EnumMap<>(UserType.class);
+        for (UserType userType : UserType.values()) {
+            String token = hash.get(getTokenField(userType));
+            if (token != null) tokens.put(userType, token);
+        }
+        return Optional.of(new WebrtcCallState(
+                CallStatus.valueOf(hash.get(STATUS_FIELD)),
+                hash.get(SESSION_ID_FIELD),
+                tokens,
+                hash.get(RECORDING_ID_FIELD),
+                Long.parseLong(hash.getOrDefault(VERSION_FIELD, "0")),
+                Long.parseLong(hash.getOrDefault(UPDATED_AT_FIELD, "0"))));
+    }
+
+    private List<String> toFields(WebrtcCallState state) {
+        List<String> fields = new ArrayList<>(List.of(
+                STATUS_FIELD, state.status().name(),
+                VERSION_FIELD, String.valueOf(state.version()),
+                UPDATED_AT_FIELD, String.valueOf(state.updatedAt())));
+        if (state.sessionId() != null) fields.addAll(List.of(SESSION_ID_FIELD, state.sessionId()));
+        if (state.recordingId() != null) fields.addAll(List.of(RECORDING_ID_FIELD, state.recordingId()));
+        state.tokens().forEach((userType, token) -> fields.addAll(List.of(getTokenField(userType), token)));
+        return fields;
+    }
+
+    private String recordingIdOf(WebrtcCallState state) {
+        return state == null || state.recordingId() == null ? "" : state.recordingId();
+    }
+
+    // 자신의 캐시는 바로 비우고, 다른 서버에는 메시지로 알린다.
+    private void invalidate(Long reservationId) {
+        evict(reservationId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(reservationId));
+        } catch (Exception e) {
+            // 메시지를 놓친 서버도 near-cache-millis 뒤에는 다시 조회한다.
+            log.warn("Webrtc session invalidation publish failed reservationId:{} - {}", reservationId, e.getMessage());
+        }
+    }
+
+    private void evict(Long reservationId) {
+        invalidations.incrementAndGet();
+        mapNearCache.remove(reservationId);
+    }
+
+    private String getSessionKey(Long reservationId) {
+        return SESSION_KEY_PREFIX + reservationId;
+    }
+
+    private String getRecordingIdKey(String recordingId) {
+        return RECORDING_ID_KEY_PREFIX + recordingId;
+    }
+
+    private String getTokenField(UserType userType) {
+        return TOKEN_FIELD_PREFIX + userType.name();
+    }
+
+    private record CachedState(Optional<WebrtcCallState> state, long expiresAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
+import io.openvidu.java.client.OpenViduHttpException;
+import io.openvidu.java.client.OpenViduJavaClientException;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OpenviduClientService {
+
+    // 전용 스레드에서 Openvidu를 호출 -> 제한 시간이 지나거나 서버 장애로 차단 중이면 바로 실패하는 future 반환
+    <T> CompletableFuture<T> submit(OpenviduOperation operation, OpenviduCall<T> call);
+
+    // submit 후 결과를 기다림, 제한 시간 초과/차단은 WEBRTC_MEDIA_SERVER_UNAVAILABLE
+    <T> T execute(OpenviduOperation operation, OpenviduCall<T> call) throws OpenViduJavaClientException, OpenViduHttpException;
+
+    // 서버 장애로 호출을 차단 중이면 false
+    boolean isAvailable();
+
+    @FunctionalInterface
+    interface OpenviduCall<T> {
+        T call() throws OpenViduJavaClientException, OpenViduHttpException;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+public interface WebrtcPrewarmService {
+
+    // 곧 시작하는 확정 예약의 세션을 미리 만들고, 새로 준비한 세션 수를 반환
+    int prewarm();
+}
@@ -0,0 +1,9 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcReapResult;
+
+public interface WebrtcReaperService {
+
+    // 통화 상태를 Openvidu와 예약 시간에 맞춰 정리하고, 회수한 자원을 반환
+    WebrtcReapResult reap();
+}
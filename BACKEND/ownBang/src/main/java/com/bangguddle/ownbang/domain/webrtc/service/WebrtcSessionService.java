@@ -11,6 +11,16 @@ public interface WebrtcSessionService {
     Optional<Session> getSession(Long reservationId);
     Optional<Session> createSession(Long reservationId);
     Optional<Session> removeSession(Long reservationId);
+    // 예약 시작 전에 세션(과 중개인 토큰)을 미리 만들어 WARM 상태로 둠, 이미 통화 상태가 있으면 false
+    boolean prewarmSession(Long reservationId, boolean withAgentToken);
+    // 미리 준비된 세션을 OPEN으로 바꾸고 userType의 토큰 반환, 준비된 세션이 없으면 빈 값
+    Optional<String> claimWarmSession(Long reservationId, UserType userType);
+    // 투어 모드: from 예약의 세션과 토큰을 to 예약으로 넘기고 from의 통화 상태를 닫음 (Openvidu 세션은 유지), to의 userType 토큰 반환
+    Optional<String> handoverSession(Long fromReservationId, Long toReservationId, UserType userType);
+    // 정리 작업 용: 상태의 세션이 sessionId일 때만 상태를 닫고 Openvidu 세션도 닫음, 이 호출이 닫았으면 true
+    boolean closeSession(Long reservationId, String sessionId);
+    // 화상 통화 서버 장애로 호출을 차단 중이면 WEBRTC_MEDIA_SERVER_UNAVAILABLE
+    void validateMediaServer();
 
     Optional<String> getToken(Long reservationId, UserType userType);
     Optional<String> createToken(Long reservationId, UserType userType);
@@ -20,4 +30,5 @@ public interface WebrtcSessionService {
     Optional<Recording> getRecord(Long reservationId);
     Optional<Recording> stopRecord(Long reservationId);
     Optional<Recording> deleteRecord(Long reservationId);
+    void deleteRecordById(String recordingId);
 }
@@ -0,0 +1,9 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import java.util.Optional;
+
+public interface WebrtcTourService {
+
+    // 같은 중개인/임차인의 직전 예약 통화가 이어지고 있으면 그 세션을 넘겨받고 중개인 토큰 반환, 없으면 빈 값
+    Optional<String> continueTour(Long reservationId);
+}
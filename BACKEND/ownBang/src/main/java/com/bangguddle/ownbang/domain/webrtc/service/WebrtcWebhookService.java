@@ -0,0 +1,11 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcWebhookEvent;
+import com.bangguddle.ownbang.global.enums.NoneResponse;
+import com.bangguddle.ownbang.global.response.SuccessResponse;
+
+public interface WebrtcWebhookService {
+
+    // Openvidu 웹훅 수신 -> 인증 후 녹화 완료(ready)면 변환 등록, 세션 종료면 통화 상태 정리
+    SuccessResponse<NoneResponse> receive(String authorization, WebrtcWebhookEvent event);
+}
@@ -0,0 +1,188 @@
+package com.bangguddle.ownbang.domain.webrtc.service.impl;
+
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
+import com.bangguddle.ownbang.domain.webrtc.service.OpenviduClientService;
+import com.bangguddle.ownbang.global.config.openvidu.OpenviduClientProperties;
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.utils.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.openvidu.java.client.OpenViduHttpException;
+import io.openvidu.java.client.OpenViduJavaClientException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBRTC_MEDIA_SERVER_UNAVAILABLE;
+
+/**
+ * Openvidu 호출을 요청 스레드에서 분리합니다.<br/>
+ * - 크기가 정해진 전용 스레드 풀과 대기열(bulkhead)에서 호출하여, 대기열이 차면 바로 실패하고<br/>
+ * - 작업별 제한 시간이 지나면 호출을 기다리지 않으며<br/>
+ * - 5xx 응답, 연결 실패, 시간 초과가 연속되면 서킷 브레이커가 일정 시간 호출을 차단합니다.<br/>
+ * 4xx 응답은 서버가 정상 응답한 것이므로 장애로 세지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenviduClientServiceImpl implements OpenviduClientService {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_CLIENT_ERROR = "client_error";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+    private static final String OUTCOME_REJECTED = "rejected";
+    private static final String OUTCOME_SHORT_CIRCUITED = "short_circuited";
+
+    private final OpenviduClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(properties.poolSize(), properties.poolSize(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(properties.queueCapacity(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "openvidu-client-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openMillis(), System::currentTimeMillis);
+
+        Gauge.builder("webrtc.openvidu.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Openvidu를 호출 중인 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("webrtc.openvidu.bulkhead.queued", executor, pool -> pool.getQueue().size())
+                .description("스레드를 기다리는 Openvidu 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("webrtc.openvidu.bulkhead.available", executor, pool -> pool.getQueue().remainingCapacity())
+                .description("Openvidu 호출 대기열의 남은 자리")
+                .register(meterRegistry);
+        Gauge.builder("webrtc.openvidu.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Openvidu 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(final OpenviduOperation operation, final OpenviduCall<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            count(operation, OUTCOME_SHORT_CIRCUITED);
+            return CompletableFuture.failedFuture(new AppException(WEBRTC_MEDIA_SERVER_UNAVAILABLE));
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        long startedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(operation, call, future, settled, startedAt));
+        } catch (RejectedExecutionException e) {
+            // 서버에 닿지 않은 호출이므로 장애로 세지 않는다.
+            circuitBreaker.onIgnored();
+            count(operation, OUTCOME_REJECTED);
+            return CompletableFuture.failedFuture(new AppException(WEBRTC_MEDIA_SERVER_UNAVAILABLE));
+        }
+
+        CompletableFuture.delayedExecutor(properties.getTimeoutMillis(operation), TimeUnit.MILLISECONDS).execute(() -> {
+            if (!settled.compareAndSet(false, true)) return;
+            log.warn("Openvidu call timed out operation:{}", operation);
+            circuitBreaker.onFailure();
+            record(operation, OUTCOME_TIMEOUT, startedAt);
+            future.completeExceptionally(new TimeoutException());
+        });
+        return future;
+    }
+
+    @Override
+    public <T> T execute(final OpenviduOperation operation, final OpenviduCall<T> call)
+            throws OpenViduJavaClientException, OpenViduHttpException {
+        try {
+            return submit(operation, call).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof OpenViduHttpException httpException) throw httpException;
+            if (cause instanceof OpenViduJavaClientException clientException) throw clientException;
+            if (cause instanceof TimeoutException) throw new AppException(WEBRTC_MEDIA_SERVER_UNAVAILABLE);
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new AppException(INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(WEBRTC_MEDIA_SERVER_UNAVAILABLE);
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted();
+    }
+
+    /**
+     * 호출 결과와 시간 초과 중 먼저 settled를 가져간 쪽만 반영합니다. (시간 초과로 끝난 호출의 늦은 결과는 무시)<br/>
+     * 서킷 브레이커와 지표를 먼저 갱신한 뒤 future를 완료하여, 호출자의 다음 호출이 이 결과를 반영한 상태를 보게 합니다.
+     */
+    private <T> void run(OpenviduOperation operation, OpenviduCall<T> call, CompletableFuture<T> future,
+                         AtomicBoolean settled, long startedAt) {
+        // 대기열에서 기다리다 시간이 초과된 호출은 실행하지 않는다.
+        if (settled.get()) return;
+        try {
+            T result = call.call();
+            if (!settled.compareAndSet(false, true)) return;
+            circuitBreaker.onSuccess();
+            record(operation, OUTCOME_SUCCESS, startedAt);
+            future.complete(result);
+        } catch (OpenViduHttpException e) {
+            if (!settled.compareAndSet(false, true)) return;
+            if (e.getStatus() >= 500) {
+                circuitBreaker.onFailure();
+                record(operation, OUTCOME_FAILURE, startedAt);
+            } else {
+                circuitBreaker.onSuccess();
+                record(operation, OUTCOME_CLIENT_ERROR, startedAt);
+            }
+            future.completeExceptionally(e);
+        } catch (Throwable e) {
+            if (!settled.compareAndSet(false, true)) return;
+            circuitBreaker.onFailure();
+            record(operation, OUTCOME_FAILURE, startedAt);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void record(OpenviduOperation operation, String outcome, long startedAt) {
+        count(operation, outcome);
+        Timer.builder("webrtc.openvidu.call.duration")
+                .description("Openvidu 호출 시간")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void count(OpenviduOperation operation, String outcome) {
+        Counter.builder("webrtc.openvidu.calls")
+                .description("Openvidu 호출 수")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
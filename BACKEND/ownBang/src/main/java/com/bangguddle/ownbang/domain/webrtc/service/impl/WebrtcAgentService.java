@@ -16,13 +16,17 @@ import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcTokenResponse;
 import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
 import com.bangguddle.ownbang.domain.webrtc.service.WebrtcService;
 import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcTourService;
 import com.bangguddle.ownbang.global.enums.NoneResponse;
 import com.bangguddle.ownbang.global.handler.AppException;
 import com.bangguddle.ownbang.global.response.SuccessResponse;
 import io.openvidu.java.client.Recording;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 import static com.bangguddle.ownbang.global.enums.ErrorCode.*;
 import static com.bangguddle.ownbang.global.enums.SuccessCode.GET_TOKEN_SUCCESS;
 import static com.bangguddle.ownbang.global.enums.SuccessCode.REMOVE_TOKEN_SUCCESS;
@@ -37,6 +41,15 @@ public class WebrtcAgentService implements WebrtcService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
+    private final WebrtcTourService webrtcTourService;
+
+    // true면 녹화 변환은 Openvidu 웹훅(녹화 ready)에서 등록한다.
+    @Value("${webrtc.webhook.enabled:false}")
+    private boolean webhookEnabled;
+
+    // true면 같은 중개인/임차인의 연속된 예약은 직전 예약의 세션을 이어서 사용한다.
+    @Value("${webrtc.tour.enabled:false}")
+    private boolean tourEnabled;
 
     @Override
     public SuccessResponse<WebrtcTokenResponse> getToken(WebrtcCreateTokenRequest request, final Long userId) {
@@ -47,6 +60,9 @@ public class WebrtcAgentService implements WebrtcService {
         Long reservationId = request.reservationId();
         validateReservationAndUser(reservationId, userId);
 
+        // 화상 통화 서버 상태 확인
+        webrtcSessionService.validateMediaServer();
+
         // session 중복 검사
         webrtcSessionService.getSession(reservationId)
                 .ifPresent(i -> {throw new AppException(WEBRTC_SESSION_DUPLICATED);});
@@ -55,6 +71,20 @@ public class WebrtcAgentService implements WebrtcService {
         videoRepository.findByReservationId(reservationId)
                 .ifPresent(i -> {throw new AppException(WEBRTC_SESSION_CLOSED);});
 
+        // 투어 모드: 직전 예약의 통화가 이어지고 있으면 같은 세션에서 녹화 구간만 바꾼다.
+        if (tourEnabled) {
+            Optional<String> tourToken = webrtcTourService.continueTour(reservationId);
+            if (tourToken.isPresent()) {
+                return new SuccessResponse<>(GET_TOKEN_SUCCESS, new WebrtcTokenResponse(tourToken.get(), 0l));
+            }
+        }
+
+        // 미리 준비된 세션이 있으면 Openvidu 호출 없이 입장
+        Optional<String> warmToken = webrtcSessionService.claimWarmSession(reservationId, UserType.ROLE_AGENT);
+        if (warmToken.isPresent()) {
+            return new SuccessResponse<>(GET_TOKEN_SUCCESS, new WebrtcTokenResponse(warmToken.get(), 0l));
+        }
+
         // session 생성
         webrtcSessionService.createSession(reservationId);
 
@@ -75,6 +105,9 @@ public class WebrtcAgentService implements WebrtcService {
         Long reservationId = request.reservationId();
         validateReservationAndUser(reservationId, userId);
 
+        // 화상 통화 서버 상태 확인
+        webrtcSessionService.validateMediaServer();
+
         // session 유효성 검사
         webrtcSessionService.getSession(reservationId).orElseThrow(
                 () -> new AppException(BAD_REQUEST));
@@ -113,8 +146,10 @@ public class WebrtcAgentService implements WebrtcService {
                         .build();
         videoService.modifyVideo(videoUpdateRequest, video.getId());
 
-        // record hls 변환
-        streamingService.uploadStreaming(reservationId, recording.getSessionId());
+        // record hls 변환 (웹훅 사용 시 녹화 파일이 준비되면 웹훅에서 등록, 웹훅을 놓치면 정리 작업(reaper)이 등록)
+        if (!webhookEnabled) {
+            streamingService.uploadStreaming(reservationId, recording.getId());
+        }
 
         // response 반환
         return new SuccessResponse<>(REMOVE_TOKEN_SUCCESS, NoneResponse.NONE);
@@ -0,0 +1,98 @@
+package com.bangguddle.ownbang.domain.webrtc.service.impl;
+
+import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
+import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.service.OpenviduClientService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcPrewarmService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * lead-minutes 안에 시작하는 확정 예약의 Openvidu 세션(과 중개인 토큰)을 미리 만들어,<br/>
+ * 중개인이 입장할 때 세션/연결 생성을 기다리지 않도록 합니다.<br/>
+ * - 한 번에 budget-per-run 개, 전체 max-warm-sessions 개까지만 준비하며<br/>
+ * - Openvidu 호출이 차단 중이면 건너뛰고<br/>
+ * - 쓰이지 않은 세션은 정리 작업(reaper)이 ttl-minutes 후 닫습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "webrtc.prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class WebrtcPrewarmServiceImpl implements WebrtcPrewarmService {
+
+    private final ReservationRepository reservationRepository;
+    private final VideoRepository videoRepository;
+    private final WebrtcSessionService webrtcSessionService;
+    private final WebrtcSessionRepository webrtcSessionRepository;
+    private final OpenviduClientService openviduClientService;
+    private final MeterRegistry meterRegistry;
+
+    // 예약 시각 몇 분 전부터 세션을 준비할지
+    @Value("${webrtc.prewarm.lead-minutes:10}")
+    private long leadMinutes;
+
+    @Value("${webrtc.prewarm.budget-per-run:10}")
+    private int budgetPerRun;
+
+    @Value("${webrtc.prewarm.max-warm-sessions:50}")
+    private int maxWarmSessions;
+
+    // true면 중개인 연결(토큰)까지 미리 만든다.
+    @Value("${webrtc.prewarm.agent-token:true}")
+    private boolean agentToken;
+
+    @Override
+    @Scheduled(initialDelayString = "${webrtc.prewarm.interval-millis:60000}",
+            fixedDelayString = "${webrtc.prewarm.interval-millis:60000}")
+    public int prewarm() {
+        if (!openviduClientService.isAvailable()) return 0;
+
+        int budget = Math.min(budgetPerRun, maxWarmSessions - countWarmSessions());
+        if (budget <= 0) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = reservationRepository.findByStatusAndReservationTimeBetweenOrderByReservationTimeAsc(
+                ReservationStatus.CONFIRMED, now, now.plusMinutes(leadMinutes));
+
+        int warmed = 0;
+        for (Reservation reservation : reservations) {
+            if (warmed >= budget || !openviduClientService.isAvailable()) break;
+            Long reservationId = reservation.getId();
+            // 이미 통화 상태가 있거나 통화가 끝난 예약
+            if (webrtcSessionRepository.findByReservationId(reservationId).isPresent()
+                    || videoRepository.findByReservationId(reservationId).isPresent()) continue;
+
+            if (webrtcSessionService.prewarmSession(reservationId, agentToken)) warmed++;
+        }
+
+        if (warmed > 0) {
+            log.info("webrtc prewarm created {} sessions", warmed);
+            Counter.builder("webrtc.prewarm.sessions")
+                    .description("미리 만든 화상 통화 세션 수")
+                    .register(meterRegistry)
+                    .increment(warmed);
+        }
+        return warmed;
+    }
+
+    private int countWarmSessions() {
+        return (int) webrtcSessionRepository.findAllReservationIds().stream()
+                .map(webrtcSessionRepository::findByReservationId)
+                .filter(state -> state.filter(WebrtcCallState::isWarm).isPresent())
+                .count();
+    }
+}
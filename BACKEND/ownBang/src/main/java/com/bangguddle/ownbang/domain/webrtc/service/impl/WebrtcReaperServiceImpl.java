@@ -0,0 +1,295 @@
+package com.bangguddle.ownbang.domain.webrtc.service.impl;
+
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.video.service.VideoService;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcReapResult;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.service.OpenviduClientService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcReaperService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openvidu.java.client.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 참여자 브라우저가 종료 요청 없이 사라져 남은 통화를 주기적으로 정리합니다.<br/>
+ * 통화 상태를 Openvidu의 활성 세션/녹화 목록, 예약 시간과 비교하여<br/>
+ * - Openvidu에서 사라졌거나, 참여자 없이 idle-timeout 이 지났거나, 예약 시간이 지난 세션을 닫고<br/>
+ * - 녹화 중이었으면 녹화를 중지하고 변환을 등록하며<br/>
+ * - 통화 상태 없이 Openvidu에 남은 세션과 녹화도 회수합니다.<br/>
+ * 상태 변경은 모두 compute 전이로 하므로 여러 서버에서 동시에 수행해도 한 서버만 정리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "webrtc.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class WebrtcReaperServiceImpl implements WebrtcReaperService {
+
+    private static final Set<Recording.Status> RUNNING_RECORDING = EnumSet.of(Recording.Status.starting, Recording.Status.started);
+
+    private final OpenVidu openVidu;
+    private final OpenviduClientService openviduClientService;
+    private final WebrtcSessionService webrtcSessionService;
+    private final WebrtcSessionRepository webrtcSessionRepository;
+    private final ReservationRepository reservationRepository;
+    private final VideoRepository videoRepository;
+    private final VideoService videoService;
+    private final StreamingService streamingService;
+    private final StreamingJobRepository streamingJobRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 참여자가 모두 나간 세션을 닫기까지 기다리는 시간
+    @Value("${webrtc.reaper.idle-timeout-millis:300000}")
+    private long idleTimeoutMillis;
+
+    // 예약 시각부터 통화를 허용하는 최대 시간
+    @Value("${webrtc.reaper.max-call-minutes:120}")
+    private long maxCallMinutes;
+
+    // 미리 준비한 세션을 중개인이 쓰지 않으면 닫기까지 기다리는 시간
+    @Value("${webrtc.prewarm.ttl-minutes:30}")
+    private long warmTtlMinutes;
+
+    @Value("${webrtc.session.opening-timeout-millis:30000}")
+    private long openingTimeoutMillis;
+
+    @Override
+    @Scheduled(initialDelayString = "${webrtc.reaper.interval-millis:60000}",
+            fixedDelayString = "${webrtc.reaper.interval-millis:60000}")
+    public WebrtcReapResult reap() {
+        long fetchedAt = System.currentTimeMillis();
+        Map<String, Session> activeSessions;
+        List<Recording> recordings;
+        try {
+            openviduClientService.execute(OpenviduOperation.FETCH, openVidu::fetch);
+            activeSessions = openVidu.getActiveSessions().stream()
+                    .collect(Collectors.toMap(Session::getSessionId, Function.identity(), (a, b) -> a));
+            recordings = openviduClientService.execute(OpenviduOperation.LIST_RECORDINGS, openVidu::listRecordings);
+        } catch (OpenViduJavaClientException | OpenViduHttpException | AppException e) {
+            // Openvidu 상태를 모르면 살아 있는 통화를 닫을 수 있으므로 이번 주기는 건너뛴다.
+            log.warn("webrtc reaper skipped - openvidu unavailable: {}", e.getMessage());
+            return WebrtcReapResult.EMPTY;
+        }
+        Map<String, Recording> mapRecordings = recordings.stream()
+                .collect(Collectors.toMap(Recording::getId, Function.identity(), (a, b) -> a));
+
+        Reclaimed reclaimed = new Reclaimed();
+        Set<String> knownSessionIds = new HashSet<>();
+        Set<String> knownRecordingIds = new HashSet<>();
+
+        for (Long reservationId : webrtcSessionRepository.findAllReservationIds()) {
+            WebrtcCallState state = webrtcSessionRepository.findByReservationId(reservationId).orElse(null);
+            if (state == null) continue;
+            if (state.sessionId() != null) knownSessionIds.add(state.sessionId());
+            if (state.recordingId() != null) knownRecordingIds.add(state.recordingId());
+
+            try {
+                reconcile(reservationId, state, activeSessions, mapRecordings, fetchedAt, reclaimed);
+            } catch (RuntimeException e) {
+                log.warn("webrtc reaper failed reservationId:{} - {}", reservationId, e.getMessage());
+            }
+        }
+
+        reapOrphans(activeSessions, recordings, knownSessionIds, knownRecordingIds, fetchedAt, reclaimed);
+
+        WebrtcReapResult result = reclaimed.toResult();
+        if (!result.isEmpty()) {
+            log.info("webrtc reaper reclaimed {}", result);
+            record(result);
+        }
+        return result;
+    }
+
+    private void reconcile(Long reservationId, WebrtcCallState state, Map<String, Session> activeSessions,
+                           Map<String, Recording> mapRecordings, long fetchedAt, Reclaimed reclaimed) {
+        if (state.status() == CallStatus.OPENING) {
+            if (state.updatedAt() + openingTimeoutMillis < fetchedAt
+                    && webrtcSessionRepository.compute(reservationId, current ->
+                    current != null && current.version() == state.version() ? WebrtcCallState.cancelOpening(current) : current)
+                    .isEmpty()) {
+                reclaimed.abandonedOpenings++;
+            }
+            return;
+        }
+
+        if (state.status() == CallStatus.RECORDED) {
+            // 세션은 닫혔는데 녹화 중지나 변환 등록 전에 멈춘 경우 (방금 닫힌 통화는 종료 요청이 마저 처리하도록 둔다)
+            if (state.updatedAt() + openingTimeoutMillis >= fetchedAt) return;
+            Recording recording = mapRecordings.get(state.recordingId());
+            if (recording != null && RUNNING_RECORDING.contains(recording.getStatus())
+                    && stopRecording(state.recordingId())) {
+                reclaimed.stoppedRecordings++;
+            }
+            // 녹화 파일이 준비된 뒤에만 변환을 등록한다. (중지 중인 녹화는 다음 주기에 다시 확인)
+            Optional.ofNullable(recording)
+                    .filter(found -> found.getStatus() == Recording.Status.ready)
+                    .map(Recording::getId)
+                    .filter(recordingId -> enqueueTranscoding(reservationId, recordingId))
+                    .ifPresent(recordingId -> reclaimed.enqueuedRecordings++);
+            return;
+        }
+
+        String reason = findCloseReason(reservationId, state, activeSessions.get(state.sessionId()), fetchedAt);
+        if (reason == null) return;
+
+        log.info("webrtc reaper closing reservationId:{} sessionId:{} reason:{}", reservationId, state.sessionId(), reason);
+        if (state.hasRecording() && stopRecording(state.recordingId())) reclaimed.stoppedRecordings++;
+        if (!webrtcSessionService.closeSession(reservationId, state.sessionId())) return;
+        reclaimed.closedSessions++;
+
+        if (state.hasRecording() && enqueueTranscoding(reservationId, state.recordingId())) {
+            reclaimed.enqueuedRecordings++;
+        }
+    }
+
+    // 세션을 닫아야 하는 이유, 닫지 않으면 null
+    private String findCloseReason(Long reservationId, WebrtcCallState state, Session session, long fetchedAt) {
+        // fetch 이후에 열린 세션은 목록에 없을 수 있다.
+        if (session == null) return state.updatedAt() < fetchedAt ? "closed" : null;
+        // 미리 준비한 세션은 참여자가 없는 것이 정상이므로 준비 후 ttl이 지났을 때만 닫는다.
+        if (state.isWarm()) return state.updatedAt() + TimeUnit.MINUTES.toMillis(warmTtlMinutes) < fetchedAt ? "warm_expired" : null;
+
+        long lastActivity = Math.max(state.updatedAt(), session.createdAt());
+        if (session.getActiveConnections().isEmpty() && lastActivity + idleTimeoutMillis < fetchedAt) return "idle";
+
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(maxCallMinutes);
+        boolean expired = reservationRepository.findById(reservationId)
+                .map(reservation -> reservation.getReservationTime().isBefore(deadline))
+                .orElse(true);
+        return expired ? "expired" : null;
+    }
+
+    private void reapOrphans(Map<String, Session> activeSessions, List<Recording> recordings,
+                             Set<String> knownSessionIds, Set<String> knownRecordingIds,
+                             long fetchedAt, Reclaimed reclaimed) {
+        for (Recording recording : recordings) {
+            if (!RUNNING_RECORDING.contains(recording.getStatus())
+                    || knownRecordingIds.contains(recording.getId())
+                    || knownSessionIds.contains(recording.getSessionId())
+                    || recording.getCreatedAt() + idleTimeoutMillis >= fetchedAt) continue;
+
+            log.info("webrtc reaper stopping orphan recording recordingId:{}", recording.getId());
+            if (!stopRecording(recording.getId())) continue;
+            reclaimed.orphanRecordings++;
+            videoRepository.findBySessionId(recording.getId())
+                    .filter(video -> enqueueTranscoding(video, recording.getId()))
+                    .ifPresent(video -> reclaimed.enqueuedRecordings++);
+        }
+
+        for (Session session : activeSessions.values()) {
+            if (knownSessionIds.contains(session.getSessionId())
+                    || session.createdAt() + idleTimeoutMillis >= fetchedAt) continue;
+
+            log.info("webrtc reaper closing orphan session sessionId:{}", session.getSessionId());
+            try {
+                openviduClientService.execute(OpenviduOperation.CLOSE_SESSION, () -> {
+                    session.close();
+                    return null;
+                });
+                reclaimed.orphanSessions++;
+            } catch (OpenViduJavaClientException | OpenViduHttpException | AppException e) {
+                log.warn("webrtc reaper orphan session close failed sessionId:{} - {}", session.getSessionId(), e.getMessage());
+            }
+        }
+    }
+
+    // 이미 멈춘 녹화(404, 406)는 false
+    private boolean stopRecording(String recordingId) {
+        try {
+            openviduClientService.execute(OpenviduOperation.STOP_RECORDING, () -> openVidu.stopRecording(recordingId));
+            return true;
+        } catch (OpenViduHttpException e) {
+            if (e.getStatus() != HttpStatus.NOT_FOUND.value() && e.getStatus() != HttpStatus.NOT_ACCEPTABLE.value()) {
+                log.warn("webrtc reaper stop recording failed recordingId:{} - {}", recordingId, e.getMessage());
+            }
+            return false;
+        } catch (OpenViduJavaClientException | AppException e) {
+            log.warn("webrtc reaper stop recording failed recordingId:{} - {}", recordingId, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean enqueueTranscoding(Long reservationId, String recordingId) {
+        return videoRepository.findByReservationId(reservationId)
+                .map(video -> enqueueTranscoding(video, recordingId))
+                .orElse(false);
+    }
+
+    // 중개인 종료 요청과 같은 순서로 영상을 인코딩 상태로 바꾸고 변환을 등록한다. 이미 등록된 영상은 false
+    // 웹훅 모드에서는 종료 요청이 인코딩 상태만 만들고 ready 웹훅을 기다리므로, 웹훅을 놓쳐 변환 작업이 없는 영상도 등록한다.
+    private boolean enqueueTranscoding(Video video, String recordingId) {
+        if (video.getVideoStatus() == VideoStatus.RECORDING) {
+            VideoUpdateRequest videoUpdateRequest = VideoUpdateRequest.builder()
+                    .videoUrl(video.getVideoUrl())
+                    .videoStatus(VideoStatus.ENCODING)
+                    .build();
+            videoService.modifyVideo(videoUpdateRequest, video.getId());
+        } else if (video.getVideoStatus() != VideoStatus.ENCODING
+                || streamingJobRepository.findByVideoId(video.getId()).isPresent()) {
+            return false;
+        }
+        streamingService.uploadStreaming(video.getReservation().getId(), recordingId);
+        return true;
+    }
+
+    private void record(WebrtcReapResult result) {
+        increment("closed_session", result.closedSessions());
+        increment("abandoned_opening", result.abandonedOpenings());
+        increment("stopped_recording", result.stoppedRecordings());
+        increment("enqueued_recording", result.enqueuedRecordings());
+        increment("orphan_session", result.orphanSessions());
+        increment("orphan_recording", result.orphanRecordings());
+    }
+
+    private void increment(String type, int amount) {
+        if (amount == 0) return;
+        Counter.builder("webrtc.reaper.reclaimed")
+                .description("정리 작업이 회수한 통화 자원 수")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private static class Reclaimed {
+        private int closedSessions;
+        private int abandonedOpenings;
+        private int stoppedRecordings;
+        private int enqueuedRecordings;
+        private int orphanSessions;
+        private int orphanRecordings;
+
+        private WebrtcReapResult toResult() {
+            return WebrtcReapResult.builder()
+                    .closedSessions(closedSessions)
+                    .abandonedOpenings(abandonedOpenings)
+                    .stoppedRecordings(stoppedRecordings)
+                    .enqueuedRecordings(enqueuedRecordings)
+                    .orphanSessions(orphanSessions)
+                    .orphanRecordings(orphanRecordings)
+                    .build();
+        }
+    }
+}
@@ -1,18 +1,33 @@
 package com.bangguddle.ownbang.domain.webrtc.service.impl;
 
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
 import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.service.OpenviduClientService;
 import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
 import com.bangguddle.ownbang.global.handler.AppException;
 import io.openvidu.java.client.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.bangguddle.ownbang.global.enums.ErrorCode.*;
 
+/**
+ * 예약별 통화 상태는 {@link WebrtcSessionRepository}에 두어 모든 API 서버가 공유하며, 상태 변경은 모두 compute 전이로 수행합니다.<br/>
+ * Openvidu 세션/녹화 객체는 서버마다 id로 캐시하고, 다른 서버가 만든 것이면 Openvidu에서 다시 불러옵니다.<br/>
+ * Openvidu 호출은 모두 {@link OpenviduClientService}를 거쳐 제한 시간과 장애 차단을 적용합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebrtcSessionServiceImpl implements WebrtcSessionService {
@@ -23,34 +38,45 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
     private static final Recording.OutputMode outputMode = Recording.OutputMode.INDIVIDUAL;
 
     private final OpenVidu openVidu;
-    private final Map<Long, Session> mapSessions = new ConcurrentHashMap<>();
-    private final Map<Long, Map<UserType, String>> mapSessionReservationsTokens = new ConcurrentHashMap<>();
-    private final Map<Long, Recording> mapSessionRecordings = new ConcurrentHashMap<>();
+    private final OpenviduClientService openviduClientService;
+    private final WebrtcSessionRepository webrtcSessionRepository;
+    private final Map<String, Session> mapSessions = new ConcurrentHashMap<>();
+    private final Map<String, Recording> mapRecordings = new ConcurrentHashMap<>();
+
+    // 세션을 만들던 서버가 응답 없이 이 시간이 지나면 다른 요청이 세션 생성을 다시 시도할 수 있다.
+    @Value("${webrtc.session.opening-timeout-millis:30000}")
+    private long openingTimeoutMillis;
 
 
     @Override
     public Optional<Session> getSession(final Long reservationId) {
-        return Optional.ofNullable(mapSessions.get(reservationId));
+        return findSessionState(reservationId)
+                .flatMap(state -> loadSession(reservationId, state.sessionId()));
     }
 
     @Override
     public Optional<Session> createSession(final Long reservationId){
-        if(this.mapSessions.containsKey(reservationId)){
-            throw new AppException(BAD_REQUEST);
-        }
+        // 세션 생성 권한을 먼저 가져온다 -> 동시에 들어온 요청은 Openvidu 세션을 만들지 않고 실패
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), openingTimeoutMillis));
 
         try{
             // 새로운 session
-            Session session = this.openVidu.createSession();
-            this.mapSessions.put(reservationId, session);
-            this.mapSessionReservationsTokens.put(reservationId, new ConcurrentHashMap<>());
+            Session session = openviduClientService.execute(OpenviduOperation.CREATE_SESSION, this.openVidu::createSession);
+            this.mapSessions.put(session.getSessionId(), session);
+            webrtcSessionRepository.compute(reservationId, state -> requireState(state).open(session.getSessionId()));
 
             return Optional.ofNullable(session);
 
         } catch (OpenViduHttpException | OpenViduJavaClientException e){
             // 오픈 비두 장애 발생
+            webrtcSessionRepository.compute(reservationId, WebrtcCallState::cancelOpening);
             throw new AppException(INTERNAL_SERVER_ERROR);
+        } catch (AppException e){
+            webrtcSessionRepository.compute(reservationId, WebrtcCallState::cancelOpening);
+            throw e;
         } catch (Exception e2){
+            webrtcSessionRepository.compute(reservationId, WebrtcCallState::cancelOpening);
             throw new AppException(BAD_REQUEST);
         }
     }
@@ -58,58 +84,179 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
     @Override
     public Optional<Session> removeSession(final Long reservationId) {
         // session 유효 확인
-        if (validateSessionAndToken(reservationId)) {
-            Session session = this.mapSessions.get(reservationId);
+        Session session = getSession(reservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
 
-            try {
-                session.close();
-            }catch (OpenViduJavaClientException | OpenViduHttpException e){
-                throw new AppException(INTERNAL_SERVER_ERROR);
+        try {
+            closeOpenviduSession(session);
+        }catch (OpenViduJavaClientException | OpenViduHttpException e){
+            throw new AppException(INTERNAL_SERVER_ERROR);
+        }
+
+        webrtcSessionRepository.compute(reservationId, state -> requireState(state).close());
+        this.mapSessions.remove(session.getSessionId());
+
+        return Optional.of(session);
+    }
+
+
+    /**
+     * 예약 시작 전에 세션을 미리 만들어 WARM 상태로 둡니다.<br/>
+     * 중개인 입장 시 claimWarmSession으로 OPEN이 되며, 쓰이지 않은 세션은 정리 작업(reaper)이 만료시킵니다.
+     */
+    @Override
+    public boolean prewarmSession(final Long reservationId, final boolean withAgentToken) {
+        try {
+            webrtcSessionRepository.compute(reservationId,
+                    state -> WebrtcCallState.opening(state, System.currentTimeMillis(), openingTimeoutMillis));
+        } catch (AppException e) {
+            // 이미 세션이 있거나 다른 서버가 준비 중
+            return false;
+        }
+
+        Session session = null;
+        try {
+            session = openviduClientService.execute(OpenviduOperation.CREATE_SESSION, this.openVidu::createSession);
+            String token = withAgentToken ? createConnection(session, UserType.ROLE_AGENT).getToken() : null;
+
+            String sessionId = session.getSessionId();
+            this.mapSessions.put(sessionId, session);
+            webrtcSessionRepository.compute(reservationId, state -> {
+                WebrtcCallState warm = requireState(state).warm(sessionId);
+                return token == null ? warm : warm.withToken(UserType.ROLE_AGENT, token);
+            });
+            return true;
+
+        } catch (OpenViduJavaClientException | OpenViduHttpException | RuntimeException e) {
+            log.warn("webrtc prewarm failed reservationId:{} - {}", reservationId, e.getMessage());
+            webrtcSessionRepository.compute(reservationId, WebrtcCallState::cancelOpening);
+            if (session != null) {
+                this.mapSessions.remove(session.getSessionId());
+                closeQuietly(session);
             }
+            return false;
+        }
+    }
 
-            this.mapSessions.remove(reservationId);
-            this.mapSessionReservationsTokens.remove(reservationId);
+    /**
+     * 미리 준비된(WARM) 세션을 OPEN으로 바꾸고 userType의 토큰을 반환합니다.<br/>
+     * 미리 만든 토큰이 없으면 새로 발급하며, Openvidu에서 이미 닫힌 세션이면 상태를 지우고 빈 값을 반환합니다.
+     */
+    @Override
+    public Optional<String> claimWarmSession(final Long reservationId, final UserType userType) {
+        WebrtcCallState warm = webrtcSessionRepository.findByReservationId(reservationId)
+                .filter(WebrtcCallState::isWarm)
+                .orElse(null);
+        if (warm == null || loadSession(reservationId, warm.sessionId()).isEmpty()) return Optional.empty();
+
+        // 동시에 입장한 요청 중 하나만 OPEN으로 바꾼다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebrtcCallState open = webrtcSessionRepository.compute(reservationId, state -> {
+            boolean same = state != null && state.isWarm() && warm.sessionId().equals(state.sessionId());
+            claimed.set(same);
+            return same ? state.claim() : state;
+        }).orElse(null);
+        if (!claimed.get() || open == null) return Optional.empty();
+
+        String token = open.tokens().get(userType);
+        return token != null ? Optional.of(token) : createToken(reservationId, userType);
+    }
 
-            return Optional.of(session);
-        } else {
-            // session 없는 경우
-            throw new AppException(BAD_REQUEST);
+
+    /**
+     * 투어 모드에서 같은 중개인/임차인의 다음 예약이 직전 예약의 Openvidu 세션을 이어서 쓰도록 통화 상태를 옮깁니다.<br/>
+     * from이 녹화 중이면 RECORDED(변환 대기)로 닫고 녹화를 중지하여 to가 새 녹화 구간을 시작할 수 있게 하며, OPEN이면 없음으로 닫습니다.<br/>
+     * to에 미리 준비된(WARM) 세션이 있으면 닫고 이어받습니다.
+     */
+    @Override
+    public Optional<String> handoverSession(final Long fromReservationId, final Long toReservationId, final UserType userType) {
+        WebrtcCallState from = findSessionState(fromReservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
+        if (loadSession(fromReservationId, from.sessionId()).isEmpty()) throw new AppException(BAD_REQUEST);
+
+        webrtcSessionRepository.findByReservationId(toReservationId)
+                .filter(WebrtcCallState::isWarm)
+                .ifPresent(warm -> closeSession(toReservationId, warm.sessionId()));
+
+        // to를 먼저 열어 두 요청이 동시에 이어받아도 하나만 성공한다.
+        WebrtcCallState to = webrtcSessionRepository.compute(toReservationId,
+                state -> WebrtcCallState.handover(state, from))
+                .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+        webrtcSessionRepository.compute(fromReservationId, state ->
+                state != null && state.hasSession() && from.sessionId().equals(state.sessionId()) ? state.close() : state);
+        // 중지에 실패한 녹화는 정리 작업(reaper)이 RECORDED 상태를 보고 다시 중지한다.
+        if (from.hasRecording()) stopRecordingQuietly(from.recordingId());
+
+        String token = to.tokens().get(userType);
+        return token != null ? Optional.of(token) : createToken(toReservationId, userType);
+    }
+
+
+    /**
+     * 정리 작업(reaper)이 끊긴 통화를 닫을 때 사용합니다.<br/>
+     * 상태를 먼저 닫아 여러 서버가 동시에 정리해도 한 곳만 true를 받으며, Openvidu에서 이미 닫힌 세션은 무시합니다.
+     */
+    @Override
+    public boolean closeSession(final Long reservationId, final String sessionId) {
+        AtomicBoolean closed = new AtomicBoolean();
+        webrtcSessionRepository.compute(reservationId, state -> {
+            boolean same = state != null && state.hasSession() && sessionId.equals(state.sessionId());
+            closed.set(same);
+            return same ? state.close() : state;
+        });
+
+        Session session = this.mapSessions.remove(sessionId);
+        if (session == null) session = this.openVidu.getActiveSession(sessionId);
+        if (closed.get() && session != null) {
+            try {
+                closeOpenviduSession(session);
+            } catch (OpenViduHttpException e) {
+                if (e.getStatus() != HttpStatus.NOT_FOUND.value()) {
+                    log.warn("Openvidu session close failed sessionId:{} - {}", sessionId, e.getMessage());
+                }
+            } catch (OpenViduJavaClientException | AppException e) {
+                log.warn("Openvidu session close failed sessionId:{} - {}", sessionId, e.getMessage());
+            }
         }
+        return closed.get();
+    }
+
+    @Override
+    public void validateMediaServer() {
+        if (!openviduClientService.isAvailable()) throw new AppException(WEBRTC_MEDIA_SERVER_UNAVAILABLE);
     }
 
 
     @Override
     public Optional<String> getToken(final Long reservationId, final UserType userType) {
-        // session 유효 확인
-        if (validateSessionAndToken(reservationId)) {
-            // userType과 role이 같은  token 반환
-            return Optional.ofNullable(this.mapSessionReservationsTokens.get(reservationId).get(userType));
-        }
-        return Optional.empty();
+        // userType과 role이 같은  token 반환
+        return findSessionState(reservationId)
+                .map(state -> state.tokens().get(userType));
     }
 
 
     @Override
     public Optional<String> createToken(final Long reservationId, final UserType userType){
-        if (!validateSessionAndToken(reservationId)) {
-            throw new AppException(BAD_REQUEST);
-        } else if(existTokenUserType(reservationId,userType)){
+        WebrtcCallState current = findSessionState(reservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
+        if(current.tokens().containsKey(userType)){
             throw new AppException(WEBRTC_TOKEN_DUPLICATED);
         }
-
-        // connection properties 설정
-        ConnectionProperties connectionProperties = new ConnectionProperties.Builder()
-                .type(ConnectionType.WEBRTC)
-                .role(DEFAULT_ROLE)
-                .data(userType.name())
-                .build();
+        Session session = loadSession(reservationId, current.sessionId())
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
 
         try {
-            String token = this.mapSessions.get(reservationId)
-                    .createConnection(connectionProperties)
-                    .getToken();
+            Connection connection = createConnection(session, userType);
+            String token = connection.getToken();
 
-            this.mapSessionReservationsTokens.get(reservationId).put(userType, token);
+            try {
+                // 그 사이 다른 요청이 같은 참여자의 토큰을 등록했거나 세션을 닫았으면 실패
+                webrtcSessionRepository.compute(reservationId, state -> requireState(state).withToken(userType, token));
+            } catch (RuntimeException e) {
+                // 등록되지 않은 토큰으로 아무도 입장하지 못하도록 만든 연결을 회수한다.
+                forceDisconnectQuietly(session, connection);
+                throw e;
+            }
 
             return Optional.of(token);
 
@@ -120,8 +267,7 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
             if (404 == e2.getStatus()) {
                 // 더이상 유효하지 않은 session
                 // 유저가 남아있을 수 있음 -> 삭제
-                this.mapSessions.remove(reservationId);
-                this.mapSessionReservationsTokens.remove(reservationId);
+                closeState(reservationId, current.sessionId());
             }
             throw new AppException(INTERNAL_SERVER_ERROR);
         }
@@ -130,31 +276,19 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
 
     @Override
     public Optional<String> removeToken(final Long reservationId, final String token, final UserType userType){
-        if (this.mapSessions.containsKey(reservationId)
-                && existTokenUserType(reservationId,userType)
-        ) {
-            if (this.mapSessionReservationsTokens.get(reservationId).get(userType).equals(token)
-                    && this.mapSessionReservationsTokens.get(reservationId).remove(userType) != null
-            ) {
-                return Optional.of(token);
-            }else {
-                throw new AppException(BAD_REQUEST);
-            }
-        } else {
-            throw new AppException(BAD_REQUEST);
-        }
+        webrtcSessionRepository.compute(reservationId, state -> requireState(state).withoutToken(userType, token));
+        return Optional.of(token);
     }
 
     @Override
     public Optional<Recording> startRecord(final Long reservationId) {
-        if(!mapSessions.containsKey(reservationId)
-                || mapSessionReservationsTokens.get(reservationId).size() != 2
-                || mapSessionRecordings.containsKey(reservationId)
-        ) {
+        WebrtcCallState current = webrtcSessionRepository.findByReservationId(reservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
+        if(current.status() != CallStatus.OPEN || current.tokens().size() != 2) {
             throw new AppException(BAD_REQUEST);
         }
 
-        String sessionId = mapSessions.get(reservationId).getSessionId();
+        String sessionId = current.sessionId();
 
         RecordingProperties properties = new RecordingProperties.Builder()
                 .outputMode(outputMode)
@@ -162,8 +296,11 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
                 .hasVideo(hasVideo).build();
 
         try {
-            Recording recording = this.openVidu.startRecording(sessionId, properties);
-            this.mapSessionRecordings.put(reservationId, recording);
+            // Openvidu가 세션당 녹화 하나만 허용하므로 동시에 시작한 요청 중 하나만 여기까지 온다.
+            Recording recording = openviduClientService.execute(OpenviduOperation.START_RECORDING,
+                    () -> this.openVidu.startRecording(sessionId, properties));
+            this.mapRecordings.put(recording.getId(), recording);
+            webrtcSessionRepository.compute(reservationId, state -> requireState(state).recording(recording.getId()));
             return Optional.of(recording);
 
         } catch (OpenViduHttpException e) {
@@ -177,18 +314,20 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
     @Override
     public Optional<Recording> getRecord(final Long reservationId){
         // 세션에서 녹화가 진행중인 경우 - 임차인 재입장 고려
-        System.out.println("Record 상태: " + mapSessionRecordings.get(reservationId));
-        return Optional.ofNullable(mapSessionRecordings.get(reservationId));
+        Optional<Recording> recording = findRecordingId(reservationId).flatMap(this::loadRecording);
+        log.debug("webrtc recording reservationId:{} recording:{}", reservationId, recording.map(Recording::getId).orElse(null));
+        return recording;
     }
 
     @Override
     public Optional<Recording> stopRecord(final Long reservationId) {
-        validateSessionAndRecord(reservationId);
-
-        String recordingId = mapSessionRecordings.get(reservationId).getId();
+        WebrtcCallState current = findSessionState(reservationId)
+                .filter(WebrtcCallState::hasRecording)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
 
         try {
-            Recording recording = this.openVidu.stopRecording(recordingId);
+            Recording recording = openviduClientService.execute(OpenviduOperation.STOP_RECORDING,
+                    () -> this.openVidu.stopRecording(current.recordingId()));
             return Optional.of(recording);
 
         } catch (OpenViduJavaClientException | OpenViduHttpException e) {
@@ -198,15 +337,15 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
 
     @Override
     public Optional<Recording> deleteRecord(final Long reservationId)  {
-        if(!mapSessionRecordings.containsKey(reservationId)){
-            throw new AppException(BAD_REQUEST);
-        }
-
-        String recordingId = mapSessionRecordings.get(reservationId).getId();
+        String recordingId = findRecordingId(reservationId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
+        Recording recording = loadRecording(recordingId)
+                .orElseThrow(() -> new AppException(BAD_REQUEST));
 
         try {
-            this.openVidu.deleteRecording(recordingId);
-            Recording recording = this.mapSessionRecordings.remove(reservationId);
+            deleteOpenviduRecording(recordingId);
+            removeRecordingState(reservationId, recordingId);
+            this.mapRecordings.remove(recordingId);
             return Optional.of(recording);
 
         } catch (OpenViduJavaClientException | OpenViduHttpException e) {
@@ -214,20 +353,151 @@ public class WebrtcSessionServiceImpl implements WebrtcSessionService {
         }
     }
 
-    private Boolean validateSessionAndToken(final Long reservationId){
-        return this.mapSessions.containsKey(reservationId)
-                && this.mapSessionReservationsTokens.containsKey(reservationId);
+    /**
+     * 녹화 ID로 Openvidu 녹화 파일을 삭제합니다.<br/>
+     * 서버 재시작 후에도 호출할 수 있도록 세션 정보에 의존하지 않으며, 이미 삭제된 녹화는 성공으로 처리합니다.
+     * @param recordingId
+     */
+    @Override
+    public void deleteRecordById(final String recordingId) {
+        try {
+            deleteOpenviduRecording(recordingId);
+        } catch (OpenViduHttpException e) {
+            if (e.getStatus() != HttpStatus.NOT_FOUND.value()) throw new AppException(INTERNAL_SERVER_ERROR);
+        } catch (OpenViduJavaClientException e) {
+            throw new AppException(INTERNAL_SERVER_ERROR);
+        }
+        webrtcSessionRepository.findReservationIdByRecordingId(recordingId)
+                .ifPresent(reservationId -> removeRecordingState(reservationId, recordingId));
+        this.mapRecordings.remove(recordingId);
     }
 
-    private Boolean existTokenUserType(Long reservationId, UserType userType){
-        return this.mapSessionReservationsTokens.get(reservationId).containsKey(userType);
+    // 세션이 열려 있는 예약의 통화 상태 (미리 준비만 된 세션은 중개인이 입장하기 전까지 없는 것으로 본다)
+    private Optional<WebrtcCallState> findSessionState(final Long reservationId){
+        return webrtcSessionRepository.findByReservationId(reservationId)
+                .filter(state -> state.hasSession() && !state.isWarm());
     }
 
-    private void validateSessionAndRecord(Long reservationId){
-        if(!mapSessions.containsKey(reservationId)
-                || !mapSessionRecordings.containsKey(reservationId)
-        ) {
-            throw new AppException(BAD_REQUEST);
+    private Optional<String> findRecordingId(final Long reservationId){
+        return webrtcSessionRepository.findByReservationId(reservationId)
+                .map(WebrtcCallState::recordingId);
+    }
+
+    private WebrtcCallState requireState(final WebrtcCallState state){
+        if (state == null) throw new AppException(BAD_REQUEST);
+        return state;
+    }
+
+    // Openvidu에서 사라진 세션 -> 같은 세션일 때만 상태를 닫는다. (그 사이 새로 열린 세션은 유지)
+    private void closeState(final Long reservationId, final String sessionId){
+        webrtcSessionRepository.compute(reservationId, state ->
+                state != null && state.hasSession() && sessionId.equals(state.sessionId()) ? state.close() : state);
+        this.mapSessions.remove(sessionId);
+    }
+
+    // 같은 녹화일 때만 녹화 상태를 지운다.
+    private void removeRecordingState(final Long reservationId, final String recordingId){
+        webrtcSessionRepository.compute(reservationId, state ->
+                state != null && recordingId.equals(state.recordingId()) ? state.withoutRecording(recordingId) : state);
+    }
+
+    /**
+     * 캐시에 없는 세션은 Openvidu의 활성 세션 목록에서 찾습니다.<br/>
+     * Openvidu에서 이미 닫힌 세션이면 등록 정보를 지우고 빈 값을 반환합니다.
+     */
+    private Optional<Session> loadSession(final Long reservationId, final String sessionId){
+        Session session = this.mapSessions.get(sessionId);
+        if (session != null) return Optional.of(session);
+
+        try {
+            openviduClientService.execute(OpenviduOperation.FETCH, this.openVidu::fetch);
+        } catch (OpenViduJavaClientException | OpenViduHttpException e) {
+            throw new AppException(INTERNAL_SERVER_ERROR);
         }
+
+        session = this.openVidu.getActiveSession(sessionId);
+        if (session == null) {
+            log.info("Openvidu session closed reservationId:{} sessionId:{}", reservationId, sessionId);
+            closeState(reservationId, sessionId);
+            return Optional.empty();
+        }
+        this.mapSessions.putIfAbsent(sessionId, session);
+        return Optional.of(session);
     }
+
+    private Connection createConnection(final Session session, final UserType userType)
+            throws OpenViduJavaClientException, OpenViduHttpException {
+        // connection properties 설정
+        ConnectionProperties connectionProperties = new ConnectionProperties.Builder()
+                .type(ConnectionType.WEBRTC)
+                .role(DEFAULT_ROLE)
+                .data(userType.name())
+                .build();
+
+        return openviduClientService
+                .execute(OpenviduOperation.CREATE_CONNECTION, () -> session.createConnection(connectionProperties));
+    }
+
+    private void forceDisconnectQuietly(final Session session, final Connection connection) {
+        try {
+            openviduClientService.execute(OpenviduOperation.FORCE_DISCONNECT, () -> {
+                session.forceDisconnect(connection.getConnectionId());
+                return null;
+            });
+        } catch (OpenViduJavaClientException | OpenViduHttpException | AppException e) {
+            log.warn("Openvidu connection revoke failed sessionId:{} connectionId:{} - {}",
+                    session.getSessionId(), connection.getConnectionId(), e.getMessage());
+        }
+    }
+
+    private void stopRecordingQuietly(final String recordingId) {
+        try {
+            openviduClientService.execute(OpenviduOperation.STOP_RECORDING, () -> this.openVidu.stopRecording(recordingId));
+        } catch (OpenViduJavaClientException | OpenViduHttpException | AppException e) {
+            log.warn("Openvidu recording stop failed recordingId:{} - {}", recordingId, e.getMessage());
+        }
+    }
+
+    private void closeQuietly(final Session session) {
+        try {
+            closeOpenviduSession(session);
+        } catch (OpenViduJavaClientException | OpenViduHttpException | AppException e) {
+            log.warn("Openvidu session close failed sessionId:{} - {}", session.getSessionId(), e.getMessage());
+        }
+    }
+
+    private void closeOpenviduSession(final Session session) throws OpenViduJavaClientException, OpenViduHttpException {
+        openviduClientService.execute(OpenviduOperation.CLOSE_SESSION, () -> {
+            session.close();
+            return null;
+        });
+    }
+
+    private void deleteOpenviduRecording(final String recordingId) throws OpenViduJavaClientException, OpenViduHttpException {
+        openviduClientService.execute(OpenviduOperation.DELETE_RECORDING, () -> {
+            this.openVidu.deleteRecording(recordingId);
+            return null;
+        });
+    }
+
+    // 캐시에 없는 녹화는 Openvidu에서 조회합니다.
+    private Optional<Recording> loadRecording(final String recordingId){
+        Recording recording = this.mapRecordings.get(recordingId);
+        if (recording != null) return Optional.of(recording);
+
+        try {
+            recording = openviduClientService.execute(OpenviduOperation.GET_RECORDING,
+                    () -> this.openVidu.getRecording(recordingId));
+        } catch (OpenViduHttpException e) {
+            if (e.getStatus() != HttpStatus.NOT_FOUND.value()) throw new AppException(INTERNAL_SERVER_ERROR);
+            webrtcSessionRepository.findReservationIdByRecordingId(recordingId)
+                    .ifPresent(reservationId -> removeRecordingState(reservationId, recordingId));
+            return Optional.empty();
+        } catch (OpenViduJavaClientException e) {
+            throw new AppException(INTERNAL_SERVER_ERROR);
+        }
+        this.mapRecordings.putIfAbsent(recordingId, recording);
+        return Optional.of(recording);
+    }
+
 }
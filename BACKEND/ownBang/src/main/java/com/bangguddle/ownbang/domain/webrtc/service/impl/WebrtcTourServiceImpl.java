@@ -0,0 +1,133 @@
+package com.bangguddle.ownbang.domain.webrtc.service.impl;
+
+import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
+import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.video.dto.VideoRecordRequest;
+import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.video.service.VideoService;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcTourService;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openvidu.java.client.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.INTERNAL_SERVER_ERROR;
+
+/**
+ * 투어 모드: 같은 중개인과 임차인이 연달아 여러 방을 보는 경우 Openvidu 세션 하나를 계속 사용합니다.<br/>
+ * 다음 예약에 중개인이 입장하면 직전 예약의 세션과 토큰을 넘겨받고, 녹화만 예약별 구간으로 바꿉니다.<br/>
+ * - 직전 예약의 녹화는 중지하여 기존과 같이 영상(Video)을 인코딩 상태로 바꾸고 변환을 등록하며<br/>
+ * - 다음 예약은 같은 세션에서 새 녹화를 시작하여 자신의 영상을 등록합니다.<br/>
+ * 녹화 id가 구간마다 다르므로(sessionId, sessionId~1, ...) 예약별 영상은 녹화 id로 구분합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebrtcTourServiceImpl implements WebrtcTourService {
+
+    private final ReservationRepository reservationRepository;
+    private final VideoRepository videoRepository;
+    private final VideoService videoService;
+    private final StreamingService streamingService;
+    private final WebrtcSessionService webrtcSessionService;
+    private final WebrtcSessionRepository webrtcSessionRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 직전 예약 시각부터 이 시간 안에 시작하는 예약만 세션을 이어서 사용한다.
+    @Value("${webrtc.tour.max-gap-minutes:60}")
+    private long maxGapMinutes;
+
+    @Value("${webrtc.webhook.enabled:false}")
+    private boolean webhookEnabled;
+
+    @Override
+    public Optional<String> continueTour(final Long reservationId) {
+        Reservation next = reservationRepository.findById(reservationId).orElse(null);
+        if (next == null) return Optional.empty();
+
+        Reservation previous = findPrevious(next).orElse(null);
+        if (previous == null) return Optional.empty();
+        Long previousId = previous.getId();
+
+        Optional<String> previousRecordingId = webrtcSessionService.getRecord(previousId).map(Recording::getId);
+        String token;
+        try {
+            token = webrtcSessionService.handoverSession(previousId, reservationId, UserType.ROLE_AGENT)
+                    .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+        } catch (AppException e) {
+            // 그 사이 직전 통화가 끝났거나 다른 요청이 먼저 넘겨받은 경우 -> 일반 입장으로 처리
+            log.info("webrtc tour handover skipped {} -> {} - {}", previousId, reservationId, e.getMessage());
+            return Optional.empty();
+        }
+        log.info("webrtc tour handover {} -> {}", previousId, reservationId);
+
+        previousRecordingId.ifPresent(recordingId -> finishSegment(previousId, recordingId));
+        startSegment(reservationId);
+
+        Counter.builder("webrtc.tour.handovers")
+                .description("투어 모드로 이어서 사용한 화상 통화 세션 수")
+                .register(meterRegistry)
+                .increment();
+        return Optional.of(token);
+    }
+
+    // 같은 중개인/임차인의 예약 중 next 직전에 시작한 예약 하나만 조회하고, 그 예약의 통화가 이어지고 있을 때만 넘겨받는다.
+    private Optional<Reservation> findPrevious(final Reservation next) {
+        Long agentId = next.getRoom().getAgent().getId();
+        Long userId = next.getUser().getId();
+        return reservationRepository.findFirstByRoomAgentIdAndUserIdAndStatusAndIdNotAndReservationTimeBetweenOrderByReservationTimeDescIdDesc(
+                        agentId, userId, ReservationStatus.CONFIRMED, next.getId(),
+                        next.getReservationTime().minusMinutes(maxGapMinutes), next.getReservationTime())
+                .filter(reservation -> webrtcSessionRepository.findByReservationId(reservation.getId())
+                        .filter(state -> state.hasSession() && !state.isWarm())
+                        .isPresent());
+    }
+
+    // 중개인 종료 요청과 같이 직전 구간의 영상을 인코딩 상태로 바꾸고 변환을 등록한다.
+    private void finishSegment(final Long reservationId, final String recordingId) {
+        videoRepository.findByReservationId(reservationId)
+                .filter(video -> video.getVideoStatus() == VideoStatus.RECORDING)
+                .ifPresent(video -> {
+                    VideoUpdateRequest videoUpdateRequest = VideoUpdateRequest.builder()
+                            .videoUrl(video.getVideoUrl())
+                            .videoStatus(VideoStatus.ENCODING)
+                            .build();
+                    videoService.modifyVideo(videoUpdateRequest, video.getId());
+
+                    // 웹훅 사용 시 녹화 파일이 준비되면 웹훅에서 등록
+                    if (!webhookEnabled) streamingService.uploadStreaming(reservationId, recordingId);
+                });
+    }
+
+    // 임차인이 세션에 남아 있으면 바로 새 녹화 구간을 시작한다. 실패하면 임차인 입장(토큰 발급) 시 시작된다.
+    private void startSegment(final Long reservationId) {
+        if (webrtcSessionService.getToken(reservationId, UserType.ROLE_USER).isEmpty()) return;
+
+        try {
+            Recording recording = webrtcSessionService.startRecord(reservationId)
+                    .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
+            VideoRecordRequest videoRecordRequest = VideoRecordRequest.builder()
+                    .reservationId(reservationId)
+                    .videoUrl(recording.getId())
+                    .videoStatus(VideoStatus.RECORDING)
+                    .sessionId(recording.getId())
+                    .build();
+            videoService.registerVideo(videoRecordRequest);
+        } catch (AppException e) {
+            log.warn("webrtc tour recording start failed reservationId:{} - {}", reservationId, e.getMessage());
+        }
+    }
+}
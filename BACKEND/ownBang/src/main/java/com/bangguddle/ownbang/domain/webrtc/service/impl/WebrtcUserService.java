@@ -45,6 +45,9 @@ public class WebrtcUserService implements WebrtcService {
         Long reservationId = request.reservationId();
         validateUserAndReservation(userId, reservationId);
 
+        // 화상 통화 서버 상태 확인
+        webrtcSessionService.validateMediaServer();
+
         // session 유효성 검사
         validateSession(reservationId);
 
@@ -71,12 +74,12 @@ public class WebrtcUserService implements WebrtcService {
         Recording recording = webrtcSessionService.startRecord(reservationId)
                 .orElseThrow(() -> new AppException(INTERNAL_SERVER_ERROR));
 
-        // video 저장
+        // video 저장 (녹화 파일은 녹화 id 폴더에 저장되며, 세션의 첫 녹화는 세션 id와 같다)
         VideoRecordRequest videoRecordRequest = VideoRecordRequest.builder()
                 .reservationId(reservationId)
-                .videoUrl(recording.getSessionId()
-                        )
+                .videoUrl(recording.getId())
                 .videoStatus(VideoStatus.RECORDING)
+                .sessionId(recording.getId())
                 .build();
         videoService.registerVideo(videoRecordRequest);
 
@@ -0,0 +1,128 @@
+package com.bangguddle.ownbang.domain.webrtc.service.impl;
+
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.video.service.VideoService;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcWebhookEvent;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcWebhookService;
+import com.bangguddle.ownbang.global.enums.NoneResponse;
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.response.SuccessResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBHOOK_UNAUTHORIZED;
+import static com.bangguddle.ownbang.global.enums.SuccessCode.WEBHOOK_RECEIVE_SUCCESS;
+
+/**
+ * Openvidu가 보내는 웹훅으로 녹화 완료 처리를 진행합니다.<br/>
+ * - recordingStatusChanged(ready): 녹화 파일이 준비된 시점에 영상을 인코딩 상태로 바꾸고 변환을 등록<br/>
+ * - sessionDestroyed: 녹화 중인 통화의 상태를 닫음 (녹화는 Openvidu가 중지하고 ready 이벤트를 다시 보냄)<br/>
+ * 같은 이벤트가 다시 와도 이미 처리된 영상은 건너뛰며, 변환은 비동기로 수행되어 웹훅 응답을 지연시키지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebrtcWebhookServiceImpl implements WebrtcWebhookService {
+
+    private static final String RECORDING_STATUS_CHANGED = "recordingStatusChanged";
+    private static final String SESSION_DESTROYED = "sessionDestroyed";
+    private static final String RECORDING_READY = "ready";
+    private static final String RECORDING_FAILED = "failed";
+
+    private final WebrtcSessionService webrtcSessionService;
+    private final WebrtcSessionRepository webrtcSessionRepository;
+    private final VideoRepository videoRepository;
+    private final VideoService videoService;
+    private final StreamingService streamingService;
+    private final MeterRegistry meterRegistry;
+
+    // Openvidu의 OPENVIDU_WEBHOOK_HEADERS에 설정한 Authorization 값, 비어 있으면 모든 웹훅을 거절
+    @Value("${webrtc.webhook.authorization:}")
+    private String webhookAuthorization;
+
+    @Override
+    public SuccessResponse<NoneResponse> receive(final String authorization, final WebrtcWebhookEvent event) {
+        validateAuthorization(authorization);
+
+        String handled = switch (String.valueOf(event.event())) {
+            case RECORDING_STATUS_CHANGED -> onRecordingStatusChanged(event);
+            case SESSION_DESTROYED -> onSessionDestroyed(event);
+            default -> "ignored";
+        };
+        Counter.builder("webrtc.webhook.events")
+                .description("처리한 Openvidu 웹훅 이벤트 수")
+                .tag("event", String.valueOf(event.event()))
+                .tag("result", handled)
+                .register(meterRegistry)
+                .increment();
+
+        return new SuccessResponse<>(WEBHOOK_RECEIVE_SUCCESS, NoneResponse.NONE);
+    }
+
+    private String onRecordingStatusChanged(final WebrtcWebhookEvent event) {
+        if (RECORDING_FAILED.equals(event.status())) {
+            log.warn("Openvidu recording failed sessionId:{} recordingId:{} reason:{}",
+                    event.sessionId(), event.id(), event.reason());
+            return "recording_failed";
+        }
+        if (!RECORDING_READY.equals(event.status())) return "ignored";
+
+        // 영상은 녹화 id로 등록된다. (투어 모드에서는 한 세션에 예약별 녹화가 여러 개)
+        Optional<Video> found = videoRepository.findBySessionId(event.id());
+        if (found.isEmpty()) {
+            // 통화 상태 없이 남은 녹화는 정리 작업(reaper)이 회수한다.
+            log.info("webhook recording ready without video sessionId:{} recordingId:{}", event.sessionId(), event.id());
+            return "unknown_video";
+        }
+        Video video = found.get();
+        if (video.getVideoStatus() == VideoStatus.RECORDED) return "duplicated";
+
+        if (video.getVideoStatus() == VideoStatus.RECORDING) {
+            VideoUpdateRequest videoUpdateRequest = VideoUpdateRequest.builder()
+                    .videoUrl(video.getVideoUrl())
+                    .videoStatus(VideoStatus.ENCODING)
+                    .build();
+            videoService.modifyVideo(videoUpdateRequest, video.getId());
+        }
+
+        // 이미 등록된 변환 작업은 이어서 수행되므로 다시 등록해도 같은 결과
+        log.info("webhook recording ready recordingId:{} -> enqueue transcoding", event.id());
+        streamingService.uploadStreaming(video.getReservation().getId(), event.id());
+        return "enqueued";
+    }
+
+    // 영상의 sessionId에는 녹화 id가 저장되므로, 세션을 쓰고 있는 예약은 통화 상태에서 찾는다.
+    private String onSessionDestroyed(final WebrtcWebhookEvent event) {
+        if (event.sessionId() == null) return "ignored";
+        return webrtcSessionRepository.findReservationIdBySessionId(event.sessionId())
+                .filter(reservationId -> webrtcSessionService.closeSession(reservationId, event.sessionId()))
+                .map(reservationId -> {
+                    log.info("webhook session destroyed reservationId:{} sessionId:{} reason:{}",
+                            reservationId, event.sessionId(), event.reason());
+                    return "closed";
+                })
+                .orElse("ignored");
+    }
+
+    private void validateAuthorization(final String authorization) {
+        if (webhookAuthorization == null || webhookAuthorization.isEmpty() || authorization == null
+                || !MessageDigest.isEqual(webhookAuthorization.getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8))) {
+            throw new AppException(WEBHOOK_UNAUTHORIZED);
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.bangguddle.ownbang.global.config;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFprobe;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.IOException;
 
 @Configuration
+@EnableConfigurationProperties(HlsEncodeProperties.class)
 public class FFmpegConfig {
     @Value("${ffmpeg.path}")
     private String ffmpegPath;
@@ -0,0 +1,41 @@
+package com.bangguddle.ownbang.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * HLS 변환 시 만들 화질(렌디션) 목록
+ *
+ * @param profiles 비어 있으면 원본 화질 한 개만 만든다.
+ */
+@ConfigurationProperties(prefix = "video.hls")
+public record HlsEncodeProperties(
+        List<EncodeProfile> profiles
+) {
+    public HlsEncodeProperties {
+        profiles = profiles == null ? List.of() : List.copyOf(profiles);
+    }
+
+    /**
+     * @param name         렌디션 이름 (폴더명, 마스터 플레이리스트의 NAME)
+     * @param height       출력 세로 해상도, null이면 원본 해상도 유지 (원본보다 키우지 않음)
+     * @param crf          libx264 품질 값
+     * @param maxRate      최대 비트레이트 (ex. 800k), null이면 제한 없음
+     * @param bufSize      VBV 버퍼 크기, null이면 maxRate의 2배
+     * @param audioBitrate 오디오 비트레이트 (ex. 96k)
+     */
+    public record EncodeProfile(
+            String name,
+            Integer height,
+            Integer crf,
+            String maxRate,
+            String bufSize,
+            String audioBitrate
+    ) {
+        public EncodeProfile {
+            if (crf == null) crf = 23;
+            if (audioBitrate == null) audioBitrate = "128k";
+        }
+    }
+}
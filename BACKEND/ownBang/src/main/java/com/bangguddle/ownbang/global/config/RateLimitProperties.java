@@ -0,0 +1,60 @@
+package com.bangguddle.ownbang.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 요청 제한 (토큰 버킷) 설정
+ *
+ * @param enabled     false면 제한하지 않는다.
+ * @param stripes     서버별 버킷을 나눠 잠그는 잠금 개수
+ * @param leaseMillis Redis에서 미리 받아 둔 토큰을 쓸 수 있는 시간
+ * @param maxKeys     서버별로 보관하는 최대 버킷 수
+ * @param rules       경로별 제한
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        Boolean enabled,
+        Integer stripes,
+        Long leaseMillis,
+        Integer maxKeys,
+        List<Rule> rules
+) {
+    public RateLimitProperties {
+        if (enabled == null) enabled = false;
+        if (stripes == null) stripes = 64;
+        if (leaseMillis == null) leaseMillis = 1000L;
+        if (maxKeys == null) maxKeys = 100000;
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * @param name          규칙 이름 (Redis 키, 메트릭 태그)
+     * @param method        HTTP 메소드, null이면 모든 메소드
+     * @param path          context-path 를 뺀 경로, 하위 경로까지 포함 (ex. /auths/login)
+     * @param capacity      버킷 크기 (연속으로 허용하는 최대 요청 수)
+     * @param periodSeconds 빈 버킷이 가득 차는 시간
+     * @param lease         Redis 한 번 호출로 서버가 미리 받아 두는 토큰 수, null이면 버킷 크기의 1/20
+     */
+    public record Rule(
+            String name,
+            String method,
+            String path,
+            Integer capacity,
+            Long periodSeconds,
+            Integer lease
+    ) {
+        public Rule {
+            if (capacity == null) capacity = 60;
+            if (periodSeconds == null) periodSeconds = 60L;
+            if (lease == null) lease = Math.max(1, capacity / 20);
+        }
+
+        public boolean matches(String requestMethod, String requestPath) {
+            if (method != null && !method.equalsIgnoreCase(requestMethod)) return false;
+            return requestPath.startsWith(path)
+                    && (requestPath.length() == path.length() || requestPath.charAt(path.length()) == '/');
+        }
+    }
+}
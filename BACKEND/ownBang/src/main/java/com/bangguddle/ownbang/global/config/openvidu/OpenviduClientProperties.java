@@ -0,0 +1,39 @@
+package com.bangguddle.ownbang.global.config.openvidu;
+
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Openvidu 호출 격리 설정
+ *
+ * @param poolSize               동시에 Openvidu를 호출하는 최대 스레드 수
+ * @param queueCapacity          스레드를 기다리는 최대 호출 수, 넘치면 바로 실패
+ * @param timeoutMillis          호출 제한 시간 기본값
+ * @param operationTimeoutMillis 작업별 제한 시간 (ex. start-recording: 10000)
+ * @param failureThreshold       연속 실패 시 호출을 차단하는 횟수
+ * @param openMillis             차단 후 시험 호출까지 기다리는 시간
+ */
+@ConfigurationProperties(prefix = "webrtc.openvidu")
+public record OpenviduClientProperties(
+        Integer poolSize,
+        Integer queueCapacity,
+        Long timeoutMillis,
+        Map<OpenviduOperation, Long> operationTimeoutMillis,
+        Integer failureThreshold,
+        Long openMillis
+) {
+    public OpenviduClientProperties {
+        if (poolSize == null) poolSize = 16;
+        if (queueCapacity == null) queueCapacity = 32;
+        if (timeoutMillis == null) timeoutMillis = 3000L;
+        operationTimeoutMillis = operationTimeoutMillis == null ? Map.of() : Map.copyOf(operationTimeoutMillis);
+        if (failureThreshold == null) failureThreshold = 5;
+        if (openMillis == null) openMillis = 10000L;
+    }
+
+    public long getTimeoutMillis(OpenviduOperation operation) {
+        return operationTimeoutMillis.getOrDefault(operation, timeoutMillis);
+    }
+}
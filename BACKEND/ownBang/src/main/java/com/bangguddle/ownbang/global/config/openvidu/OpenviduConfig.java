@@ -2,10 +2,12 @@ package com.bangguddle.ownbang.global.config.openvidu;
 
 import io.openvidu.java.client.OpenVidu;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(OpenviduClientProperties.class)
 public class OpenviduConfig {
 
     @Value("${openvidu.secret}")
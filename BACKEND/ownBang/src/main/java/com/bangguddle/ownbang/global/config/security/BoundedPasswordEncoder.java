@@ -0,0 +1,125 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.PASSWORD_HASHING_BUSY;
+
+/**
+ * 비밀번호 해시 계산을 요청 스레드가 아닌 전용 스레드 풀에서 실행하는 PasswordEncoder<br/>
+ * 로그인이 몰려도 BCrypt가 쓰는 CPU는 poolSize 개 스레드로 제한되고,
+ * 대기열이 가득 차거나 제한 시간을 넘기면 기다리지 않고 PASSWORD_HASHING_BUSY(503)로 실패합니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final String OPERATION_ENCODE = "encode", OPERATION_MATCHES = "matches";
+    private static final String REASON_QUEUE_FULL = "queue_full", REASON_TIMEOUT = "timeout";
+
+    private final PasswordEncoder delegate;
+    private final long timeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMillis = properties.timeoutMillis();
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(properties.poolSize(), properties.poolSize(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(properties.queueCapacity(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시를 계산 중인 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queued", executor, pool -> pool.getQueue().size())
+                .description("스레드를 기다리는 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 빈 소멸 시 호출 (@Bean destroyMethod 추론)
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(OPERATION_ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(OPERATION_MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 계산 없이 저장된 값의 비용만 비교한다.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(String operation, Supplier<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return hash.get();
+                } finally {
+                    Timer.builder("auth.password.hash.duration")
+                            .description("비밀번호 해시 계산 시간 (대기 제외)")
+                            .tag("operation", operation)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reject(operation, REASON_QUEUE_FULL);
+            throw new AppException(PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 실행하지 않는다.
+            future.cancel(true);
+            reject(operation, REASON_TIMEOUT);
+            throw new AppException(PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AppException(PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    private void reject(String operation, String reason) {
+        log.warn("Password hashing rejected operation:{} reason:{}", operation, reason);
+        Counter.builder("auth.password.hash.rejections")
+                .description("비밀번호 해시 요청 거절 수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,9 +1,12 @@
 package com.bangguddle.ownbang.global.config.security;
 
+import com.bangguddle.ownbang.global.dto.TokenClaims;
 import com.bangguddle.ownbang.global.dto.Tokens;
 
 public interface JwtProvider {
     Tokens generateTokens(Long userId);
+    // 서명과 만료를 한 번에 검증, 유효하지 않으면 JwtException
+    TokenClaims verify(String token);
     boolean isValid(String token, Long userId);
     Long parseUserId(String token);
 }
@@ -1,7 +1,10 @@
 package com.bangguddle.ownbang.global.config.security;
 
+import com.bangguddle.ownbang.global.dto.TokenClaims;
 import com.bangguddle.ownbang.global.dto.Tokens;
+import com.bangguddle.ownbang.global.utils.TokenHashUtils;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,14 +12,33 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 서명 키와 파서는 생성 시 한 번만 만들고, 검증한 토큰의 claims는 토큰 해시로 만료 시각까지 캐시합니다.<br/>
+ * 캐시는 최대 크기를 넘지 않으며, 가득 차면 만료된 항목을 비운 뒤에도 자리가 없으면 캐시하지 않습니다.
+ */
 @Component
 public class JwtProviderImpl implements JwtProvider {
     private static final long ACCESS_TOKEN_EXPIRED_TIME = 1000L * 60 * 60;
     private static final long REFRESH_TOKEN_EXPIRED_TIME = 1000L * 60 * 60 * 24 * 7;
-    @Value("${key.secret}")
-    private String SIGNING_KEY;
+    // 가득 찬 캐시에서 만료 항목을 비우는 최소 간격
+    private static final long PURGE_INTERVAL_MILLIS = 1000L;
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final int verifiedCacheSize;
+    private final Map<String, TokenClaims> mapVerifiedClaims = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgedAt = new AtomicLong();
+
+    public JwtProviderImpl(@Value("${key.secret}") String signingKey,
+                           @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheSize) {
+        String encoded = Base64.getEncoder().encodeToString(signingKey.getBytes());
+        this.key = Keys.hmacShaKeyFor(encoded.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedCacheSize = verifiedCacheSize;
+    }
 
     @Override
     public Tokens generateTokens(Long userId) {
@@ -26,15 +48,36 @@ public class JwtProviderImpl implements JwtProvider {
                 .build();
     }
 
+    @Override
+    public TokenClaims verify(String token) {
+        long now = System.currentTimeMillis();
+        // 원본 토큰을 메모리에 들고 있지 않도록 해시를 키로 쓴다.
+        String cacheKey = TokenHashUtils.hash(token);
+        TokenClaims cached = mapVerifiedClaims.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt() > now) return cached;
+            // 만료된 토큰은 파서가 ExpiredJwtException 으로 거절한다.
+            mapVerifiedClaims.remove(cacheKey, cached);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        TokenClaims verified = TokenClaims.builder()
+                .userId(Long.parseLong(claims.getSubject()))
+                .expiresAt(claims.getExpiration().getTime())
+                .build();
+        cache(cacheKey, verified, now);
+        return verified;
+    }
+
     @Override
     public boolean isValid(String token, Long userId) {
-        final Long extractedUserId = parseUserId(token);
-        return Objects.equals(userId, extractedUserId) && !isTokenExpired(token);
+        TokenClaims claims = verify(token);
+        return Objects.equals(userId, claims.userId()) && claims.expiresAt() > System.currentTimeMillis();
     }
 
     @Override
     public Long parseUserId(String token) {
-        return Long.parseLong(extractClaim(token, Claims::getSubject));
+        return verify(token).userId();
     }
 
     private String generateAccessToken(Long userId) {
@@ -52,33 +95,19 @@ public class JwtProviderImpl implements JwtProvider {
                 .subject(String.valueOf(userId))
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + expiredTime))
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getKey() {
-        String encoded = Base64.getEncoder().encodeToString(SIGNING_KEY.getBytes());
-        return Keys.hmacShaKeyFor(encoded.getBytes());
+    private void cache(String cacheKey, TokenClaims claims, long now) {
+        if (verifiedCacheSize <= 0) return;
+        if (mapVerifiedClaims.size() >= verifiedCacheSize) {
+            long last = lastPurgedAt.get();
+            if (last + PURGE_INTERVAL_MILLIS <= now && lastPurgedAt.compareAndSet(last, now)) {
+                mapVerifiedClaims.values().removeIf(cached -> cached.expiresAt() <= now);
+            }
+            if (mapVerifiedClaims.size() >= verifiedCacheSize) return;
+        }
+        mapVerifiedClaims.put(cacheKey, claims);
     }
 }
@@ -0,0 +1,26 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀 설정
+ *
+ * @param poolSize       동시에 해시를 계산하는 최대 스레드 수, 없으면 CPU 코어 수의 절반
+ * @param queueCapacity  스레드를 기다리는 최대 요청 수, 넘치면 바로 실패
+ * @param timeoutMillis  대기를 포함한 해시 계산 제한 시간
+ * @param bcryptStrength BCrypt 비용, 올리면 기존 회원은 다음 로그인 때 새 비용으로 다시 저장
+ */
+@ConfigurationProperties(prefix = "auth.password")
+public record PasswordHashingProperties(
+        Integer poolSize,
+        Integer queueCapacity,
+        Long timeoutMillis,
+        Integer bcryptStrength
+) {
+    public PasswordHashingProperties {
+        if (poolSize == null) poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        if (queueCapacity == null) queueCapacity = 32;
+        if (timeoutMillis == null) timeoutMillis = 2000L;
+        if (bcryptStrength == null) bcryptStrength = 10;
+    }
+}
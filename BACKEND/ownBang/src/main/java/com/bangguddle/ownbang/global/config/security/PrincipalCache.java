@@ -0,0 +1,8 @@
+package com.bangguddle.ownbang.global.config.security;
+
+public interface PrincipalCache {
+    // 사용자의 중개인 여부, 캐시에 없으면 DB에서 읽어 캐시
+    boolean isAgent(long userId);
+    // 권한이 바뀐 사용자를 캐시에서 제거
+    void invalidate(long userId);
+}
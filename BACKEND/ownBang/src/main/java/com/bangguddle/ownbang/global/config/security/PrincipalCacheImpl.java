@@ -0,0 +1,102 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 필터가 요청마다 사용자 행을 읽지 않도록 사용자별 권한(중개인 여부)을 ttl 동안 캐시합니다.<br/>
+ * 중개인 전환 시 invalidate로 바로 지우고 pub/sub 으로 다른 서버의 캐시에서도 지우며,<br/>
+ * 메시지를 놓친 서버도 ttl이 지나면 반영됩니다.<br/>
+ * (권한은 추가만 되므로 늦게 반영되어도 잠시 중개인 API가 거절될 뿐 권한이 넘치지 않습니다.)
+ */
+@Slf4j
+@Component
+public class PrincipalCacheImpl implements PrincipalCache, MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "AUTH_PRINCIPAL_INVALIDATE";
+
+    private record CachedPrincipal(boolean agent, long expiresAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, CachedPrincipal> mapPrincipals = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가, 조회 중에 무효화가 일어났으면 조회 결과를 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCacheImpl(UserRepository userRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              @Value("${jwt.principal-cache.ttl-millis:300000}") long ttlMillis,
+                              @Value("${jwt.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public boolean isAgent(long userId) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = mapPrincipals.get(userId);
+        if (cached != null && cached.expiresAt() > now) return cached.agent();
+
+        long generation = invalidations.get();
+        boolean agent = userRepository.getById(userId).isAgent();
+        if (invalidations.get() == generation) {
+            if (mapPrincipals.size() >= maxSize) mapPrincipals.values().removeIf(principal -> principal.expiresAt() <= now);
+            if (mapPrincipals.size() < maxSize) mapPrincipals.put(userId, new CachedPrincipal(agent, now + ttlMillis));
+        }
+        return agent;
+    }
+
+    // 자신의 캐시는 바로 비우고, 다른 서버에는 메시지로 알린다.
+    @Override
+    public void invalidate(long userId) {
+        evict(userId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("Principal invalidation publish failed userId:{} - {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 무효화 메시지를 받아 캐시에서 지웁니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid principal invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void evict(long userId) {
+        invalidations.incrementAndGet();
+        mapPrincipals.remove(userId);
+    }
+}
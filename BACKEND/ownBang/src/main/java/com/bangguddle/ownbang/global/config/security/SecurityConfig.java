@@ -1,9 +1,13 @@
 package com.bangguddle.ownbang.global.config.security;
 
 import com.bangguddle.ownbang.global.config.security.filter.AppExceptionFilter;
+import com.bangguddle.ownbang.global.config.RateLimitProperties;
 import com.bangguddle.ownbang.global.config.security.filter.JwtTokenFilter;
+import com.bangguddle.ownbang.global.config.security.filter.RateLimitFilter;
 import com.bangguddle.ownbang.global.handler.CustomAccessDeniedHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,6 +18,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +28,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({RateLimitProperties.class, PasswordHashingProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
     private static final String[] REQUIRE_USER_ARRAY = {
@@ -47,8 +53,12 @@ public class SecurityConfig {
             "/agents/workhour"
     };
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MeterRegistry meterRegistry;
     private final JwtTokenFilter jwtTokenFilter;
     private final AppExceptionFilter appExceptionFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -68,6 +78,8 @@ public class SecurityConfig {
                 .exceptionHandling(handler -> handler.accessDeniedHandler(accessDeniedHandler()))
                 .addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(appExceptionFilter, JwtTokenFilter.class)
+                // 인증 후 회원 id(비로그인이면 IP)별로 요청 제한
+                .addFilterAfter(rateLimitFilter, JwtTokenFilter.class)
         ;
 
         return http.build();
@@ -86,6 +98,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder());
+        // 로그인 성공 시 저장된 해시의 비용이 설정보다 낮으면 새 비용으로 다시 저장
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authenticationProvider;
     }
 
@@ -96,6 +110,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(passwordHashingProperties.bcryptStrength()),
+                passwordHashingProperties, meterRegistry);
     }
 }
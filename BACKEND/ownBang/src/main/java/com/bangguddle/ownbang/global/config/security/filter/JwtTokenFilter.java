@@ -1,9 +1,9 @@
 package com.bangguddle.ownbang.global.config.security.filter;
 
 
-import com.bangguddle.ownbang.domain.user.entity.User;
-import com.bangguddle.ownbang.domain.user.repository.UserRepository;
 import com.bangguddle.ownbang.global.config.security.JwtProvider;
+import com.bangguddle.ownbang.global.config.security.PrincipalCache;
+import com.bangguddle.ownbang.global.config.security.filter.RouteMatcher.RouteAuthorization;
 import com.bangguddle.ownbang.global.dto.Tokens;
 import com.bangguddle.ownbang.global.enums.ErrorCode;
 import com.bangguddle.ownbang.global.handler.AppException;
@@ -25,7 +25,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 
 @Component
@@ -48,7 +47,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             "/checklists",
             "/auths/password-change",
             "/reviews",
-            "/room",
+            "/rooms",
             "/reservations"
     };
     private static final String[] REQUIRE_AGENT_ARRAY = {
@@ -58,10 +57,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             "/agents/mypage",
             "agents/workhour"
     };
+    // 위 규칙을 시작 시 한 번 오토마톤으로 만들어 요청마다 URI를 한 번만 훑는다.
+    static final RouteMatcher ROUTE_MATCHER =
+            new RouteMatcher(POSSIBLE_ANONYMOUS_ARRAY, REQUIRE_USER_ARRAY, REQUIRE_AGENT_ARRAY);
     private static final String HEADER_PREFIX = "Bearer ";
     private static final int TOKEN_SPLIT_INDEX = 7;
     private final RedisRepository redisRepository;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final JwtProvider jwtProvider;
 
     @Override
@@ -70,15 +72,16 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain chain)
             throws ServletException, IOException {
         final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        final RouteAuthorization authorization = ROUTE_MATCHER.classify(request.getRequestURI());
 
-        if (isNonAuthenticatedUri(request.getRequestURI())) {
+        if (authorization == RouteAuthorization.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
 
 
         if (header == null || !header.startsWith(HEADER_PREFIX)) {
-            if (possibleNonAuthenticationUri(request.getRequestURI())) {
+            if (authorization == RouteAuthorization.OPTIONAL) {
                 chain.doFilter(request, response);
                 return;
             }
@@ -86,25 +89,26 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         }
 
         final String token = header.substring(TOKEN_SPLIT_INDEX);
-        long userId = jwtProvider.parseUserId(token);
-        if (!possibleNonAuthenticationUri(request.getRequestURI()))
+        // 서명과 만료를 한 번만 검증 (유효하지 않으면 JwtException)
+        long userId = jwtProvider.verify(token).userId();
+        if (authorization != RouteAuthorization.OPTIONAL)
             redisRepository.getByToken(token);
         if (SecurityContextHolder.getContext().getAuthentication() != null) {
             chain.doFilter(request, response);
             return;
         }
 
-        if (jwtProvider.isValid(token, userId)) authenticate(request, userId);
+        authenticate(request, userId);
 
         chain.doFilter(request, response);
     }
 
 
     private void authenticate(HttpServletRequest request, long userId) {
-        User user = userRepository.getById(userId);
         Collection<SimpleGrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(ROLE_USER));
-        if (user.isAgent()) authorities.add(new SimpleGrantedAuthority(ROLE_AGENT));
+        // 사용자 행은 캐시가 비었을 때만 읽는다.
+        if (principalCache.isAgent(userId)) authorities.add(new SimpleGrantedAuthority(ROLE_AGENT));
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(userId, null, authorities);
@@ -112,15 +116,4 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         context.setAuthentication(authenticationToken);
         SecurityContextHolder.setContext(context);
     }
-
-
-    private boolean isNonAuthenticatedUri(String uri) {
-        return !(Arrays.stream(REQUIRE_AGENT_ARRAY).anyMatch(uri::contains)
-                || Arrays.stream(REQUIRE_USER_ARRAY).anyMatch(uri::contains)
-                || Arrays.stream(POSSIBLE_ANONYMOUS_ARRAY).anyMatch(uri::contains));
-    }
-
-    private boolean possibleNonAuthenticationUri(String uri) {
-        return Arrays.stream(POSSIBLE_ANONYMOUS_ARRAY).anyMatch(uri::contains);
-    }
 }
@@ -0,0 +1,68 @@
+package com.bangguddle.ownbang.global.config.security.filter;
+
+import com.bangguddle.ownbang.global.config.RateLimitProperties;
+import com.bangguddle.ownbang.global.config.RateLimitProperties.Rule;
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.RateLimitService;
+import com.bangguddle.ownbang.global.utils.LogFormatUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * 설정한 경로(rate-limit.rules)의 요청을 회원 id, 비로그인이면 클라이언트 IP 별로 제한합니다.<br/>
+ * 인증 이후에 실행해야 회원 id를 알 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String USER_KEY_PREFIX = "user:", IP_KEY_PREFIX = "ip:";
+    private final RateLimitProperties properties;
+    private final RateLimitService rateLimitService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = findRule(request);
+        if (rule != null) {
+            long retryAfterMillis = rateLimitService.tryAcquire(rule, getClientKey(request));
+            if (retryAfterMillis > 0) {
+                meterRegistry.counter("ratelimit.rejections", "rule", rule.name()).increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+                throw new AppException(TOO_MANY_REQUESTS);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        if (!properties.enabled()) return null;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : properties.rules()) {
+            if (rule.matches(request.getMethod(), path)) return rule;
+        }
+        return null;
+    }
+
+    private String getClientKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof Long userId) return USER_KEY_PREFIX + userId;
+        return IP_KEY_PREFIX + LogFormatUtils.getRemoteAddr(request);
+    }
+}
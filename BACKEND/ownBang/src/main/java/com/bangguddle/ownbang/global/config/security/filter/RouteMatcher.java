@@ -0,0 +1,128 @@
+package com.bangguddle.ownbang.global.config.security.filter;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * URL 규칙을 경로 조각(segment) 단위 Aho-Corasick 오토마톤으로 미리 만들어, 요청 URI를 한 번 훑어 인증 필요 여부를 정합니다.<br/>
+ * 규칙은 URI 어디에서든 조각 단위로 연속해서 나타나면 일치합니다. (ex. "/get-token" 은 "/webrtcs/get-token" 과 일치)<br/>
+ * 조각 전체가 같아야 하므로 "/room" 규칙은 "/roomsearch" 와 일치하지 않습니다.
+ */
+public class RouteMatcher {
+
+    public enum RouteAuthorization {
+        // 인증하지 않음
+        PUBLIC,
+        // 토큰이 있으면 인증, 없어도 허용
+        OPTIONAL,
+        // 토큰 필요
+        REQUIRED
+    }
+
+    private static final int ANONYMOUS = 1, AUTHENTICATED = 2;
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node fail;
+        // 이 노드(와 실패 링크를 따라간 노드)에서 끝나는 규칙 종류
+        private int flags;
+        // 요청마다 조각 문자열을 만들지 않도록 자식을 해시와 함께 배열로 둔다.
+        private String[] keys;
+        private int[] hashes;
+        private Node[] nodes;
+
+        // uri[start, end) 조각과 같은 자식
+        private Node child(String uri, int start, int end, int hash) {
+            int length = end - start;
+            for (int i = 0; i < keys.length; i++) {
+                if (hashes[i] == hash && keys[i].length() == length && uri.regionMatches(start, keys[i], 0, length)) {
+                    return nodes[i];
+                }
+            }
+            return null;
+        }
+
+        private void freeze() {
+            keys = children.keySet().toArray(String[]::new);
+            hashes = new int[keys.length];
+            nodes = new Node[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                hashes[i] = keys[i].hashCode();
+                nodes[i] = children.get(keys[i]);
+            }
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * @param anonymousRules      로그인/비로그인 모두 이용 가능한 URL
+     * @param authenticatedRules  인증이 필요한 URL
+     */
+    public RouteMatcher(String[] anonymousRules, String[]... authenticatedRules) {
+        for (String rule : anonymousRules) add(rule, ANONYMOUS);
+        for (String[] rules : authenticatedRules) {
+            for (String rule : rules) add(rule, AUTHENTICATED);
+        }
+        link();
+    }
+
+    public RouteAuthorization classify(String uri) {
+        int flags = 0;
+        Node node = root;
+        int length = uri.length();
+        int start = 0;
+        while (start < length) {
+            // 조각 끝을 찾으면서 String.hashCode 와 같은 해시를 계산한다.
+            int end = start;
+            int hash = 0;
+            for (char c; end < length && (c = uri.charAt(end)) != '/'; end++) hash = 31 * hash + c;
+            if (end > start) {
+                Node next;
+                while ((next = node.child(uri, start, end, hash)) == null && node != root) node = node.fail;
+                node = next != null ? next : root;
+                flags |= node.flags;
+            }
+            start = end + 1;
+        }
+
+        if ((flags & ANONYMOUS) != 0) return RouteAuthorization.OPTIONAL;
+        if ((flags & AUTHENTICATED) != 0) return RouteAuthorization.REQUIRED;
+        return RouteAuthorization.PUBLIC;
+    }
+
+    private void add(String rule, int flag) {
+        Node node = root;
+        for (String segment : rule.split("/")) {
+            if (segment.isEmpty()) continue;
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        if (node != root) node.flags |= flag;
+    }
+
+    // 너비 우선으로 실패 링크를 만들고, 실패 링크 쪽 규칙 종류를 물려받는다.
+    private void link() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        root.freeze();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.freeze();
+            for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) fail = fail.fail;
+                Node target = fail.children.get(entry.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.flags |= child.fail.flags;
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bangguddle.ownbang.global.controller;
+
+import com.bangguddle.ownbang.global.service.LocalStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/storage")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    private final LocalStorageService localStorageService;
+
+    // GET, HEAD 모두 처리
+    @GetMapping("/{*key}")
+    public void getFile(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        localStorageService.serve(key, request, response);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bangguddle.ownbang.global.dto;
+
+import lombok.Builder;
+
+/**
+ * 서명과 만료를 검증한 토큰의 claims
+ *
+ * @param userId    토큰 subject
+ * @param expiresAt 만료 시각 (epoch millis)
+ */
+@Builder
+public record TokenClaims(Long userId, long expiresAt) { }
@@ -12,6 +12,7 @@ public enum ErrorCode implements ResponseCode {
     PHONE_NUMBER_DUPLICATED(HttpStatus.CONFLICT, "이미 가입한 전화번호 입니다."),
     BAD_CREDENTIAL(HttpStatus.BAD_REQUEST, "이메일 또는 패스워드 오류입니다."),
     TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "토큰이 유효하지 않습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // Agent Auth API
     LICENSE_NUMBER_DUPLICATED(HttpStatus.CONFLICT, "이미 가입한 자격번호입니다."),
@@ -27,6 +28,9 @@ public enum ErrorCode implements ResponseCode {
     WEBRTC_SESSION_UNOPENED(HttpStatus.CONFLICT, "아직 생성되지 않은 세션입니다"),
     WEBRTC_TOKEN_DUPLICATED(HttpStatus.CONFLICT, "이미 생성된 토큰입니다."),
     WEBRTC_NO_PUBLISHER(HttpStatus.BAD_REQUEST, "해당 세션에 연결된 사용자가 없습니다."),
+    WEBRTC_STATE_CONFLICT(HttpStatus.CONFLICT, "다른 요청이 세션 상태를 변경 중입니다. 다시 시도해 주세요."),
+    WEBHOOK_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "웹훅 인증에 실패했습니다."),
+    WEBRTC_MEDIA_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "화상 통화 서버가 응답하지 않습니다. 잠시 후 다시 시도해 주세요."),
 
     // Video API
     VIDEO_DUPLICATE(HttpStatus.CONFLICT, "이미 저장된 녹화입니다."),
@@ -35,6 +39,7 @@ public enum ErrorCode implements ResponseCode {
     // Streaming API
     RECORDING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "화상 통화 녹화 중 문제가 발생했습니다."),
     HLS_CONVERTING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "영상 변환 중 문제가 발생했습니다."),
+    RECORDING_WORKSPACE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "녹화 작업 공간이 부족합니다."),
 
     // Room Create Argument Error
     INVALID_DEALTYPE(HttpStatus.BAD_REQUEST, "적절하지 않은 거래 종류가 입력되었습니다."),
@@ -83,7 +88,8 @@ public enum ErrorCode implements ResponseCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 요청입니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "해당 요청을 찾을 수 없습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않은 HTTP 메소드 입니다"),
-    ACCESS_DENIED(HttpStatus.FORBIDDEN, "권한이 없는 요청입니다.");
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "권한이 없는 요청입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -61,12 +61,14 @@ public enum SuccessCode implements ResponseCode {
     // Webrtc API
     GET_TOKEN_SUCCESS(HttpStatus.CREATED, "토큰 발급이 성공적으로 완료되었습니다."),
     REMOVE_TOKEN_SUCCESS(HttpStatus.OK, "토큰 삭제가 성공적으로 완료되었습니다."),
+    WEBHOOK_RECEIVE_SUCCESS(HttpStatus.OK, "웹훅 수신이 완료되었습니다."),
 
     // Video
     VIDEO_RECORD_SUCCESS(HttpStatus.CREATED, "영상 녹화가 성공적으로 시작되었습니다."),
     VIDEO_FIND_SUCCESS(HttpStatus.OK, "영상 녹화 단건 조회가 성공적으로 완료되었습니다."),
     VIDEO_UPDATE_SUCCESS(HttpStatus.OK, "영상 링크 수정이 성공적으로 완료되었습니다."),
     VIDEO_PROCESS_SUCCESS(HttpStatus.OK, "영상 인코딩 및 업로드 요청이 완료되었습니다."),
+    VIDEO_STATUS_FIND_SUCCESS(HttpStatus.OK, "영상 상태 조회가 성공적으로 완료되었습니다."),
 
     //Reservation API
     RESERVATION_MAKE_SUCCESS(HttpStatus.CREATED, "예약 신청이 성공적으로 완료되었습니다."),
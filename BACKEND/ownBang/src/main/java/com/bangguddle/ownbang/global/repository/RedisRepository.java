@@ -15,6 +15,13 @@ public interface RedisRepository {
 
     Optional<String> findByToken(final String accessToken);
 
+    /**
+     * 저장된 refresh token 이 일치할 때만 기존 access token 을 지우고 새 토큰을 저장합니다. (원자적)
+     *
+     * @return 교체했으면 true, 토큰이 없거나 일치하지 않으면 false
+     */
+    boolean rotate(final String accessToken, final String refreshToken, final Tokens tokens);
+
     void saveValidTokens(final Tokens tokens, final long id);
 
     void deleteValidTokens(final long id);
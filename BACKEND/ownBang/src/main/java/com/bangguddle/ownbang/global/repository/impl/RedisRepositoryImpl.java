@@ -3,53 +3,134 @@ package com.bangguddle.ownbang.global.repository.impl;
 import com.bangguddle.ownbang.global.dto.Tokens;
 import com.bangguddle.ownbang.global.handler.AppException;
 import com.bangguddle.ownbang.global.repository.RedisRepository;
+import com.bangguddle.ownbang.global.utils.TokenHashUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.bangguddle.ownbang.global.enums.ErrorCode.TOKEN_INVALID;
 
+/**
+ * 인증 필터가 요청마다 조회하는 access token 은 서버별 근거리 캐시(토큰 해시 -> refresh token)에 잠깐 보관합니다.<br/>
+ * 로그아웃/토큰 재발급으로 토큰을 지우면 pub/sub 으로 모든 서버의 캐시에서 바로 지우며,<br/>
+ * 메시지를 놓친 서버도 near-cache-millis 뒤에는 Redis를 다시 조회합니다.<br/>
+ * 토큰 저장/조회는 명령 하나(SET EX, HMGET)나 Lua 스크립트로 한 번에 처리합니다.
+ */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
-public class RedisRepositoryImpl implements RedisRepository {
+public class RedisRepositoryImpl implements RedisRepository, MessageListener {
     private static final Long TIME_TO_LIVE = 60L * 60 * 24 * 7;
     private static final String AUTH_TOKEN_PREFIX = "TOKENS_";
+    private static final String REVOKE_CHANNEL = "AUTH_TOKEN_REVOKE";
+    private static final String ACCESS_TOKEN_FIELD = "access_token";
+    private static final String REFRESH_TOKEN_FIELD = "refresh_token";
+
+    // 해시 필드 두 개와 만료 시간을 한 번에 저장
+    private static final RedisScript<Long> SAVE_VALID_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4])
+            return redis.call('EXPIRE', KEYS[1], tonumber(ARGV[5]))
+            """, Long.class);
+
+    // 저장된 refresh token 이 같을 때만 기존 access token 을 지우고 새 토큰을 저장 (조회와 삭제 사이 경쟁 방지)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, CachedToken> mapNearCache = new ConcurrentHashMap<>();
+    // 캐시를 비울 때마다 증가, 조회 중에 무효화가 일어났으면 조회 결과를 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${jwt.token-cache.near-cache-millis:60000}")
+    private long nearCacheMillis;
+
+    @Value("${jwt.token-cache.max-size:10000}")
+    private int nearCacheSize;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+    }
 
     @Override
     public void save(final Tokens token) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(token.accessToken(), token.refreshToken());
-        redisTemplate.expire(token.accessToken(), TIME_TO_LIVE, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().set(token.accessToken(), token.refreshToken(), TIME_TO_LIVE, TimeUnit.SECONDS);
     }
 
     @Override
     public void delete(final String accessToken) {
-        if (Boolean.FALSE.equals(redisTemplate.delete(accessToken)))
+        boolean deleted = !Boolean.FALSE.equals(redisTemplate.delete(accessToken));
+        revoke(TokenHashUtils.hash(accessToken));
+        if (!deleted)
             throw new AppException(TOKEN_INVALID);
     }
 
     @Override
     public Optional<String> findByToken(final String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = TokenHashUtils.hash(token);
+        CachedToken cached = mapNearCache.get(tokenHash);
+        if (cached != null && cached.expiresAt() > now) return Optional.of(cached.refreshToken());
+
+        long generation = invalidations.get();
         String refreshToken = redisTemplate.opsForValue().get(token);
         if (Objects.isNull(refreshToken)) return Optional.empty();
+        if (nearCacheMillis > 0 && invalidations.get() == generation) cache(tokenHash, refreshToken, now);
         return Optional.of(refreshToken);
     }
 
     @Override
-    public void saveValidTokens(Tokens tokens, long id) {
-        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
-        String key = getCurrentTokenKey(id);
+    public boolean rotate(final String accessToken, final String refreshToken, final Tokens tokens) {
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, List.of(accessToken, tokens.accessToken()),
+                refreshToken, tokens.refreshToken(), TIME_TO_LIVE);
+        if (rotated == null || rotated == 0) return false;
+        revoke(TokenHashUtils.hash(accessToken));
+        return true;
+    }
 
-        hashOperations.put(key, "access_token", tokens.accessToken());
-        hashOperations.put(key, "refresh_token", tokens.refreshToken());
-        redisTemplate.expire(key, TIME_TO_LIVE, TimeUnit.SECONDS);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object tokenHash = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (tokenHash != null) evict(tokenHash.toString());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void saveValidTokens(Tokens tokens, long id) {
+        // opsForHash 로 읽을 수 있도록 해시 직렬화 방식으로 미리 직렬화해 넘긴다.
+        RedisSerializer<Object> hashKeySerializer = (RedisSerializer<Object>) redisTemplate.getHashKeySerializer();
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        redisTemplate.execute(SAVE_VALID_TOKENS_SCRIPT, RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(getCurrentTokenKey(id)),
+                hashKeySerializer.serialize(ACCESS_TOKEN_FIELD), hashValueSerializer.serialize(tokens.accessToken()),
+                hashKeySerializer.serialize(REFRESH_TOKEN_FIELD), hashValueSerializer.serialize(tokens.refreshToken()),
+                String.valueOf(TIME_TO_LIVE).getBytes());
     }
 
     @Override
@@ -61,9 +142,11 @@ public class RedisRepositoryImpl implements RedisRepository {
 
     @Override
     public Optional<Tokens> findValidTokens(long id) {
-        String key = getCurrentTokenKey(id);
-        String accessToken = (String) redisTemplate.opsForHash().get(key, "access_token");
-        String refreshToken = (String) redisTemplate.opsForHash().get(key, "refresh_token");
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        List<String> values = hashOperations.multiGet(getCurrentTokenKey(id),
+                List.of(ACCESS_TOKEN_FIELD, REFRESH_TOKEN_FIELD));
+        String accessToken = values.get(0);
+        String refreshToken = values.get(1);
 
         if (Objects.isNull(accessToken)) return Optional.empty();
 
@@ -75,7 +158,34 @@ public class RedisRepositoryImpl implements RedisRepository {
         );
     }
 
+    // 없는 토큰은 캐시하지 않는다. (로그인 직후 저장된 토큰이 막히지 않도록)
+    private void cache(String tokenHash, String refreshToken, long now) {
+        if (mapNearCache.size() >= nearCacheSize) {
+            mapNearCache.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (mapNearCache.size() >= nearCacheSize) return;
+        }
+        mapNearCache.put(tokenHash, new CachedToken(refreshToken, now + nearCacheMillis));
+    }
+
+    // 자신의 캐시는 바로 비우고, 다른 서버에는 메시지로 알린다. (토큰 원문 대신 해시를 보낸다)
+    private void revoke(String tokenHash) {
+        evict(tokenHash);
+        try {
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, tokenHash);
+        } catch (Exception e) {
+            log.warn("Auth token revoke publish failed - {}", e.getMessage());
+        }
+    }
+
+    private void evict(String tokenHash) {
+        invalidations.incrementAndGet();
+        mapNearCache.remove(tokenHash);
+    }
+
     private String getCurrentTokenKey(long id) {
         return String.format("%s%d", AUTH_TOKEN_PREFIX, id);
     }
+
+    private record CachedToken(String refreshToken, long expiresAt) {
+    }
 }
@@ -0,0 +1,12 @@
+package com.bangguddle.ownbang.global.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+public interface LocalStorageService {
+
+    // 로컬 저장소의 key 파일을 Range, ETag 조건에 맞춰 응답에 기록
+    void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.bangguddle.ownbang.global.service;
+
+import com.bangguddle.ownbang.global.config.RateLimitProperties.Rule;
+
+public interface RateLimitService {
+
+    /**
+     * 요청 하나를 허용할지 정합니다.
+     *
+     * @param rule 적용할 규칙
+     * @param key  요청자 (ex. 회원 id, 클라이언트 IP)
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    long tryAcquire(Rule rule, String key);
+}
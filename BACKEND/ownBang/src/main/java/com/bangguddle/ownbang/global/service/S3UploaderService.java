@@ -12,4 +12,8 @@ public interface S3UploaderService {
     String uploadFile(MultipartFile file, String dirName);
 
     String uploadHlsFiles(Path outputPath, String sessionId);
+
+    String uploadHlsFile(Path outputPath, Path filePath, String sessionId);
+
+    String getHlsUrl(String sessionId);
 }
@@ -0,0 +1,191 @@
+package com.bangguddle.ownbang.global.service.impl;
+
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.LocalStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.NOT_FOUND;
+
+/**
+ * 로컬 저장소의 HLS 플레이리스트, 세그먼트, 썸네일을 제공합니다.<br/>
+ * 본문은 사용자 공간 버퍼를 거치지 않도록 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 보냅니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageServiceImpl implements LocalStorageService {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    // Tomcat DefaultServlet과 같은 기준 - 작은 파일은 sendfile 준비 비용이 더 크다.
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private static final String PLAYLIST_EXTEND = ".m3u8";
+    private static final String PLAYLIST_CACHE_CONTROL = "no-cache";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final Map<String, String> mapContentTypes = Map.of(
+            ".m3u8", "application/vnd.apple.mpegurl",
+            ".ts", "video/mp2t",
+            ".jpg", "image/jpeg",
+            ".png", "image/png",
+            ".vtt", "text/vtt",
+            ".mp4", "video/mp4"
+    );
+
+    @Value("${storage.local.path}")
+    private String storagePath;
+
+    /**
+     * @param key      저장소 기준 상대 경로 (ex. hls/sessionId/360p/sessionId_00000000.ts)
+     * @param request  Range, If-Range, If-None-Match 헤더를 읽을 요청
+     * @param response 200, 206, 304, 416 중 하나로 응답
+     */
+    @Override
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) throw new AppException(NOT_FOUND);
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String eTag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+        String fileName = file.getFileName().toString();
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fileName.endsWith(PLAYLIST_EXTEND) ? PLAYLIST_CACHE_CONTROL : IMMUTABLE_CACHE_CONTROL);
+
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // 파일이 바뀌었으면 Range를 무시하고 전체를 보낸다.
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            long[] bytes = parseRange(range, length);
+            if (bytes == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (bytes.length == 2) {
+                start = bytes[0];
+                end = bytes[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(getContentType(fileName));
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) return;
+
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 컨테이너가 응답을 마무리하며 커널에서 소켓으로 바로 보낸다.
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 단일 구간 Range만 처리합니다. (bytes=0-99, bytes=100-, bytes=-100)
+     *
+     * @return 구간이 있으면 {start, end}, 해석할 수 없거나 여러 구간이면 빈 배열(전체 응답), 만족할 수 없으면 null
+     */
+    long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.contains(",")) return new long[0];
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) return null;
+                start = Math.max(length - suffix, 0);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (end < start) return new long[0];
+                if (start >= length) return null;
+                end = Math.min(end, length - 1);
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    // 저장소 밖의 파일은 제공하지 않는다.
+    private Path resolve(String key) {
+        Path root = Paths.get(storagePath).toAbsolutePath().normalize();
+        Path file = root.resolve(key.startsWith("/") ? key.substring(1) : key).normalize();
+        if (!file.startsWith(root)) throw new AppException(NOT_FOUND);
+        return file;
+    }
+
+    private String getContentType(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) return DEFAULT_CONTENT_TYPE;
+        return mapContentTypes.getOrDefault(fileName.substring(dot), DEFAULT_CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,130 @@
+package com.bangguddle.ownbang.global.service.impl;
+
+import com.bangguddle.ownbang.global.enums.ErrorCode;
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.S3UploaderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * S3/CloudFront 없이 로컬 파일 시스템에 저장하는 저장소 (storage.type=local)<br/>
+ * 저장한 파일은 LocalStorageController가 {storage.local.base-url}/{key}로 제공한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalUploaderServiceImpl implements S3UploaderService {
+
+    private static final String PLAYLIST_EXTEND = ".m3u8";
+    private static final String TMP_EXTEND = ".tmp";
+
+    @Value("${storage.local.path}")
+    private String storagePath;
+
+    @Value("${storage.local.base-url}")
+    private String baseUrl;
+
+    @Value("${s3.hls.path}")
+    private String hlsPath;
+
+    @Override
+    public String uploadToS3(File uploadFile, String dirName) {
+        String key = dirName + "/" + uploadFile.getName();
+        store(uploadFile.toPath(), key);
+        return getUrl(key);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String dirName) {
+        String key = dirName + "/" + UUID.randomUUID().toString().replace("-", "") + "_" + file.getOriginalFilename();
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            file.transferTo(target);
+            return getUrl(key);
+        } catch (IOException e) {
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * outputPath의 HLS 결과물을 저장소로 옮깁니다.<br/>
+     * 세그먼트는 한 번 저장되면 바뀌지 않으므로 이미 있는 세그먼트는 건너뛰고, 플레이리스트는 항상 교체한다.
+     *
+     * @param outputPath HLS 결과물의 루트 경로
+     * @param sessionId
+     * @return HLS 결과물의 url
+     */
+    @Override
+    public String uploadHlsFiles(Path outputPath, String sessionId) {
+        try (Stream<Path> paths = Files.walk(outputPath)) {
+            paths.filter(Files::isRegularFile)
+                    .filter(filePath -> filePath.toString().endsWith(PLAYLIST_EXTEND)
+                            || !Files.exists(resolve(getHlsKey(outputPath, filePath, sessionId))))
+                    .forEach(filePath -> uploadHlsFile(outputPath, filePath, sessionId));
+            return getHlsUrl(sessionId);
+        } catch (IOException e) {
+            log.error("Error walking through output directory:", e);
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public String uploadHlsFile(Path outputPath, Path filePath, String sessionId) {
+        store(filePath, getHlsKey(outputPath, filePath, sessionId));
+        return getHlsUrl(sessionId);
+    }
+
+    @Override
+    public String getHlsUrl(String sessionId) {
+        return getUrl(hlsPath + "/" + sessionId);
+    }
+
+    /**
+     * 같은 파일 시스템이면 하드 링크로 복사 없이 저장하고, 아니면 복사합니다.<br/>
+     * 임시 파일에 만든 뒤 옮기므로, 제공 중인 플레이리스트가 반쯤 쓰인 상태로 읽히지 않습니다.
+     */
+    private void store(Path source, String key) {
+        Path target = resolve(key);
+        Path tmp = target.resolveSibling(target.getFileName() + TMP_EXTEND);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.deleteIfExists(tmp);
+            try {
+                Files.createLink(tmp, source);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Storing {} to {} failed", source, target, e);
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 업로드 파일 이름은 요청에서 오므로, 저장소 밖을 가리키는 키는 거절한다.
+    private Path resolve(String key) {
+        Path root = Paths.get(storagePath).toAbsolutePath().normalize();
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) throw new AppException(ErrorCode.BAD_REQUEST);
+        return target;
+    }
+
+    private String getHlsKey(Path outputPath, Path filePath, String sessionId) {
+        String relativePath = outputPath.relativize(filePath).toString().replace(File.separatorChar, '/');
+        return hlsPath + "/" + sessionId + "/" + relativePath;
+    }
+
+    private String getUrl(String key) {
+        return baseUrl + "/" + key;
+    }
+}
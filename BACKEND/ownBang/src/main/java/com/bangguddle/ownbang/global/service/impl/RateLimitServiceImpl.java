@@ -0,0 +1,126 @@
+package com.bangguddle.ownbang.global.service.impl;
+
+import com.bangguddle.ownbang.global.config.RateLimitProperties;
+import com.bangguddle.ownbang.global.config.RateLimitProperties.Rule;
+import com.bangguddle.ownbang.global.service.RateLimitService;
+import com.bangguddle.ownbang.global.utils.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 서버가 공유하는 토큰 버킷은 Redis에 두고, 각 서버는 버킷에서 토큰을 lease 개씩 미리 받아 둡니다.<br/>
+ * 받아 둔 토큰이 남아 있거나 거절 후 기다리는 중이면 Redis를 호출하지 않고 서버 안에서 바로 정합니다.<br/>
+ * 서버별 버킷은 키 해시로 나눈 잠금(stripe)으로 보호하며, 서버 간 초과 허용량은 (서버 수 x lease) 이하입니다.<br/>
+ * Redis에 닿지 않으면 요청을 막지 않습니다. (연속 실패 시 잠시 Redis 호출 차단)
+ */
+@Slf4j
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+    private static final String BUCKET_KEY_PREFIX = "RATE_LIMIT_";
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_MILLIS = 10_000L;
+    // 가득 찬 버킷 목록에서 쓰지 않는 항목을 비우는 최소 간격
+    private static final long PURGE_INTERVAL_MILLIS = 1000L;
+
+    // Redis 서버 시각으로 버킷을 채운 뒤 요청한 만큼(최대) 토큰을 꺼낸다. {꺼낸 수, 토큰 하나가 찰 때까지 남은 시간(ms)}
+    private static final RedisScript<List> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / period)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], period)
+            local wait = 0
+            if granted == 0 then wait = math.ceil((1 - tokens) * period / capacity) end
+            return {granted, wait}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final Object[] stripes;
+    private final Map<String, LocalBucket> mapBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgedAt = new AtomicLong();
+    private final CircuitBreaker circuitBreaker =
+            new CircuitBreaker(FAILURE_THRESHOLD, OPEN_MILLIS, System::currentTimeMillis);
+
+    public RateLimitServiceImpl(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.stripes = new Object[Math.max(properties.stripes(), 1)];
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new Object();
+    }
+
+    @Override
+    public long tryAcquire(Rule rule, String key) {
+        String bucketKey = rule.name() + ":" + key;
+        long now = System.currentTimeMillis();
+        purge(now);
+        synchronized (stripes[Math.floorMod(bucketKey.hashCode(), stripes.length)]) {
+            LocalBucket bucket = mapBuckets.computeIfAbsent(bucketKey, k -> new LocalBucket());
+            if (bucket.leased > 0 && bucket.leaseExpiresAt > now) {
+                bucket.leased--;
+                return 0;
+            }
+            if (bucket.deniedUntil > now) return bucket.deniedUntil - now;
+
+            List<Long> taken = take(rule, bucketKey);
+            if (taken == null) return 0;
+            long granted = taken.get(0);
+            if (granted > 0) {
+                bucket.leased = granted - 1;
+                bucket.leaseExpiresAt = now + properties.leaseMillis();
+                return 0;
+            }
+            long wait = Math.max(taken.get(1), 1);
+            bucket.deniedUntil = now + wait;
+            return wait;
+        }
+    }
+
+    // Redis 버킷에서 토큰을 꺼낸다. Redis에 닿지 않으면 null
+    private List<Long> take(Rule rule, String bucketKey) {
+        if (!circuitBreaker.tryAcquire()) return null;
+        try {
+            // 스크립트가 정수 배열을 돌려주므로 Long 목록으로 받는다.
+            @SuppressWarnings("unchecked")
+            List<Long> taken = redisTemplate.execute(TAKE_SCRIPT, List.of(BUCKET_KEY_PREFIX + bucketKey),
+                    rule.capacity(), rule.periodSeconds() * 1000, rule.lease());
+            circuitBreaker.onSuccess();
+            return taken;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Rate limit bucket unavailable rule:{} - {}", rule.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    // 버킷 수가 maxKeys 를 넘으면 받아 둔 토큰도, 거절 대기도 없는 항목을 비운다.
+    private void purge(long now) {
+        if (mapBuckets.size() < properties.maxKeys()) return;
+        long last = lastPurgedAt.get();
+        if (last + PURGE_INTERVAL_MILLIS > now || !lastPurgedAt.compareAndSet(last, now)) return;
+        mapBuckets.values().removeIf(bucket -> bucket.leaseExpiresAt <= now && bucket.deniedUntil <= now);
+    }
+
+    // stripe 잠금 안에서만 읽고 쓴다.
+    private static class LocalBucket {
+        private long leased;
+        private long leaseExpiresAt;
+        private long deniedUntil;
+    }
+}
@@ -3,6 +3,8 @@ package com.bangguddle.ownbang.global.service.impl;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
@@ -12,6 +14,7 @@ import com.bangguddle.ownbang.global.service.S3UploaderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,6 +22,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -26,8 +31,21 @@ import java.util.stream.Stream;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3UploaderServiceImpl implements S3UploaderService {
 
+    private static final String PLAYLIST_EXTEND = ".m3u8";
+    private static final String SEGMENT_EXTEND = ".ts";
+    private static final String PLAYLIST_CONTENT_TYPE = "application/vnd.apple.mpegurl";
+    private static final String SEGMENT_CONTENT_TYPE = "video/mp2t";
+    private static final String THUMBNAIL_EXTEND = ".jpg";
+    private static final String THUMBNAIL_TRACK_EXTEND = ".vtt";
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+    private static final String THUMBNAIL_TRACK_CONTENT_TYPE = "text/vtt";
+    // 플레이리스트는 인코딩 중 계속 갱신되므로 캐시하지 않고, 세그먼트는 한 번 닫히면 바뀌지 않는다.
+    private static final String PLAYLIST_CACHE_CONTROL = "no-cache";
+    private static final String SEGMENT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucket}")
@@ -70,20 +88,50 @@ public class S3UploaderServiceImpl implements S3UploaderService {
 
 
 
+    /**
+     * outputPath의 HLS 결과물을 S3에 업로드하는 메서드<br/>
+     * 세그먼트는 한 번 올라가면 바뀌지 않으므로 이미 S3에 있는 세그먼트는 건너뛰고, 플레이리스트는 항상 다시 올린다.
+     *
+     * @param outputPath HLS 결과물의 루트 경로
+     * @param sessionId
+     * @return HLS 결과물이 올라간 cloudfront url
+     */
+    @Override
     public String uploadHlsFiles(Path outputPath, String sessionId) {
+        Set<String> uploadedKeys = getUploadedKeys(getHlsDirName(sessionId) + "/");
         try (Stream<Path> paths = Files.walk(outputPath)) {
-            String dirName = hlsPath + "/" + sessionId;
             paths.filter(Files::isRegularFile)
-                    .forEach(filePath -> {
-                        uploadToS3(filePath.toFile(), dirName);
-                    });
-            return cloudfrontUrl + "/" + dirName;
+                    .filter(filePath -> filePath.toString().endsWith(PLAYLIST_EXTEND)
+                            || !uploadedKeys.contains(getHlsKey(outputPath, filePath, sessionId)))
+                    .forEach(filePath -> uploadHlsFile(outputPath, filePath, sessionId));
+            return getHlsUrl(sessionId);
         } catch (IOException e) {
             log.error("Error walking through output directory:", e);
             throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * HLS 결과물 하나를 outputPath 기준 상대 경로 그대로 S3에 업로드하는 메서드<br/>
+     * 플레이리스트, 세그먼트, 썸네일에 맞는 Content-Type, Cache-Control을 함께 설정한다.
+     *
+     * @param outputPath HLS 결과물의 루트 경로
+     * @param filePath   업로드할 파일
+     * @param sessionId
+     * @return HLS 결과물이 올라간 cloudfront url
+     */
+    @Override
+    public String uploadHlsFile(Path outputPath, Path filePath, String sessionId) {
+        String fileName = getHlsKey(outputPath, filePath, sessionId);
+        putS3(filePath.toFile(), bucketName, fileName, getHlsObjectMetadata(fileName));
+        return getHlsUrl(sessionId);
+    }
+
+    @Override
+    public String getHlsUrl(String sessionId) {
+        return cloudfrontUrl + "/" + getHlsDirName(sessionId);
+    }
+
     /**
      * upLoadFile을 S3버켓 bucketName에 fileName이란 파일명으로 업로드
      *
@@ -93,9 +141,14 @@ public class S3UploaderServiceImpl implements S3UploaderService {
      * @return s3 url
      */
     private String putS3(File uploadFile, String bucket, String fileName) {
+        return putS3(uploadFile, bucket, fileName, null);
+    }
+
+    private String putS3(File uploadFile, String bucket, String fileName, ObjectMetadata objectMetadata) {
         log.info("Uploading {} to {}", uploadFile.getName(), bucket);
         try {
-            PutObjectResult result = amazonS3.putObject(new PutObjectRequest(bucket, fileName, uploadFile));
+            PutObjectResult result = amazonS3.putObject(
+                    new PutObjectRequest(bucket, fileName, uploadFile).withMetadata(objectMetadata));
         } catch (AmazonServiceException e) {
             throw new AppException(ErrorCode.IMAGE_S3_UPLOAD_FAILED);
         } catch (SdkClientException e) {
@@ -106,19 +159,6 @@ public class S3UploaderServiceImpl implements S3UploaderService {
     }
 
 
-    /**
-     * 로컬 파일 targetFile 삭제
-     *
-     * @param targetFile
-     */
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("FILE DELETE SUCCESS: " + targetFile.getAbsolutePath());
-            return;
-        }
-        log.info("FILE DELETE FAILED: " + targetFile.getAbsolutePath());
-    }
-
     private ObjectMetadata getObjectMetadata(MultipartFile file) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(file.getContentType());
@@ -126,6 +166,53 @@ public class S3UploaderServiceImpl implements S3UploaderService {
         return objectMetadata;
     }
 
+    private ObjectMetadata getHlsObjectMetadata(String fileName) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        if (fileName.endsWith(PLAYLIST_EXTEND)) {
+            objectMetadata.setContentType(PLAYLIST_CONTENT_TYPE);
+            objectMetadata.setCacheControl(PLAYLIST_CACHE_CONTROL);
+        } else if (fileName.endsWith(SEGMENT_EXTEND)) {
+            objectMetadata.setContentType(SEGMENT_CONTENT_TYPE);
+            objectMetadata.setCacheControl(SEGMENT_CACHE_CONTROL);
+        } else if (fileName.endsWith(THUMBNAIL_EXTEND)) {
+            objectMetadata.setContentType(THUMBNAIL_CONTENT_TYPE);
+            objectMetadata.setCacheControl(SEGMENT_CACHE_CONTROL);
+        } else if (fileName.endsWith(THUMBNAIL_TRACK_EXTEND)) {
+            objectMetadata.setContentType(THUMBNAIL_TRACK_CONTENT_TYPE);
+            objectMetadata.setCacheControl(PLAYLIST_CACHE_CONTROL);
+        }
+        return objectMetadata;
+    }
+
+    private String getHlsDirName(String sessionId) {
+        return hlsPath + "/" + sessionId;
+    }
+
+    private String getHlsKey(Path outputPath, Path filePath, String sessionId) {
+        String relativePath = outputPath.relativize(filePath).toString().replace(File.separatorChar, '/');
+        return getHlsDirName(sessionId) + "/" + relativePath;
+    }
+
+    // prefix 아래에 이미 올라간 객체 key 목록
+    private Set<String> getUploadedKeys(String prefix) {
+        Set<String> keys = new HashSet<>();
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix);
+        try {
+            ListObjectsV2Result result;
+            do {
+                result = amazonS3.listObjectsV2(request);
+                result.getObjectSummaries().forEach(summary -> keys.add(summary.getKey()));
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        } catch (SdkClientException e) {
+            // 목록을 못 얻으면 모두 다시 올린다.
+            log.warn("Listing {} failed - {}", prefix, e.getMessage());
+        }
+        return keys;
+    }
+
     private String makeImageUUID(MultipartFile targetFile) {
         return UUID.randomUUID().toString().replace("-", "") + "_" + targetFile.getOriginalFilename();
     }
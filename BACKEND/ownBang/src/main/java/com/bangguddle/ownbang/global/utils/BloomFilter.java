@@ -0,0 +1,68 @@
+package com.bangguddle.ownbang.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter, "없음" 응답은 항상 정확하고 "있을 수 있음" 응답은 fpp 확률로 틀립니다.<br/>
+ * 비트를 CAS로 켜므로 여러 스레드가 잠금 없이 동시에 넣고 조회할 수 있으며, 값을 지울 수는 없습니다.
+ */
+public class BloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 넣을 값의 예상 개수, 넘으면 오탐률이 올라간다.
+     * @param fpp                예상 개수만큼 넣었을 때의 오탐률 (ex. 0.01)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) Math.min((bits + 63) / 64, Integer.MAX_VALUE));
+        this.bitSize = (long) words.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash, hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = words.get(word)) & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                // 다른 스레드가 같은 word 를 바꿨으면 다시 시도
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash, hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        // 음수 해시는 비트를 뒤집어 양수로 만든다.
+        return (combined < 0 ? ~combined : combined) % bitSize;
+    }
+
+    // 64비트 FNV-1a, 위/아래 32비트를 두 해시로 나눠 hashCount 개 위치를 만든다. (Kirsch-Mitzenmacher)
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bangguddle.ownbang.global.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수로 외부 서버 장애를 판단하는 서킷 브레이커
+ * <pre>
+ * CLOSED     모든 호출 허용, 연속 failureThreshold 번 실패하면 OPEN
+ * OPEN       openMillis 동안 호출을 바로 거절, 이후 첫 호출을 시험 호출로 허용하며 HALF_OPEN
+ * HALF_OPEN  시험 호출의 결과를 기다리는 중 (다른 호출은 거절), 성공하면 CLOSED, 실패하면 다시 OPEN
+ * </pre>
+ * 허용된 호출은 반드시 onSuccess, onFailure, onIgnored 중 하나로 결과를 알려야 합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private record Snapshot(State state, int failures, long openedAt) {
+    }
+
+    private static final Snapshot CLOSED = new Snapshot(State.CLOSED, 0, 0);
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(CLOSED);
+
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    // 호출 허용 여부, OPEN 대기 시간이 지났으면 이 호출을 시험 호출로 허용한다.
+    public boolean tryAcquire() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            switch (current.state()) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    return false;
+                default:
+                    if (clock.getAsLong() - current.openedAt() < openMillis) return false;
+                    if (snapshot.compareAndSet(current, new Snapshot(State.HALF_OPEN, current.failures(), current.openedAt()))) {
+                        return true;
+                    }
+            }
+        }
+    }
+
+    // 상태를 바꾸지 않고 지금 호출하면 허용되는지
+    public boolean isCallPermitted() {
+        Snapshot current = snapshot.get();
+        return switch (current.state()) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> clock.getAsLong() - current.openedAt() >= openMillis;
+        };
+    }
+
+    public void onSuccess() {
+        snapshot.set(CLOSED);
+    }
+
+    public void onFailure() {
+        snapshot.updateAndGet(current -> switch (current.state()) {
+            case HALF_OPEN -> new Snapshot(State.OPEN, current.failures() + 1, clock.getAsLong());
+            case OPEN -> current;
+            case CLOSED -> current.failures() + 1 >= failureThreshold
+                    ? new Snapshot(State.OPEN, current.failures() + 1, clock.getAsLong())
+                    : new Snapshot(State.CLOSED, current.failures() + 1, 0);
+        });
+    }
+
+    // 서버에 닿지 못한 호출 (ex. 대기열 초과), 시험 호출이었으면 다음 호출이 다시 시험하도록 OPEN으로 되돌린다.
+    public void onIgnored() {
+        snapshot.updateAndGet(current -> current.state() == State.HALF_OPEN
+                ? new Snapshot(State.OPEN, current.failures(), current.openedAt())
+                : current);
+    }
+
+    public State getState() {
+        return snapshot.get().state();
+    }
+}
@@ -39,7 +39,7 @@ public class LogFormatUtils {
     }
 
 
-    private static String getRemoteAddr(HttpServletRequest request) {
+    public static String getRemoteAddr(HttpServletRequest request) {
         List<String> remoteHostHeaders = List.of(REMOTE_HOST_HEADERS);
 
         for (String header : remoteHostHeaders) {
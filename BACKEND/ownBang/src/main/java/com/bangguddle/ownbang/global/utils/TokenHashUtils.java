@@ -0,0 +1,21 @@
+package com.bangguddle.ownbang.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문을 메모리 캐시나 메시지에 남기지 않도록 SHA-256 해시로 바꿉니다.
+ */
+public class TokenHashUtils {
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.bangguddle.ownbang.domain.auth.dto.UserSignUpRequest;
 import com.bangguddle.ownbang.domain.auth.service.impl.AuthServiceImpl;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import com.bangguddle.ownbang.domain.user.service.UserDuplicateFilterService;
 import com.bangguddle.ownbang.global.config.security.JwtProvider;
 import com.bangguddle.ownbang.global.dto.Tokens;
 import com.bangguddle.ownbang.global.enums.ErrorCode;
@@ -47,6 +48,8 @@ class AuthServiceTest {
     @Mock
     private RedisRepository redisRepository;
     @Mock
+    private UserDuplicateFilterService userDuplicateFilterService;
+    @Mock
     private User mockUser;
 
     @Test
@@ -65,13 +68,14 @@ class AuthServiceTest {
                 new SuccessResponse<>(SIGNUP_SUCCESS, NoneResponse.NONE);
 
         // when
-        doReturn(Optional.empty()).when(userRepository).findByEmail(request.email());
-        doReturn(Optional.empty()).when(userRepository).findByPhoneNumber(request.phoneNumber());
+        doReturn(false).when(userRepository).existsByEmail(request.email());
+        doReturn(false).when(userRepository).existsByPhoneNumber(request.phoneNumber());
 
         // then
         assertThatCode(() -> authService.signUp(request)).doesNotThrowAnyException();
         assertThat(authService.signUp(request)).isInstanceOf(SuccessResponse.class)
                 .isEqualTo(expected);
+        verify(userDuplicateFilterService, times(2)).add(request.email(), request.phoneNumber());
 
     }
 
@@ -84,8 +88,7 @@ class AuthServiceTest {
                 .build();
 
         // when
-        doThrow(new AppException(PHONE_NUMBER_DUPLICATED))
-                .when(userRepository).findByPhoneNumber(request.phoneNumber());
+        doReturn(true).when(userRepository).existsByPhoneNumber(request.phoneNumber());
 
         // then
         assertThatThrownBy(() -> authService.signUp(request))
@@ -102,8 +105,7 @@ class AuthServiceTest {
                 .build();
 
         // when
-        doThrow(new AppException(EMAIL_DUPLICATED))
-                .when(userRepository).findByEmail(request.email());
+        doReturn(true).when(userRepository).existsByEmail(request.email());
 
         // then
         assertThatThrownBy(() -> authService.signUp(request))
@@ -119,10 +121,10 @@ class AuthServiceTest {
         DuplicateResponse response = new DuplicateResponse(true);
         SuccessResponse<DuplicateResponse> success =
                 new SuccessResponse<>(CHECK_EMAIL_DUPLICATE_SUCCESS, response);
-        User user = User.builder().email(email).build();
 
         // when
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userDuplicateFilterService.mightExistEmail(email)).thenReturn(true);
+        when(userRepository.existsByEmail(email)).thenReturn(true);
 
         // then
         assertThatCode(() -> authService.checkEmailDuplicate(email)).doesNotThrowAnyException();
@@ -140,12 +142,13 @@ class AuthServiceTest {
                 new SuccessResponse<>(CHECK_EMAIL_DUPLICATE_SUCCESS, response);
 
         // when
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userDuplicateFilterService.mightExistEmail(email)).thenReturn(false);
 
         // then
         assertThatCode(() -> authService.checkEmailDuplicate(email)).doesNotThrowAnyException();
         assertThat(authService.checkEmailDuplicate(email)).isInstanceOf(SuccessResponse.class)
                 .isEqualTo(success);
+        verify(userRepository, never()).existsByEmail(email);
     }
 
     @Test
@@ -156,10 +159,10 @@ class AuthServiceTest {
         DuplicateResponse response = new DuplicateResponse(true);
         SuccessResponse<DuplicateResponse> success =
                 new SuccessResponse<>(CHECK_PHONE_NUMBER_DUPLICATE_SUCCESS, response);
-        User user = User.builder().phoneNumber(phoneNumber).build();
 
         // when
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(user));
+        when(userDuplicateFilterService.mightExistPhoneNumber(phoneNumber)).thenReturn(true);
+        when(userRepository.existsByPhoneNumber(phoneNumber)).thenReturn(true);
 
         // then
         assertThatCode(() -> authService.checkPhoneNumberDuplicate(phoneNumber)).doesNotThrowAnyException();
@@ -177,12 +180,13 @@ class AuthServiceTest {
                 new SuccessResponse<>(CHECK_PHONE_NUMBER_DUPLICATE_SUCCESS, response);
 
         // when
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(Optional.empty());
+        when(userDuplicateFilterService.mightExistPhoneNumber(phoneNumber)).thenReturn(false);
 
         // then
         assertThatCode(() -> authService.checkPhoneNumberDuplicate(phoneNumber)).doesNotThrowAnyException();
         assertThat(authService.checkPhoneNumberDuplicate(phoneNumber)).isInstanceOf(SuccessResponse.class)
                 .isEqualTo(success);
+        verify(userRepository, never()).existsByPhoneNumber(phoneNumber);
     }
 
     @Test
@@ -240,4 +244,29 @@ class AuthServiceTest {
                 .isInstanceOf(BadCredentialsException.class);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 저장된 refresh token 과 다름")
+    public void 토큰_재발급_실패_refresh_token_불일치() {
+        // given
+        Long userId = 1L;
+        Tokens tokens = Tokens.builder()
+                .accessToken("access")
+                .refreshToken("refresh")
+                .build();
+        Tokens refresh = Tokens.builder()
+                .accessToken("new-access")
+                .refreshToken("new-refresh")
+                .build();
+
+        // when
+        when(jwtProvider.parseUserId("refresh")).thenReturn(userId);
+        when(jwtProvider.generateTokens(userId)).thenReturn(refresh);
+        when(redisRepository.rotate("access", "refresh", refresh)).thenReturn(false);
+
+        // then
+        assertThatThrownBy(() -> authService.refreshTokens(tokens))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining(ErrorCode.TOKEN_INVALID.getMessage());
+    }
+}
@@ -0,0 +1,123 @@
+package com.bangguddle.ownbang.domain.streaming.dto;
+
+import com.bangguddle.ownbang.domain.streaming.dto.HlsTranscodePlan.Rendition;
+import com.bangguddle.ownbang.domain.streaming.enums.TranscodeMode;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties.EncodeProfile;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
+import net.bramp.ffmpeg.probe.FFmpegStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HlsTranscodePlanTest {
+
+    private static final int COPY_MAX_HEIGHT = 1080;
+
+    private final List<EncodeProfile> ladder = List.of(
+            new EncodeProfile("360p", 360, 26, "800k", null, "96k"),
+            new EncodeProfile("720p", 720, 23, "2800k", null, "128k"),
+            new EncodeProfile("source", null, 23, null, null, "128k")
+    );
+
+    private FFmpegStream makeStream(FFmpegStream.CodecType codecType, String codecName, int height) {
+        FFmpegStream stream = new FFmpegStream();
+        stream.codec_type = codecType;
+        stream.codec_name = codecName;
+        stream.height = height;
+        stream.pix_fmt = codecType == FFmpegStream.CodecType.VIDEO ? "yuv420p" : null;
+        return stream;
+    }
+
+    private FFmpegProbeResult makeProbe(FFmpegStream... streams) {
+        FFmpegProbeResult probe = new FFmpegProbeResult();
+        probe.streams = List.of(streams);
+        return probe;
+    }
+
+    @Test
+    @DisplayName("변환 방식 결정 - 호환되는 코덱은 복사")
+    void 변환_방식_결정__호환되는_코덱은_복사() {
+        // given
+        FFmpegProbeResult probe = makeProbe(
+                makeStream(FFmpegStream.CodecType.VIDEO, "h264", 720),
+                makeStream(FFmpegStream.CodecType.AUDIO, "aac", 0));
+
+        // when
+        HlsTranscodePlan plan = HlsTranscodePlan.of(probe, List.of(), COPY_MAX_HEIGHT);
+
+        // then
+        assertThat(plan.mode()).isEqualTo(TranscodeMode.REMUX);
+        assertThat(plan.videoEncodes()).isZero();
+        assertThat(plan.renditions()).containsExactly(new Rendition(HlsTranscodePlan.SOURCE_PROFILE, true, true));
+    }
+
+    @Test
+    @DisplayName("변환 방식 결정 - 오디오 코덱만 다르면 오디오만 변환")
+    void 변환_방식_결정__오디오_코덱만_다르면_오디오만_변환() {
+        // given
+        FFmpegProbeResult probe = makeProbe(
+                makeStream(FFmpegStream.CodecType.VIDEO, "h264", 720),
+                makeStream(FFmpegStream.CodecType.AUDIO, "opus", 0));
+
+        // when
+        HlsTranscodePlan plan = HlsTranscodePlan.of(probe, List.of(), COPY_MAX_HEIGHT);
+
+        // then
+        assertThat(plan.mode()).isEqualTo(TranscodeMode.AUDIO_TRANSCODE);
+        assertThat(plan.renditions()).containsExactly(new Rendition(HlsTranscodePlan.SOURCE_PROFILE, true, false));
+    }
+
+    @Test
+    @DisplayName("변환 방식 결정 - 원본 이상 해상도 렌디션은 원본과 합침")
+    void 변환_방식_결정__원본_이상_해상도_렌디션은_원본과_합침() {
+        // given
+        FFmpegProbeResult probe = makeProbe(
+                makeStream(FFmpegStream.CodecType.VIDEO, "h264", 480),
+                makeStream(FFmpegStream.CodecType.AUDIO, "opus", 0));
+
+        // when
+        HlsTranscodePlan plan = HlsTranscodePlan.of(probe, ladder, COPY_MAX_HEIGHT);
+
+        // then
+        assertThat(plan.mode()).isEqualTo(TranscodeMode.ENCODE);
+        assertThat(plan.renditions())
+                .extracting(rendition -> rendition.profile().name())
+                .containsExactly("360p", "source");
+        assertThat(plan.videoEncodes()).isEqualTo(1);
+        assertThat(plan.ladderSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("변환 방식 결정 - 호환되지 않는 코덱은 재인코딩")
+    void 변환_방식_결정__호환되지_않는_코덱은_재인코딩() {
+        // given
+        FFmpegProbeResult probe = makeProbe(
+                makeStream(FFmpegStream.CodecType.VIDEO, "vp8", 720),
+                makeStream(FFmpegStream.CodecType.AUDIO, "opus", 0));
+
+        // when
+        HlsTranscodePlan plan = HlsTranscodePlan.of(probe, ladder, COPY_MAX_HEIGHT);
+
+        // then
+        assertThat(plan.mode()).isEqualTo(TranscodeMode.ENCODE);
+        assertThat(plan.renditions())
+                .extracting(rendition -> rendition.profile().name())
+                .containsExactly("360p", "source");
+        assertThat(plan.videoEncodes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변환 방식 결정 - 분석 실패 시 모두 재인코딩")
+    void 변환_방식_결정__분석_실패_시_모두_재인코딩() {
+        // when
+        HlsTranscodePlan plan = HlsTranscodePlan.of(null, ladder, COPY_MAX_HEIGHT);
+
+        // then
+        assertThat(plan.mode()).isEqualTo(TranscodeMode.ENCODE);
+        assertThat(plan.hasAudio()).isTrue();
+        assertThat(plan.videoEncodes()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,141 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.service.impl.HlsPublishServiceImpl;
+import com.bangguddle.ownbang.global.service.S3UploaderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인코딩 중 HLS 결과물 업로드 순서와 VOD 확정
+ */
+@ExtendWith(MockitoExtension.class)
+public class HlsPublishServiceTest {
+
+    private static final String sessionId = "ses_1";
+    private static final String hlsUrl = "https://cdn.ownbang.com/hls/ses_1";
+    private static final String eventPlaylist = """
+            #EXTM3U
+            #EXT-X-VERSION:3
+            #EXT-X-TARGETDURATION:10
+            #EXT-X-PLAYLIST-TYPE:EVENT
+            #EXTINF:10.0,
+            360p_00000000.ts
+            #EXTINF:10.0,
+            360p_00000001.ts
+            """;
+    private static final String masterPlaylist = """
+            #EXTM3U
+            #EXT-X-STREAM-INF:BANDWIDTH=800000,RESOLUTION=640x360
+            360p.m3u8
+            """;
+
+    @TempDir
+    private Path hlsPath;
+
+    @Mock
+    private S3UploaderService s3UploaderService;
+
+    @InjectMocks
+    private HlsPublishServiceImpl hlsPublishService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 주기 업로드가 테스트 중에 끼어들지 않도록 길게 둔다.
+        ReflectionTestUtils.setField(hlsPublishService, "publishIntervalMillis", 3_600_000L);
+        Files.writeString(hlsPath.resolve("360p.m3u8"), eventPlaylist);
+        Files.writeString(hlsPath.resolve(sessionId + ".m3u8"), masterPlaylist);
+        Files.createFile(hlsPath.resolve("360p_00000000.ts"));
+        Files.createFile(hlsPath.resolve("360p_00000001.ts"));
+        when(s3UploaderService.getHlsUrl(sessionId)).thenReturn(hlsUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hlsPublishService.shutdown();
+    }
+
+    @Test
+    @DisplayName("HLS 공개 성공 - 세그먼트, 렌디션 플레이리스트, 마스터 플레이리스트 순서로 업로드")
+    void HLS_공개_성공__세그먼트_렌디션_플레이리스트_마스터_플레이리스트_순서로_업로드() {
+        // given
+        List<String> announced = new ArrayList<>();
+        hlsPublishService.open(sessionId, hlsPath, sessionId + ".m3u8", announced::add);
+
+        // when
+        String playlistUrl = hlsPublishService.close(sessionId);
+
+        // then
+        assertThat(playlistUrl).isEqualTo(hlsUrl + "/" + sessionId + ".m3u8");
+        assertThat(announced).containsExactly(playlistUrl);
+
+        // verify
+        InOrder inOrder = inOrder(s3UploaderService);
+        inOrder.verify(s3UploaderService).uploadHlsFile(hlsPath, hlsPath.resolve("360p_00000000.ts"), sessionId);
+        inOrder.verify(s3UploaderService).uploadHlsFile(hlsPath, hlsPath.resolve("360p_00000001.ts"), sessionId);
+        inOrder.verify(s3UploaderService).uploadHlsFile(hlsPath, hlsPath.resolve("360p.m3u8"), sessionId);
+        inOrder.verify(s3UploaderService).uploadHlsFile(hlsPath, hlsPath.resolve(sessionId + ".m3u8"), sessionId);
+    }
+
+    @Test
+    @DisplayName("HLS 공개 성공 - 종료 시 EVENT 플레이리스트를 VOD로 확정")
+    void HLS_공개_성공__종료_시_EVENT_플레이리스트를_VOD로_확정() throws Exception {
+        // given
+        hlsPublishService.open(sessionId, hlsPath, sessionId + ".m3u8", url -> {
+        });
+
+        // when
+        hlsPublishService.close(sessionId);
+
+        // then
+        String media = Files.readString(hlsPath.resolve("360p.m3u8"));
+        assertThat(media)
+                .contains("#EXT-X-PLAYLIST-TYPE:VOD")
+                .doesNotContain("#EXT-X-PLAYLIST-TYPE:EVENT")
+                .endsWith("#EXT-X-ENDLIST" + System.lineSeparator());
+        assertThat(Files.readString(hlsPath.resolve(sessionId + ".m3u8"))).isEqualTo(masterPlaylist);
+        assertThat(Files.exists(hlsPath.resolve("360p.m3u8.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("HLS 공개 성공 - 공개 알림이 실패하면 다음 주기에 다시 알림")
+    void HLS_공개_성공__공개_알림이_실패하면_다음_주기에_다시_알림() {
+        // given
+        @SuppressWarnings("unchecked")
+        Consumer<String> onFirstPublish = mock(Consumer.class);
+        doThrow(new IllegalStateException("db down")).doNothing().when(onFirstPublish).accept(any());
+        hlsPublishService.open(sessionId, hlsPath, sessionId + ".m3u8", onFirstPublish);
+
+        // when
+        ReflectionTestUtils.invokeMethod(hlsPublishService, "publishQuietly", sessionId, publication());
+        ReflectionTestUtils.invokeMethod(hlsPublishService, "publishQuietly", sessionId, publication());
+        ReflectionTestUtils.invokeMethod(hlsPublishService, "publishQuietly", sessionId, publication());
+
+        // verify
+        verify(onFirstPublish, times(2)).accept(hlsUrl + "/" + sessionId + ".m3u8");
+        verify(s3UploaderService, times(1)).uploadHlsFile(hlsPath, hlsPath.resolve(sessionId + ".m3u8"), sessionId);
+    }
+
+    private Object publication() {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(hlsPublishService, "mapPublications")).get(sessionId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.service.impl.RecordingWorkspaceServiceImpl;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.RECORDING_WORKSPACE_FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RecordingWorkspaceServiceTest {
+
+    private static final String sessionId = "test-session-id";
+    private static final String recordFileName = sessionId + ".webm";
+
+    @TempDir
+    private Path recordingPath;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingWorkspaceServiceImpl recordingWorkspaceService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 녹화 폴더: zip, json, 압축 해제한 녹화 파일, HLS 결과 폴더
+        Path sessionPath = Files.createDirectories(recordingPath.resolve(sessionId));
+        Files.write(sessionPath.resolve(sessionId + ".zip"), new byte[100]);
+        Files.write(sessionPath.resolve(sessionId + ".json"), new byte[10]);
+        Files.write(sessionPath.resolve(recordFileName), new byte[1000]);
+        Path hlsPath = Files.createDirectories(sessionPath.resolve(sessionId).resolve("360p"));
+        Files.write(hlsPath.resolve(sessionId + "_00000000.ts"), new byte[500]);
+
+        meterRegistry = new SimpleMeterRegistry();
+        recordingWorkspaceService = new RecordingWorkspaceServiceImpl(meterRegistry);
+        ReflectionTestUtils.setField(recordingWorkspaceService, "recordingPath", recordingPath.toString());
+        ReflectionTestUtils.setField(recordingWorkspaceService, "highWaterRatio", 1.0);
+        ReflectionTestUtils.setField(recordingWorkspaceService, "waitTimeoutMillis", 0L);
+        ReflectionTestUtils.setField(recordingWorkspaceService, "pollIntervalMillis", 1L);
+        recordingWorkspaceService.init();
+    }
+
+    @Test
+    @DisplayName("작업 공간 측정 성공 - 시작 시 남아 있는 세션 포함")
+    void 작업_공간_측정_성공__시작_시_남아_있는_세션_포함() {
+        assertThat(recordingWorkspaceService.getSessionBytes(sessionId)).isEqualTo(1610);
+        assertThat(meterRegistry.get("recording.workspace.used").gauge().value()).isEqualTo(1610);
+        assertThat(meterRegistry.get("recording.workspace.sessions").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중간 파일 정리 성공 - 단계별 삭제")
+    void 중간_파일_정리_성공__단계별_삭제() {
+        Path sessionPath = recordingWorkspaceService.getSessionPath(sessionId);
+
+        // 변환 완료 -> 압축 해제한 파일 삭제
+        recordingWorkspaceService.cleanup(sessionId, StreamingStage.TRANSCODE, recordFileName);
+        assertThat(sessionPath.resolve(recordFileName)).doesNotExist();
+        assertThat(sessionPath.resolve(sessionId + ".zip")).exists();
+        assertThat(recordingWorkspaceService.getSessionBytes(sessionId)).isEqualTo(600);
+
+        // 업로드 완료 -> HLS 결과 삭제
+        recordingWorkspaceService.cleanup(sessionId, StreamingStage.UPLOAD, recordFileName);
+        assertThat(recordingWorkspaceService.getHlsPath(sessionId)).doesNotExist();
+        assertThat(recordingWorkspaceService.getSessionBytes(sessionId)).isEqualTo(100);
+
+        // 녹화 삭제 완료 -> 세션 폴더 삭제
+        recordingWorkspaceService.cleanup(sessionId, StreamingStage.DELETE_RECORDING, recordFileName);
+        assertThat(sessionPath).doesNotExist();
+        assertThat(recordingWorkspaceService.getUsedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업 공간 대기 실패 - 용량 상한 초과")
+    void 작업_공간_대기_실패__용량_상한_초과() {
+        // given
+        ReflectionTestUtils.setField(recordingWorkspaceService, "maxBytes", 1000L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> recordingWorkspaceService.awaitCapacity(sessionId));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", RECORDING_WORKSPACE_FULL);
+        assertThat(meterRegistry.get("recording.workspace.waiting.jobs").gauge().value()).isZero();
+    }
+}
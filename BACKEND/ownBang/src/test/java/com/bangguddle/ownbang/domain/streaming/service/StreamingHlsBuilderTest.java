@@ -0,0 +1,107 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.dto.HlsTranscodePlan;
+import com.bangguddle.ownbang.domain.streaming.dto.HlsTranscodePlan.Rendition;
+import com.bangguddle.ownbang.domain.streaming.enums.TranscodeMode;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingServiceImpl;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties;
+import com.bangguddle.ownbang.global.config.HlsEncodeProperties.EncodeProfile;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * HLS 변환 ffmpeg 명령 (filter graph, -map, -var_stream_map, 마스터 플레이리스트 인자)
+ */
+@ExtendWith(MockitoExtension.class)
+public class StreamingHlsBuilderTest {
+
+    private static final String sessionId = "ses_1";
+    private static final String filename = sessionId + ".webm";
+    private static final EncodeProfile low = new EncodeProfile("360p", 360, 23, "800k", null, "96k");
+    private static final EncodeProfile high = new EncodeProfile("720p", 720, 23, "1.5M", null, "128k");
+
+    @TempDir
+    private Path workspace;
+
+    @Mock
+    private RecordingWorkspaceService recordingWorkspaceService;
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @InjectMocks
+    private StreamingServiceImpl streamingService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(streamingService, "hlsEncodeProperties",
+                new HlsEncodeProperties(List.of(low, high)));
+        Path sessionPath = Files.createDirectories(workspace.resolve(sessionId));
+        Files.createFile(sessionPath.resolve(filename));
+        when(recordingWorkspaceService.getSessionPath(sessionId)).thenReturn(sessionPath);
+        when(recordingWorkspaceService.getHlsPath(sessionId)).thenReturn(workspace.resolve("hls").resolve(sessionId));
+    }
+
+    @Test
+    @DisplayName("HLS 명령 생성 성공 - 영상 렌디션마다 split/scale 하고 마스터 플레이리스트로 묶음")
+    void HLS_명령_생성_성공__렌디션() {
+        // given
+        HlsTranscodePlan plan = new HlsTranscodePlan(TranscodeMode.ENCODE,
+                List.of(new Rendition(low, false, false), new Rendition(high, false, false)), true, true, 2);
+
+        // when
+        List<String> args = build(plan);
+
+        // then
+        assertThat(argAfter(args, "-filter_complex")).isEqualTo("[0:v]split=2[v0][v1]"
+                + ";[v0]scale=-2:'trunc(min(360,ih)/2)*2'[v0out]"
+                + ";[v1]scale=-2:'trunc(min(720,ih)/2)*2'[v1out]");
+        assertThat(args).containsSubsequence("-map", "[v0out]", "-map", "0:a:0", "-map", "[v1out]", "-map", "0:a:0");
+        assertThat(argAfter(args, "-var_stream_map")).isEqualTo("v:0,a:0,name:360p v:1,a:1,name:720p");
+        assertThat(argAfter(args, "-master_pl_name")).isEqualTo(sessionId + ".m3u8");
+        assertThat(argAfter(args, "-bufsize:v:0")).isEqualTo("1600k");
+        assertThat(argAfter(args, "-bufsize:v:1")).isEqualTo("3M");
+    }
+
+    @Test
+    @DisplayName("HLS 명령 생성 성공 - 영상 트랙이 없으면 split 없이 오디오 렌디션 하나로 변환")
+    void HLS_명령_생성_성공__오디오만() {
+        // given
+        HlsTranscodePlan plan = new HlsTranscodePlan(TranscodeMode.AUDIO_TRANSCODE,
+                List.of(new Rendition(low, false, false), new Rendition(high, false, false)), false, true, 2);
+
+        // when
+        List<String> args = build(plan);
+
+        // then
+        assertThat(args).doesNotContain("-filter_complex", "-var_stream_map", "-master_pl_name", "-c:v:0");
+        assertThat(args).containsSubsequence("-map", "0:v:0?", "-map", "0:a:0?", "-c:a:0", "aac");
+        assertThat(args).anyMatch(arg -> arg.endsWith(sessionId + ".m3u8") && !arg.contains("%v"));
+    }
+
+    private List<String> build(HlsTranscodePlan plan) {
+        FFmpegBuilder builder = ReflectionTestUtils.invokeMethod(streamingService, "createHlsBuilder",
+                filename, sessionId, false, plan, 60_000L);
+        return builder.build();
+    }
+
+    private String argAfter(List<String> args, String option) {
+        int index = args.indexOf(option);
+        assertThat(index).as(option).isNotNegative();
+        return args.get(index + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingJobLeaseServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingJobLeaseServiceTest {
+
+    private static final String owner = "worker-1";
+
+    @Mock
+    private StreamingJobRepository streamingJobRepository;
+
+    @InjectMocks
+    private StreamingJobLeaseServiceImpl streamingJobLeaseService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamingJobLeaseService, "owner", owner);
+        ReflectionTestUtils.setField(streamingJobLeaseService, "leaseDurationMillis", 120_000L);
+    }
+
+    @Test
+    @DisplayName("점유 확인 성공 - 점유 중이면 만료 시각을 연장")
+    void 점유_확인_성공__점유_중이면_만료_시각을_연장() {
+        // given
+        when(streamingJobRepository.acquireLease(eq(1L), eq(owner), any(), any())).thenReturn(1);
+        when(streamingJobRepository.extendLease(eq(1L), eq(owner), any(), any())).thenReturn(1);
+        streamingJobLeaseService.claim(1L);
+
+        // when
+        boolean held = streamingJobLeaseService.holdsLease(1L);
+
+        // then
+        assertThat(held).isTrue();
+    }
+
+    @Test
+    @DisplayName("점유 확인 성공 - 다른 노드가 가져간 작업은 점유 해제로 봄")
+    void 점유_확인_성공__다른_노드가_가져간_작업은_점유_해제로_봄() {
+        // given
+        when(streamingJobRepository.acquireLease(eq(1L), eq(owner), any(), any())).thenReturn(1);
+        when(streamingJobRepository.extendLease(eq(1L), eq(owner), any(), any())).thenReturn(0);
+        streamingJobLeaseService.claim(1L);
+
+        // when
+        boolean held = streamingJobLeaseService.holdsLease(1L);
+
+        // then
+        assertThat(held).isFalse();
+        assertThat(streamingJobLeaseService.holdsLease(1L)).isFalse();
+
+        // verify
+        verify(streamingJobRepository, times(1)).extendLease(eq(1L), eq(owner), any(), any());
+    }
+
+    @Test
+    @DisplayName("점유 갱신 성공 - 갱신하지 못한 작업은 점유 목록에서 제외")
+    void 점유_갱신_성공__갱신하지_못한_작업은_점유_목록에서_제외() {
+        // given
+        when(streamingJobRepository.acquireLease(anyLong(), eq(owner), any(), any())).thenReturn(1);
+        when(streamingJobRepository.renewLeases(anyList(), eq(owner), any())).thenReturn(1);
+        when(streamingJobRepository.findLeasedIds(anyList(), eq(owner))).thenReturn(List.of(2L));
+        when(streamingJobRepository.extendLease(eq(2L), eq(owner), any(), any())).thenReturn(1);
+        streamingJobLeaseService.claim(1L);
+        streamingJobLeaseService.claim(2L);
+
+        // when
+        streamingJobLeaseService.renewLeases();
+
+        // then
+        assertThat(streamingJobLeaseService.holdsLease(1L)).isFalse();
+        assertThat(streamingJobLeaseService.holdsLease(2L)).isTrue();
+
+        // verify
+        verify(streamingJobRepository, never()).extendLease(eq(1L), any(), any(), any());
+    }
+}
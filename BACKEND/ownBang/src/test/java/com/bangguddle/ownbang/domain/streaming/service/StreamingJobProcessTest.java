@@ -0,0 +1,95 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingServiceImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.WebrtcSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 작업 수행 중 점유(lease)를 잃었을 때의 처리
+ */
+@ExtendWith(MockitoExtension.class)
+public class StreamingJobProcessTest {
+
+    private static final Long jobId = 1L;
+    private static final String sessionId = "ses_1";
+
+    @Mock
+    private StreamingJobRepository streamingJobRepository;
+    @Mock
+    private StreamingJobLeaseService streamingJobLeaseService;
+    @Mock
+    private StreamingMetricsService streamingMetricsService;
+    @Mock
+    private RecordingWorkspaceService recordingWorkspaceService;
+    @Mock
+    private WebrtcSessionService webrtcSessionService;
+
+    @InjectMocks
+    private StreamingServiceImpl streamingService;
+
+    private StreamingJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = StreamingJob.builder().sessionId(sessionId).build();
+        ReflectionTestUtils.setField(job, "id", jobId);
+        ReflectionTestUtils.setField(job, "stage", StreamingStage.DELETE_RECORDING);
+        ReflectionTestUtils.setField(job, "updatedAt", LocalDateTime.now());
+        when(streamingJobLeaseService.claim(jobId)).thenReturn(true);
+        when(streamingJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+    }
+
+    @Test
+    @DisplayName("작업 수행 성공 - 단계 수행 중 점유를 잃으면 저장하지 않고 중단")
+    void 작업_수행_성공__단계_수행_중_점유를_잃으면_저장하지_않고_중단() {
+        // given
+        when(streamingJobLeaseService.holdsLease(jobId)).thenReturn(true, false);
+
+        // when
+        streamingService.processStreamingJob(jobId);
+
+        // then
+        assertThat(job.getStage()).isEqualTo(StreamingStage.DELETE_RECORDING);
+
+        // verify
+        verify(webrtcSessionService).deleteRecordById(sessionId);
+        verify(streamingJobRepository, never()).save(any());
+        verify(recordingWorkspaceService, never()).cleanup(any(), any(), any());
+        verify(streamingJobLeaseService).release(jobId);
+    }
+
+    @Test
+    @DisplayName("작업 수행 성공 - 점유를 잃은 작업은 다음 단계를 시작하지 않음")
+    void 작업_수행_성공__점유를_잃은_작업은_다음_단계를_시작하지_않음() {
+        // given
+        when(streamingJobLeaseService.holdsLease(jobId)).thenReturn(false);
+
+        // when
+        streamingService.processStreamingJob(jobId);
+
+        // then
+        assertThat(job.getStage()).isEqualTo(StreamingStage.DELETE_RECORDING);
+
+        // verify
+        verify(webrtcSessionService, never()).deleteRecordById(any());
+        verify(streamingJobRepository, never()).save(any());
+        verify(streamingJobLeaseService).release(jobId);
+    }
+}
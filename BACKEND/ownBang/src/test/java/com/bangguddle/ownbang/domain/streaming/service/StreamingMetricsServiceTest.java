@@ -0,0 +1,64 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.enums.TranscodeMode;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingMetricsServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StreamingMetricsServiceImpl streamingMetricsService;
+    private StreamingJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        streamingMetricsService = new StreamingMetricsServiceImpl(meterRegistry);
+        job = StreamingJob.builder().sessionId("test-session-id").build();
+    }
+
+    @Test
+    @DisplayName("단계 기록 성공 - 압축 해제 처리량")
+    void 단계_기록_성공__압축_해제_처리량() {
+        job.getBreakdown().updateExtractBytes(4_000_000);
+
+        streamingMetricsService.recordStage(job, StreamingStage.EXTRACT, true, 2000);
+
+        assertThat(meterRegistry.get("streaming.stage.duration").tag("stage", "extract").tag("outcome", "success")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+        assertThat(meterRegistry.get("streaming.extract.throughput").summary().mean()).isEqualTo(2_000_000);
+        assertThat(meterRegistry.get("streaming.stage.bytes").tag("stage", "extract").counter().count()).isEqualTo(4_000_000);
+    }
+
+    @Test
+    @DisplayName("단계 기록 성공 - 변환 속도는 변환 방식별로")
+    void 단계_기록_성공__변환_속도는_변환_방식별로() {
+        job.updateTranscodeMode(TranscodeMode.REMUX);
+        job.getBreakdown().updateMediaMillis(60_000);
+
+        streamingMetricsService.recordStage(job, StreamingStage.TRANSCODE, true, 5000);
+
+        assertThat(meterRegistry.get("streaming.transcode.realtime").tag("mode", "REMUX").summary().mean()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("단계 기록 성공 - 실패한 단계는 시간만 기록")
+    void 단계_기록_성공__실패한_단계는_시간만_기록() {
+        job.getBreakdown().updateUploadBytes(1000);
+
+        streamingMetricsService.recordStage(job, StreamingStage.UPLOAD, false, 300);
+
+        assertThat(meterRegistry.get("streaming.stage.duration").tag("stage", "upload").tag("outcome", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("streaming.upload.throughput").summary()).isNull();
+    }
+}
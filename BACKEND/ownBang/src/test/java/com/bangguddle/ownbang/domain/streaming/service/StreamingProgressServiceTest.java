@@ -0,0 +1,109 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingProgressServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingProgressServiceTest {
+
+    private static final Long videoId = 1L;
+
+    @Mock
+    private StreamingJobRepository streamingJobRepository;
+
+    @InjectMocks
+    private StreamingProgressServiceImpl streamingProgressService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamingProgressService, "progressIntervalMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("진행 상황 기록 성공 - 주기 내 갱신은 무시")
+    void 진행_상황_기록_성공__주기_내_갱신은_무시() {
+        // given
+        streamingProgressService.start(videoId, 100_000);
+
+        // when
+        streamingProgressService.update(videoId, 25_000, 5.0f);
+        streamingProgressService.update(videoId, 50_000, 5.0f);
+
+        // verify
+        verify(streamingJobRepository).updateProgress(eq(videoId), eq(100_000L), eq(0L), eq(0f), any());
+        verify(streamingJobRepository).updateProgress(eq(videoId), eq(100_000L), eq(25_000L), eq(5.0f), any());
+        verify(streamingJobRepository, never()).updateProgress(any(), any(), eq(50_000L), any(), any());
+    }
+
+    @Test
+    @DisplayName("진행 상황 기록 성공 - 기록 실패는 변환을 중단하지 않음")
+    void 진행_상황_기록_성공__기록_실패는_변환을_중단하지_않음() {
+        // given
+        when(streamingJobRepository.updateProgress(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        streamingProgressService.start(videoId, 100_000);
+        streamingProgressService.update(videoId, 25_000, 5.0f);
+
+        // verify
+        verify(streamingJobRepository, times(2)).updateProgress(eq(videoId), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 성공 - 저장된 기록으로 진행률과 남은 시간 계산")
+    void 진행_상황_조회_성공__저장된_기록으로_진행률과_남은_시간_계산() {
+        // given
+        StreamingJob job = StreamingJob.builder().sessionId("ses_1").build();
+        ReflectionTestUtils.setField(job, "progressDurationMillis", 100_000L);
+        ReflectionTestUtils.setField(job, "progressProcessedMillis", 25_000L);
+        ReflectionTestUtils.setField(job, "progressSpeed", 5.0f);
+        ReflectionTestUtils.setField(job, "progressUpdatedAt", LocalDateTime.now());
+        when(streamingJobRepository.findByVideoId(videoId)).thenReturn(Optional.of(job));
+
+        // when
+        StreamingProgress progress = streamingProgressService.getProgress(videoId).orElseThrow();
+
+        // then
+        assertThat(progress.percent()).isEqualTo(25.0);
+        assertThat(progress.etaSeconds()).isEqualTo(15L);
+        assertThat(progress.processedSeconds()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 실패 - 종료된 작업")
+    void 진행_상황_조회_실패__종료된_작업() {
+        // given
+        streamingProgressService.start(videoId, 100_000);
+        when(streamingJobRepository.findByVideoId(videoId))
+                .thenReturn(Optional.of(StreamingJob.builder().sessionId("ses_1").build()));
+
+        // when
+        streamingProgressService.finish(videoId);
+        streamingProgressService.update(videoId, 25_000, 5.0f);
+
+        // then
+        assertThat(streamingProgressService.getProgress(videoId)).isEmpty();
+
+        // verify
+        verify(streamingJobRepository).updateProgress(videoId, null, null, null, null);
+        verify(streamingJobRepository, never()).updateProgress(any(), any(), eq(25_000L), any(), any());
+    }
+}
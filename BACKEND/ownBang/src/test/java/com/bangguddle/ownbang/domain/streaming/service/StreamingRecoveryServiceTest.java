@@ -0,0 +1,94 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.enums.StreamingStage;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingRecoveryServiceImpl;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingRecoveryServiceTest {
+
+    @Mock
+    private StreamingService streamingService;
+    @Mock
+    private StreamingJobRepository streamingJobRepository;
+    @Mock
+    private VideoRepository videoRepository;
+    @Mock
+    private Video video;
+    @Mock
+    private StreamingJob streamingJob;
+
+    @InjectMocks
+    private StreamingRecoveryServiceImpl streamingRecoveryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamingRecoveryService, "maxFailCount", 3);
+    }
+
+    @Test
+    @DisplayName("작업 복구 성공 - 끝나지 않은 작업 재개")
+    void 작업_복구_성공__끝나지_않은_작업_재개() {
+        // given
+        Long jobId = 1L;
+
+        // when
+        when(videoRepository.findAllByVideoStatus(VideoStatus.ENCODING)).thenReturn(List.of(video));
+        when(video.getId()).thenReturn(10L);
+        when(streamingJobRepository.findByVideoId(10L)).thenReturn(Optional.of(streamingJob));
+        when(streamingJobRepository.findAllByStageNotAndFailCountLessThan(StreamingStage.DONE, 3))
+                .thenReturn(List.of(streamingJob));
+        when(streamingJob.getId()).thenReturn(jobId);
+
+        // then
+        assertThat(streamingRecoveryService.recover()).isEqualTo(1);
+
+        // verify
+        verify(streamingJobRepository, never()).save(any());
+        verify(streamingService, times(1)).resumeStreaming(jobId);
+    }
+
+    @Test
+    @DisplayName("작업 복구 성공 - 작업 없이 인코딩 중인 영상은 작업 생성")
+    void 작업_복구_성공__작업_없이_인코딩_중인_영상은_작업_생성() {
+        // given
+        String sessionId = "test-session-id";
+        ArgumentCaptor<StreamingJob> captor = ArgumentCaptor.forClass(StreamingJob.class);
+
+        // when
+        when(videoRepository.findAllByVideoStatus(VideoStatus.ENCODING)).thenReturn(List.of(video));
+        when(video.getId()).thenReturn(10L);
+        when(video.getSessionId()).thenReturn(sessionId);
+        when(streamingJobRepository.findByVideoId(10L)).thenReturn(Optional.empty());
+        when(streamingJobRepository.findAllByStageNotAndFailCountLessThan(StreamingStage.DONE, 3))
+                .thenReturn(List.of());
+
+        // then
+        assertThat(streamingRecoveryService.recover()).isZero();
+
+        // verify
+        verify(streamingJobRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getSessionId()).isEqualTo(sessionId);
+        assertThat(captor.getValue().getStage()).isEqualTo(StreamingStage.EXTRACT);
+    }
+}
@@ -0,0 +1,80 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.service.impl.StreamingWorkerServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingWorkerServiceTest {
+
+    @Mock
+    private StreamingService streamingService;
+    @Mock
+    private StreamingJobLeaseService streamingJobLeaseService;
+
+    @InjectMocks
+    private StreamingWorkerServiceImpl streamingWorkerService;
+
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamingWorkerService, "concurrency", 2);
+        streamingWorkerService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        finish.countDown();
+        streamingWorkerService.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 점유 성공 - 동시 수행 수만큼만 가져감")
+    void 작업_점유_성공__동시_수행_수만큼만_가져감() throws Exception {
+        when(streamingJobLeaseService.claimNext())
+                .thenReturn(Optional.of(1L))
+                .thenReturn(Optional.of(2L))
+                .thenReturn(Optional.of(3L));
+        CountDownLatch started = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            started.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(streamingService).processStreamingJob(anyLong());
+
+        int polled = streamingWorkerService.poll();
+
+        assertThat(polled).isEqualTo(2);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(streamingJobLeaseService, times(2)).claimNext();
+        verify(streamingService).processStreamingJob(1L);
+        verify(streamingService).processStreamingJob(2L);
+        verify(streamingService, never()).processStreamingJob(3L);
+    }
+
+    @Test
+    @DisplayName("작업 점유 성공 - 남은 작업이 없으면 중단")
+    void 작업_점유_성공__남은_작업이_없으면_중단() {
+        when(streamingJobLeaseService.claimNext()).thenReturn(Optional.empty());
+
+        int polled = streamingWorkerService.poll();
+
+        assertThat(polled).isZero();
+        verify(streamingService, never()).processStreamingJob(anyLong());
+    }
+}
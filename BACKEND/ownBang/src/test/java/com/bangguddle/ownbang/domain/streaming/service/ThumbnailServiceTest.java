@@ -0,0 +1,65 @@
+package com.bangguddle.ownbang.domain.streaming.service;
+
+import com.bangguddle.ownbang.domain.streaming.service.impl.ThumbnailServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThumbnailServiceTest {
+
+    @TempDir
+    private Path hlsPath;
+
+    private ThumbnailServiceImpl thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailService = new ThumbnailServiceImpl();
+        ReflectionTestUtils.setField(thumbnailService, "enabled", true);
+        ReflectionTestUtils.setField(thumbnailService, "intervalSeconds", 5);
+        ReflectionTestUtils.setField(thumbnailService, "width", 160);
+        ReflectionTestUtils.setField(thumbnailService, "height", 90);
+        ReflectionTestUtils.setField(thumbnailService, "columns", 2);
+        ReflectionTestUtils.setField(thumbnailService, "rows", 2);
+        ReflectionTestUtils.setField(thumbnailService, "posterSeconds", 3);
+    }
+
+    @Test
+    @DisplayName("썸네일 필터 생성 성공 - 짧은 영상은 중간 지점을 포스터로")
+    void 썸네일_필터_생성_성공__짧은_영상은_중간_지점을_포스터로() {
+        String filter = thumbnailService.getFilter(4000);
+
+        assertThat(filter).contains("[0:v]select='gte(t,2.000)',trim=end_frame=1[poster]");
+        assertThat(filter).contains("[0:v]fps=1/5,");
+        assertThat(filter).endsWith("tile=2x2[sprite]");
+    }
+
+    @Test
+    @DisplayName("썸네일 트랙 작성 성공 - 스프라이트 시트를 넘기며 타일 좌표 기록")
+    void 썸네일_트랙_작성_성공__스프라이트_시트를_넘기며_타일_좌표_기록() throws Exception {
+        thumbnailService.writeTrack(hlsPath, 22_500);
+
+        String track = Files.readString(hlsPath.resolve("thumbnails/thumbnails.vtt"));
+        assertThat(track).startsWith("WEBVTT\n");
+        assertThat(track).contains("00:00:00.000 --> 00:00:05.000\nsprite_001.jpg#xywh=0,0,160,90\n");
+        assertThat(track).contains("00:00:15.000 --> 00:00:20.000\nsprite_001.jpg#xywh=160,90,160,90\n");
+        assertThat(track).endsWith("00:00:20.000 --> 00:00:22.500\nsprite_002.jpg#xywh=0,0,160,90\n");
+        assertThat(thumbnailService.getTrackPath(hlsPath)).isEqualTo("thumbnails/thumbnails.vtt");
+        assertThat(thumbnailService.getPosterPath(hlsPath)).isNull();
+    }
+
+    @Test
+    @DisplayName("썸네일 트랙 작성 생략 - 영상 길이를 모를 때")
+    void 썸네일_트랙_작성_생략__영상_길이를_모를_때() {
+        thumbnailService.writeTrack(hlsPath, 0);
+
+        assertThat(thumbnailService.getTrackPath(hlsPath)).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package com.bangguddle.ownbang.domain.user.service;
+
+import com.bangguddle.ownbang.domain.user.dto.UserContact;
+import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import com.bangguddle.ownbang.domain.user.service.impl.UserDuplicateFilterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDuplicateFilterServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDuplicateFilterServiceImpl userDuplicateFilterService;
+
+    @BeforeEach
+    void setUp() {
+        userDuplicateFilterService = new UserDuplicateFilterServiceImpl(userRepository, true, 1000, 0.01, 2, 3);
+    }
+
+    @Test
+    @DisplayName("필터 채우기 성공 - 연락처를 배치로 이어 읽고 정규화해서 조회")
+    void 필터_채우기_성공() {
+        // given
+        when(userRepository.findContactsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                contact(1L, "first@ownbang.com", "01011112222"),
+                contact(2L, "second@ownbang.com", "01033334444")));
+        when(userRepository.findContactsAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(
+                contact(5L, "third@ownbang.com", "01055556666")));
+
+        // when
+        userDuplicateFilterService.onApplicationReady();
+
+        // then
+        assertThat(userDuplicateFilterService.mightExistEmail(" Third@OwnBang.com")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistPhoneNumber("010-1111-2222")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistEmail("new@ownbang.com")).isFalse();
+        assertThat(userDuplicateFilterService.mightExistPhoneNumber("01099998888")).isFalse();
+
+        // verify
+        verify(userRepository, times(2)).findContactsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("필터 조회 - 채우기 전에는 DB에서 확인하도록 있을 수 있음으로 응답")
+    void 필터_조회__채우기_전() {
+        // when & then
+        assertThat(userDuplicateFilterService.mightExistEmail("new@ownbang.com")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistPhoneNumber("01099998888")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 조회 - 끈 노드는 채우지 않고 DB에서 확인하도록 있을 수 있음으로 응답")
+    void 필터_조회__끈_노드() {
+        // given
+        UserDuplicateFilterServiceImpl disabled = new UserDuplicateFilterServiceImpl(userRepository, false, 1000, 0.01, 2, 3);
+
+        // when
+        disabled.onApplicationReady();
+
+        // then
+        assertThat(disabled.mightExistEmail("new@ownbang.com")).isTrue();
+
+        // verify
+        verify(userRepository, never()).findContactsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("필터 갱신 성공 - 가입한 회원과 다른 서버에서 가입한 회원 반영")
+    void 필터_갱신_성공() {
+        // given
+        when(userRepository.findContactsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of());
+        userDuplicateFilterService.onApplicationReady();
+        when(userRepository.findContactsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                contact(7L, "other@ownbang.com", "01077778888")));
+
+        // when
+        userDuplicateFilterService.add("new@ownbang.com", "01099998888");
+        userDuplicateFilterService.refreshIfReady();
+
+        // then
+        assertThat(userDuplicateFilterService.mightExistEmail("new@ownbang.com")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistEmail("other@ownbang.com")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistPhoneNumber("01077778888")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 갱신 성공 - 마지막 id보다 늦게 커밋된 작은 id도 다시 읽어 반영")
+    void 필터_갱신_성공__늦게_커밋된_회원() {
+        // given
+        when(userRepository.findContactsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                contact(5L, "fifth@ownbang.com", "01055556666")));
+        userDuplicateFilterService.onApplicationReady();
+        // id 4 는 id 5 보다 늦게 커밋됨
+        when(userRepository.findContactsAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(
+                contact(4L, "late@ownbang.com", "01044445555"),
+                contact(5L, "fifth@ownbang.com", "01055556666")));
+        when(userRepository.findContactsAfter(5L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // when
+        int loaded = userDuplicateFilterService.refresh();
+
+        // then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(userDuplicateFilterService.mightExistEmail("late@ownbang.com")).isTrue();
+        assertThat(userDuplicateFilterService.mightExistPhoneNumber("010-4444-5555")).isTrue();
+
+        // verify
+        verify(userRepository, times(1)).findContactsAfter(2L, PageRequest.of(0, 2));
+    }
+
+    private UserContact contact(Long id, String email, String phoneNumber) {
+        return UserContact.builder().id(id).email(email).phoneNumber(phoneNumber).build();
+    }
+}
@@ -39,7 +39,7 @@ public class VideoControllerTest {
         VideoStatus videoStatus = VideoStatus.RECORDED;
 
         VideoSearchResponse response =
-                new VideoSearchResponse(videoId, reservationId, videoUrl, videoStatus);
+                new VideoSearchResponse(videoId, reservationId, videoUrl, videoStatus, null, null);
         SuccessResponse<VideoSearchResponse> success =
                 new SuccessResponse<>(VIDEO_FIND_SUCCESS, response);
 
@@ -41,7 +41,7 @@ public class VideoMvcController {
         Long reservationId = 1L;
         SuccessResponse<VideoSearchResponse> success =
                 new SuccessResponse<>(VIDEO_FIND_SUCCESS,
-                        new VideoSearchResponse(1L, 1L, "url", VideoStatus.RECORDED));
+                        new VideoSearchResponse(1L, 1L, "url", VideoStatus.RECORDED, null, null));
 
         // when
         when(videoService.getVideo(any(), any())).thenReturn(success);
@@ -64,7 +64,7 @@ public class VideoMvcController {
         Long invalidReservationId = -1L;
         SuccessResponse<VideoSearchResponse> success =
                 new SuccessResponse<>(VIDEO_FIND_SUCCESS,
-                        new VideoSearchResponse(1L, 1L, "url", VideoStatus.RECORDED));
+                        new VideoSearchResponse(1L, 1L, "url", VideoStatus.RECORDED, null, null));
 
         // when
         when(videoService.getVideo(any(), any())).thenReturn(success);
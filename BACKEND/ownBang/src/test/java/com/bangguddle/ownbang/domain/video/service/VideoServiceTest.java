@@ -3,9 +3,12 @@ package com.bangguddle.ownbang.domain.video.service;
 import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
 import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
 import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.dto.StreamingProgress;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingProgressService;
 import com.bangguddle.ownbang.domain.user.entity.User;
 import com.bangguddle.ownbang.domain.video.dto.VideoRecordRequest;
 import com.bangguddle.ownbang.domain.video.dto.VideoSearchResponse;
+import com.bangguddle.ownbang.domain.video.dto.VideoStatusResponse;
 import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
 import com.bangguddle.ownbang.domain.video.entity.Video;
 import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
@@ -36,6 +39,8 @@ public class VideoServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
     @Mock
+    private StreamingProgressService streamingProgressService;
+    @Mock
     private Reservation reservation;
     @Mock
     private Video video;
@@ -395,4 +400,108 @@ public class VideoServiceTest {
         verify(videoRepository, times(1)).findById(any());
         verify(videoRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("영상 공개 성공 - 인코딩 중인 영상")
+    void 영상_공개_성공__인코딩_중인_영상() throws Exception {
+        // given
+        Long videoId = 1L;
+        String playlistUrl = "VIDEO_TEST_URL/session.m3u8";
+        SuccessResponse success = new SuccessResponse<>(VIDEO_UPDATE_SUCCESS,NoneResponse.NONE);
+
+        // when
+        when(videoRepository.findById(videoId)).thenReturn(Optional.of(video));
+        when(video.getVideoStatus()).thenReturn(VideoStatus.ENCODING);
+
+        // then
+        SuccessResponse response = videoService.publishVideo(videoId, playlistUrl);
+
+        assertThat(response)
+                .isNotNull()
+                .isEqualTo(success);
+
+        // verify
+        verify(video, times(1)).updateVideoUrl(playlistUrl);
+        verify(videoRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("영상 공개 실패 - 인코딩 중이 아닌 영상")
+    void 영상_공개_실패__인코딩_중이_아닌_영상() throws Exception {
+        // given
+        Long videoId = 1L;
+        String playlistUrl = "VIDEO_TEST_URL/session.m3u8";
+
+        // when
+        when(videoRepository.findById(videoId)).thenReturn(Optional.of(video));
+        when(video.getVideoStatus()).thenReturn(VideoStatus.RECORDED);
+
+        // then
+        Throwable thrown = catchThrowable(() -> videoService.publishVideo(videoId, playlistUrl));
+
+        assertThat(thrown)
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BAD_REQUEST);
+
+        // verify
+        verify(video, never()).updateVideoUrl(any());
+        verify(videoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("영상 상태 조회 성공 - 인코딩 중인 영상")
+    void 영상_상태_조회_성공__인코딩_중인_영상() throws Exception {
+        // given
+        Long userId = 123L;
+        Long videoId = 1L;
+        Long reservationId = 10L;
+        String videoUrl = "VIDEO_TEST_URL/session.m3u8";
+        StreamingProgress progress = StreamingProgress.of(60_000, 30_000, 2.0f);
+
+        // when
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+        when(video.getVideoStatus()).thenReturn(VideoStatus.ENCODING);
+        when(video.getId()).thenReturn(videoId);
+        when(video.getReservation()).thenReturn(reservation);
+        when(video.getVideoUrl()).thenReturn(videoUrl);
+        when(reservation.getId()).thenReturn(reservationId);
+        when(reservation.getUser()).thenReturn(user);
+        when(user.getId()).thenReturn(userId);
+        when(streamingProgressService.getProgress(videoId)).thenReturn(Optional.of(progress));
+
+        // then
+        SuccessResponse<VideoStatusResponse> response = videoService.getVideoStatus(userId, reservationId);
+
+        assertThat(response.successCode()).isEqualTo(VIDEO_STATUS_FIND_SUCCESS);
+        assertThat(response.data())
+                .hasFieldOrPropertyWithValue("videoStatus", VideoStatus.ENCODING)
+                .hasFieldOrPropertyWithValue("videoUrl", videoUrl)
+                .hasFieldOrPropertyWithValue("progress", progress);
+        assertThat(progress.percent()).isEqualTo(50.0);
+        assertThat(progress.etaSeconds()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("영상 상태 조회 실패 - 권한이 없는 영상")
+    void 영상_상태_조회_실패__권한이_없는_영상() throws Exception {
+        // given
+        Long invalidUserId = 123L;
+        Long reservationId = 1L;
+
+        // when
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+        when(video.getReservation()).thenReturn(reservation);
+        when(reservation.getUser()).thenReturn(user);
+        when(user.getId()).thenReturn(1L);
+
+        // then
+        Throwable thrown = catchThrowable(() -> videoService.getVideoStatus(invalidUserId, reservationId));
+
+        assertThat(thrown)
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ACCESS_DENIED);
+
+        // verify
+        verify(streamingProgressService, never()).getProgress(any());
+    }
 }
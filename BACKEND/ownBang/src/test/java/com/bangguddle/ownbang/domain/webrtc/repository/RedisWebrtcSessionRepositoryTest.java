@@ -0,0 +1,279 @@
+package com.bangguddle.ownbang.domain.webrtc.repository;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.RedisWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.global.handler.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.BAD_REQUEST;
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBRTC_STATE_CONFLICT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisWebrtcSessionRepositoryTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private RedisWebrtcSessionRepositoryImpl webrtcSessionRepository;
+
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        reservationId = 10L;
+        ReflectionTestUtils.setField(webrtcSessionRepository, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(webrtcSessionRepository, "nearCacheMillis", 60_000L);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("세션 조회 성공 - 두 번째 조회는 근거리 캐시 사용")
+    void 세션_조회_성공__근거리_캐시() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "token:ROLE_USER", "user-token",
+                        "version", "3"));
+
+        // when
+        Optional<WebrtcCallState> first = webrtcSessionRepository.findByReservationId(reservationId);
+        Optional<WebrtcCallState> second = webrtcSessionRepository.findByReservationId(reservationId);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().sessionId()).isEqualTo("session_id");
+        assertThat(first.get().tokens()).containsExactlyEntriesOf(Map.of(UserType.ROLE_USER, "user-token"));
+        assertThat(first.get().status()).isEqualTo(CallStatus.OPEN);
+        assertThat(first.get().version()).isEqualTo(3L);
+        assertThat(first.get().hasRecording()).isFalse();
+        assertThat(second).isEqualTo(first);
+
+        // verify
+        verify(hashOperations, times(1)).entries("WEBRTC_SESSION_10");
+    }
+
+    @Test
+    @DisplayName("세션 조회 성공 - 무효화 메시지 수신 후 다시 조회")
+    void 세션_조회_성공__무효화_메시지_수신() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "version", "1"));
+
+        // when
+        Optional<WebrtcCallState> before = webrtcSessionRepository.findByReservationId(reservationId);
+        webrtcSessionRepository.onMessage(
+                new DefaultMessage("WEBRTC_SESSION_INVALIDATE".getBytes(StandardCharsets.UTF_8),
+                        "10".getBytes(StandardCharsets.UTF_8)), null);
+        Optional<WebrtcCallState> after = webrtcSessionRepository.findByReservationId(reservationId);
+
+        // then
+        assertThat(before).isEmpty();
+        assertThat(after).isPresent();
+        assertThat(after.get().sessionId()).isEqualTo("session_id");
+
+        // verify
+        verify(hashOperations, times(2)).entries("WEBRTC_SESSION_10");
+    }
+
+    @Test
+    @DisplayName("예약 id 목록 조회 성공 - 집합의 상태 해시 키를 모두 KEYS로 넘기고 남은 키의 예약 id 반환")
+    @SuppressWarnings("unchecked")
+    void 예약_id_목록_조회_성공() {
+        // given
+        when(setOperations.members("WEBRTC_CALL_STATE_KEYS"))
+                .thenReturn(Set.of("WEBRTC_SESSION_10", "WEBRTC_SESSION_11"));
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        when(redisTemplate.execute(any(RedisScript.class), captor.capture()))
+                .thenReturn(List.of("WEBRTC_SESSION_10"));
+
+        // when
+        List<Long> reservationIds = webrtcSessionRepository.findAllReservationIds();
+
+        // then
+        assertThat(reservationIds).containsExactly(10L);
+        assertThat(captor.getValue().get(0)).isEqualTo("WEBRTC_CALL_STATE_KEYS");
+        assertThat(captor.getValue().subList(1, 3))
+                .containsExactlyInAnyOrder("WEBRTC_SESSION_10", "WEBRTC_SESSION_11");
+    }
+
+    @Test
+    @DisplayName("예약 id 목록 조회 성공 - 집합이 비어 있으면 스크립트를 실행하지 않음")
+    @SuppressWarnings("unchecked")
+    void 예약_id_목록_조회_성공__빈_집합() {
+        // given
+        when(setOperations.members("WEBRTC_CALL_STATE_KEYS")).thenReturn(Set.of());
+
+        // when
+        List<Long> reservationIds = webrtcSessionRepository.findAllReservationIds();
+
+        // then
+        assertThat(reservationIds).isEmpty();
+
+        // verify
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("상태 변경 성공 - 캐시를 비우고 다른 서버에 알림")
+    @SuppressWarnings("unchecked")
+    void 상태_변경_성공__무효화_발행() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of())
+                .thenReturn(Map.of("status", "OPENING", "version", "1"));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("WEBRTC_SESSION_10", "WEBRTC_CALL_STATE_KEYS", "WEBRTC_RECORDING_ID_", "WEBRTC_RECORDING_ID_")), any(Object[].class)))
+                .thenReturn(1L);
+
+        // when
+        webrtcSessionRepository.findByReservationId(reservationId);
+        Optional<WebrtcCallState> computed = webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        Optional<WebrtcCallState> after = webrtcSessionRepository.findByReservationId(reservationId);
+
+        // then
+        assertThat(computed).isPresent();
+        assertThat(computed.get().status()).isEqualTo(CallStatus.OPENING);
+        assertThat(computed.get().version()).isEqualTo(1L);
+        assertThat(after).isPresent();
+
+        // verify
+        verify(redisTemplate, times(1)).convertAndSend("WEBRTC_SESSION_INVALIDATE", "10");
+    }
+
+    @Test
+    @DisplayName("상태 변경 성공 - 다른 서버가 먼저 바꾸면 다시 읽고 전이를 다시 적용")
+    @SuppressWarnings("unchecked")
+    void 상태_변경_성공__경합_후_재시도() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "version", "1"))
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "token:ROLE_AGENT", "agent-token",
+                        "version", "2"));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("WEBRTC_SESSION_10", "WEBRTC_CALL_STATE_KEYS", "WEBRTC_RECORDING_ID_", "WEBRTC_RECORDING_ID_")), any(Object[].class)))
+                .thenReturn(0L)
+                .thenReturn(1L);
+
+        // when
+        Optional<WebrtcCallState> computed = webrtcSessionRepository.compute(reservationId,
+                state -> state.withToken(UserType.ROLE_USER, "user-token"));
+
+        // then
+        assertThat(computed).isPresent();
+        assertThat(computed.get().tokens())
+                .containsEntry(UserType.ROLE_AGENT, "agent-token")
+                .containsEntry(UserType.ROLE_USER, "user-token");
+        assertThat(computed.get().version()).isEqualTo(3L);
+
+        // verify
+        verify(redisTemplate, times(2))
+                .execute(any(RedisScript.class), eq(List.of("WEBRTC_SESSION_10", "WEBRTC_CALL_STATE_KEYS", "WEBRTC_RECORDING_ID_", "WEBRTC_RECORDING_ID_")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("상태 변경 성공 - 녹화 역인덱스 키를 스크립트 KEYS로 전달")
+    @SuppressWarnings("unchecked")
+    void 상태_변경_성공__녹화_역인덱스_키() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "token:ROLE_USER", "user-token",
+                        "token:ROLE_AGENT", "agent-token", "version", "2"));
+        List<String> keys = List.of("WEBRTC_SESSION_10", "WEBRTC_CALL_STATE_KEYS",
+                "WEBRTC_RECORDING_ID_", "WEBRTC_RECORDING_ID_rec_1");
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), any(Object[].class))).thenReturn(1L);
+
+        // when
+        Optional<WebrtcCallState> computed = webrtcSessionRepository.compute(reservationId,
+                state -> state.recording("rec_1"));
+
+        // then
+        assertThat(computed).isPresent();
+        assertThat(computed.get().recordingId()).isEqualTo("rec_1");
+
+        // verify
+        ArgumentCaptor<Object[]> captor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(keys), captor.capture());
+        assertThat(captor.getValue()).startsWith("2", "60", "", "rec_1", "10");
+    }
+
+    @Test
+    @DisplayName("상태 변경 실패 - 허용되지 않는 전이는 저장하지 않음")
+    @SuppressWarnings("unchecked")
+    void 상태_변경_실패__허용되지_않는_전이() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10"))
+                .thenReturn(Map.of("status", "OPEN", "sessionId", "session_id", "version", "1"));
+
+        // when & then
+        assertThatThrownBy(() -> webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L)))
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BAD_REQUEST);
+
+        // verify
+        verify(redisTemplate, never())
+                .execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("상태 변경 실패 - 경합이 계속되면 충돌 오류")
+    @SuppressWarnings("unchecked")
+    void 상태_변경_실패__경합_지속() {
+        // given
+        when(hashOperations.entries("WEBRTC_SESSION_10")).thenReturn(Map.of());
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("WEBRTC_SESSION_10", "WEBRTC_CALL_STATE_KEYS", "WEBRTC_RECORDING_ID_", "WEBRTC_RECORDING_ID_")), any(Object[].class)))
+                .thenReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L)))
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", WEBRTC_STATE_CONFLICT);
+
+        // verify
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
@@ -0,0 +1,196 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.webrtc.enums.OpenviduOperation;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.OpenviduClientServiceImpl;
+import com.bangguddle.ownbang.global.config.openvidu.OpenviduClientProperties;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.OpenViduHttpException;
+import io.openvidu.java.client.OpenViduJavaClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.WEBRTC_MEDIA_SERVER_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OpenviduClientServiceTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OpenviduClientServiceImpl openviduClientService;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        openviduClientService = newService(new OpenviduClientProperties(1, 1, 1000L,
+                Map.of(OpenviduOperation.CREATE_SESSION, 50L), FAILURE_THRESHOLD, 60_000L));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        openviduClientService.shutdown();
+    }
+
+    @Test
+    @DisplayName("호출 성공 - 결과 반환")
+    void 호출_성공() throws Exception {
+        // when
+        String result = openviduClientService.execute(OpenviduOperation.FETCH, () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls(OpenviduOperation.FETCH, "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 실패 - 작업별 제한 시간 초과")
+    void 호출_제한_시간_초과() {
+        // when & then
+        assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.CREATE_SESSION, () -> {
+            awaitRelease();
+            return "late";
+        }))
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", WEBRTC_MEDIA_SERVER_UNAVAILABLE);
+
+        // verify
+        assertThat(calls(OpenviduOperation.CREATE_SESSION, "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 실패 - Openvidu 예외는 그대로 전달")
+    void 호출_Openvidu_예외_전달() {
+        // when & then
+        assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.GET_RECORDING, () -> {
+            throw httpException(404);
+        }))
+                .isInstanceOf(OpenViduHttpException.class);
+        assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.GET_RECORDING, () -> {
+            throw new OpenViduJavaClientException("connection refused") {
+            };
+        }))
+                .isInstanceOf(OpenViduJavaClientException.class);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 연속 장애 후 호출하지 않고 바로 실패")
+    void 서킷_브레이커_차단() {
+        // given
+        AtomicInteger invoked = new AtomicInteger();
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.FETCH, () -> {
+                invoked.incrementAndGet();
+                throw httpException(503);
+            })).isInstanceOf(OpenViduHttpException.class);
+        }
+
+        // when & then
+        assertThat(openviduClientService.isAvailable()).isFalse();
+        assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.FETCH, () -> invoked.incrementAndGet()))
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", WEBRTC_MEDIA_SERVER_UNAVAILABLE);
+
+        // verify
+        assertThat(invoked.get()).isEqualTo(FAILURE_THRESHOLD);
+        assertThat(calls(OpenviduOperation.FETCH, "short_circuited")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 4xx 응답은 장애로 세지 않음")
+    void 서킷_브레이커_4xx_무시() {
+        // when
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.STOP_RECORDING, () -> {
+                throw httpException(406);
+            })).isInstanceOf(OpenViduHttpException.class);
+        }
+
+        // then
+        assertThat(openviduClientService.isAvailable()).isTrue();
+        assertThat(calls(OpenviduOperation.STOP_RECORDING, "client_error")).isEqualTo(FAILURE_THRESHOLD * 2);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 차단 시간이 지나면 시험 호출 성공 후 복구")
+    void 서킷_브레이커_복구() throws Exception {
+        // given
+        openviduClientService.shutdown();
+        openviduClientService = newService(new OpenviduClientProperties(1, 1, 1000L, null, 1, 0L));
+        assertThatThrownBy(() -> openviduClientService.execute(OpenviduOperation.FETCH, () -> {
+            throw new OpenViduJavaClientException("connection refused") {
+            };
+        })).isInstanceOf(OpenViduJavaClientException.class);
+
+        // when
+        Boolean result = openviduClientService.execute(OpenviduOperation.FETCH, () -> true);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(openviduClientService.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("벌크헤드 - 스레드와 대기열이 모두 차면 바로 실패")
+    void 벌크헤드_대기열_초과() throws Exception {
+        // given: 스레드 1개와 대기열 1칸을 채운다.
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> running = openviduClientService.submit(OpenviduOperation.FETCH, () -> {
+            started.countDown();
+            awaitRelease();
+            return "running";
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = openviduClientService.submit(OpenviduOperation.FETCH, () -> "queued");
+
+        // when
+        CompletableFuture<String> rejected = openviduClientService.submit(OpenviduOperation.FETCH, () -> "rejected");
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(AppException.class);
+        assertThat(calls(OpenviduOperation.FETCH, "rejected")).isEqualTo(1);
+
+        // verify: 대기열 초과는 장애로 세지 않고, 앞선 호출은 정상 처리
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(openviduClientService.isAvailable()).isTrue();
+    }
+
+    private OpenviduClientServiceImpl newService(OpenviduClientProperties properties) {
+        OpenviduClientServiceImpl service = new OpenviduClientServiceImpl(properties, meterRegistry);
+        service.init();
+        return service;
+    }
+
+    private OpenViduHttpException httpException(int status) {
+        return new OpenViduHttpException(status) {
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double calls(OpenviduOperation operation, String outcome) {
+        return meterRegistry.counter("webrtc.openvidu.calls",
+                "operation", operation.name(), "outcome", outcome).count();
+    }
+}
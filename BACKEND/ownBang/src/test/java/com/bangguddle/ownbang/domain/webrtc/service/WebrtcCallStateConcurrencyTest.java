@@ -0,0 +1,317 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.LocalWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.OpenviduClientServiceImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcSessionServiceImpl;
+import com.bangguddle.ownbang.global.enums.ErrorCode;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.openvidu.java.client.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 여러 스레드가 같은 예약의 통화 상태를 동시에 바꿀 때 전이가 원자적으로 적용되는지 확인합니다.
+ */
+public class WebrtcCallStateConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final Set<ErrorCode> EXPECTED_ERRORS = Set.of(BAD_REQUEST, WEBRTC_TOKEN_DUPLICATED);
+
+    private final AtomicInteger sessionSequence = new AtomicInteger();
+    private final AtomicInteger tokenSequence = new AtomicInteger();
+    private final AtomicInteger recordingSequence = new AtomicInteger();
+
+    private OpenVidu openVidu;
+    private WebrtcSessionRepository webrtcSessionRepository;
+    private OpenviduClientServiceImpl openviduClientService;
+    private WebrtcSessionServiceImpl webrtcSessionService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        openVidu = mock(OpenVidu.class);
+        when(openVidu.createSession()).thenAnswer(invocation -> {
+            // 확인과 생성 사이의 경합 구간을 넓힌다.
+            Thread.sleep(1);
+            return newSession();
+        });
+        when(openVidu.startRecording(anyString(), any(RecordingProperties.class)))
+                .thenAnswer(invocation -> newRecording(invocation.getArgument(0)));
+
+        webrtcSessionRepository = new LocalWebrtcSessionRepositoryImpl();
+        openviduClientService = WebrtcSessionServiceTest.openviduClientService();
+        webrtcSessionService = new WebrtcSessionServiceImpl(openVidu, openviduClientService, webrtcSessionRepository);
+        ReflectionTestUtils.setField(webrtcSessionService, "openingTimeoutMillis", 30_000L);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        openviduClientService.shutdown();
+    }
+
+    @Test
+    @DisplayName("세션 생성 동시 요청 - 하나만 성공하고 Openvidu 세션도 하나만 생성")
+    void 세션_생성_동시_요청() throws Exception {
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4, i -> webrtcSessionService.createSession(1L));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(1);
+        assertThat(errorCodes(results)).containsOnly(BAD_REQUEST);
+        assertThat(webrtcSessionRepository.findByReservationId(1L))
+                .get().extracting(WebrtcCallState::status).isEqualTo(CallStatus.OPEN);
+
+        // verify
+        verify(openVidu, times(1)).createSession();
+    }
+
+    @Test
+    @DisplayName("토큰 발급 동시 요청 - 같은 참여자는 하나만 등록")
+    void 토큰_발급_동시_요청() throws Exception {
+        // given
+        webrtcSessionService.createSession(1L);
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4,
+                i -> webrtcSessionService.createToken(1L, UserType.ROLE_USER));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(1);
+        assertThat(errorCodes(results)).containsOnly(WEBRTC_TOKEN_DUPLICATED);
+        assertThat(webrtcSessionService.getToken(1L, UserType.ROLE_USER)).isPresent();
+    }
+
+    @Test
+    @DisplayName("토큰 삭제 동시 요청 - 하나만 삭제 성공")
+    void 토큰_삭제_동시_요청() throws Exception {
+        // given
+        webrtcSessionService.createSession(1L);
+        String token = webrtcSessionService.createToken(1L, UserType.ROLE_AGENT).orElseThrow();
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4,
+                i -> webrtcSessionService.removeToken(1L, token, UserType.ROLE_AGENT));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(1);
+        assertThat(errorCodes(results)).containsOnly(BAD_REQUEST);
+        assertThat(webrtcSessionService.getToken(1L, UserType.ROLE_AGENT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("녹화 시작 동시 요청 - 하나만 녹화 상태로 전이")
+    void 녹화_시작_동시_요청() throws Exception {
+        // given
+        webrtcSessionService.createSession(1L);
+        webrtcSessionService.createToken(1L, UserType.ROLE_AGENT);
+        webrtcSessionService.createToken(1L, UserType.ROLE_USER);
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4, i -> webrtcSessionService.startRecord(1L));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(1);
+        assertThat(errorCodes(results)).containsOnly(BAD_REQUEST);
+        WebrtcCallState state = webrtcSessionRepository.findByReservationId(1L).orElseThrow();
+        assertThat(state.status()).isEqualTo(CallStatus.RECORDING);
+        assertThat(webrtcSessionService.getRecord(1L)).get()
+                .extracting(Recording::getId).isEqualTo(state.recordingId());
+    }
+
+    @Test
+    @DisplayName("세션 종료 동시 요청 - 하나만 성공하고 녹화는 남김")
+    void 세션_종료_동시_요청() throws Exception {
+        // given
+        webrtcSessionService.createSession(1L);
+        webrtcSessionService.createToken(1L, UserType.ROLE_AGENT);
+        webrtcSessionService.createToken(1L, UserType.ROLE_USER);
+        String recordingId = webrtcSessionService.startRecord(1L).orElseThrow().getId();
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4, i -> webrtcSessionService.removeSession(1L));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(1);
+        assertThat(errorCodes(results)).containsOnly(BAD_REQUEST);
+        WebrtcCallState state = webrtcSessionRepository.findByReservationId(1L).orElseThrow();
+        assertThat(state.status()).isEqualTo(CallStatus.RECORDED);
+        assertThat(state.recordingId()).isEqualTo(recordingId);
+        assertThat(state.tokens()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 전이 혼합 - 상태가 항상 일관되고 열린 세션 수가 생성/종료 횟수와 일치")
+    void 모든_전이_혼합() throws Exception {
+        // given
+        long[] reservationIds = {1L, 2L, 3L, 4L};
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 500, i -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Long reservationId = reservationIds[random.nextInt(reservationIds.length)];
+            UserType userType = random.nextBoolean() ? UserType.ROLE_AGENT : UserType.ROLE_USER;
+
+            switch (random.nextInt(7)) {
+                case 0 -> {
+                    webrtcSessionService.createSession(reservationId);
+                    opened.incrementAndGet();
+                }
+                case 1, 2 -> webrtcSessionService.createToken(reservationId, userType);
+                case 3 -> {
+                    String token = webrtcSessionService.getToken(reservationId, userType).orElse(null);
+                    webrtcSessionService.removeToken(reservationId, token, userType);
+                }
+                case 4 -> webrtcSessionService.startRecord(reservationId);
+                case 5 -> {
+                    webrtcSessionService.removeSession(reservationId);
+                    closed.incrementAndGet();
+                }
+                default -> webrtcSessionService.deleteRecord(reservationId);
+            }
+            webrtcSessionRepository.findByReservationId(reservationId)
+                    .map(this::findViolation)
+                    .ifPresent(violations::add);
+        });
+
+        // then
+        assertThat(errorCodes(results)).isSubsetOf(EXPECTED_ERRORS);
+        assertThat(violations).isEmpty();
+
+        long openSessions = Arrays.stream(reservationIds)
+                .mapToObj(webrtcSessionRepository::findByReservationId)
+                .flatMap(Optional::stream)
+                .filter(WebrtcCallState::hasSession)
+                .count();
+        assertThat(openSessions).isEqualTo(opened.get() - closed.get());
+
+        // verify
+        verify(openVidu, times(opened.get())).createSession();
+    }
+
+    @Test
+    @DisplayName("미리 준비된 세션 동시 입장 - 하나만 준비된 토큰을 받고 나머지는 빈 값")
+    void 미리_준비된_세션_동시_입장() throws Exception {
+        // given
+        assertThat(webrtcSessionService.prewarmSession(1L, true)).isTrue();
+        String warmToken = webrtcSessionRepository.findByReservationId(1L).get().tokens().get(UserType.ROLE_AGENT);
+        List<String> claimed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        List<Throwable> results = runConcurrently(THREADS * 4,
+                i -> webrtcSessionService.claimWarmSession(1L, UserType.ROLE_AGENT).ifPresent(claimed::add));
+
+        // then
+        assertThat(successCount(results)).isEqualTo(THREADS * 4);
+        assertThat(claimed).containsExactly(warmToken);
+        assertThat(webrtcSessionRepository.findByReservationId(1L))
+                .get().extracting(WebrtcCallState::status).isEqualTo(CallStatus.OPEN);
+
+        // verify
+        verify(openVidu, times(1)).createSession();
+    }
+
+    // 상태별로 있어야 하는 값만 있는지 확인, 위반이 없으면 null
+    private String findViolation(WebrtcCallState state) {
+        boolean valid = switch (state.status()) {
+            case OPENING -> state.sessionId() == null && state.tokens().isEmpty() && state.recordingId() == null;
+            case WARM -> state.sessionId() != null && state.tokens().size() <= 1 && state.recordingId() == null;
+            case OPEN -> state.sessionId() != null && state.recordingId() == null;
+            case RECORDING -> state.sessionId() != null && state.recordingId() != null && state.tokens().size() <= 2;
+            case RECORDED -> state.sessionId() == null && state.tokens().isEmpty() && state.recordingId() != null;
+        };
+        return valid ? null : state.toString();
+    }
+
+    /**
+     * 모든 작업을 동시에 시작하고, 작업별 결과(성공이면 null, 실패면 예외)를 반환합니다.
+     */
+    private List<Throwable> runConcurrently(int tasks, ThrowingTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Throwable>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    task.run(index);
+                    return null;
+                } catch (Throwable e) {
+                    return e;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Throwable> results = new ArrayList<>();
+        for (Future<Throwable> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private long successCount(List<Throwable> results) {
+        return results.stream().filter(Objects::isNull).count();
+    }
+
+    // 실패한 작업의 오류 코드, AppException이 아닌 예외(경합으로 인한 NPE 등)가 있으면 바로 실패
+    private List<ErrorCode> errorCodes(List<Throwable> results) {
+        List<ErrorCode> errorCodes = new ArrayList<>();
+        for (Throwable result : results) {
+            if (result == null) continue;
+            if (!(result instanceof AppException appException)) throw new AssertionError(result);
+            errorCodes.add(appException.getErrorCode());
+        }
+        return errorCodes;
+    }
+
+    private Session newSession() {
+        String sessionId = "ses_" + sessionSequence.incrementAndGet();
+        return mock(Session.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getSessionId" -> sessionId;
+            case "createConnection" -> newConnection();
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+
+    private Connection newConnection() {
+        String token = "tok_" + tokenSequence.incrementAndGet();
+        return mock(Connection.class, invocation -> "getToken".equals(invocation.getMethod().getName())
+                ? token : RETURNS_DEFAULTS.answer(invocation));
+    }
+
+    private Recording newRecording(String sessionId) {
+        String recordingId = sessionId + "~" + recordingSequence.incrementAndGet();
+        return mock(Recording.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getId" -> recordingId;
+            case "getSessionId" -> sessionId;
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ThrowingTask {
+        void run(int index) throws Exception;
+    }
+}
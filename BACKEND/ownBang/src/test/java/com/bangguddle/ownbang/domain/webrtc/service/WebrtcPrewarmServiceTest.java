@@ -0,0 +1,142 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
+import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.LocalWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcPrewarmServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WebrtcPrewarmServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private WebrtcSessionService webrtcSessionService;
+
+    @Spy
+    private WebrtcSessionRepository webrtcSessionRepository = new LocalWebrtcSessionRepositoryImpl();
+
+    @Mock
+    private OpenviduClientService openviduClientService;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WebrtcPrewarmServiceImpl webrtcPrewarmService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webrtcPrewarmService, "leadMinutes", 10L);
+        ReflectionTestUtils.setField(webrtcPrewarmService, "budgetPerRun", 2);
+        ReflectionTestUtils.setField(webrtcPrewarmService, "maxWarmSessions", 3);
+        ReflectionTestUtils.setField(webrtcPrewarmService, "agentToken", true);
+    }
+
+    @Test
+    @DisplayName("세션 미리 준비 성공 - 한 번에 budget 개까지만 준비")
+    void 세션_미리_준비_성공__실행당_한도() {
+        // given
+        when(openviduClientService.isAvailable()).thenReturn(true);
+        givenReservations(1L, 2L, 3L);
+        when(webrtcSessionService.prewarmSession(anyLong(), eq(true))).thenReturn(true);
+
+        // when
+        int warmed = webrtcPrewarmService.prewarm();
+
+        // then
+        assertThat(warmed).isEqualTo(2);
+        assertThat(meterRegistry.counter("webrtc.prewarm.sessions").count()).isEqualTo(2);
+
+        // verify
+        verify(webrtcSessionService).prewarmSession(1L, true);
+        verify(webrtcSessionService).prewarmSession(2L, true);
+        verify(webrtcSessionService, never()).prewarmSession(eq(3L), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("세션 미리 준비 성공 - 통화 상태나 영상이 있는 예약과 전체 한도를 넘는 예약은 건너뜀")
+    void 세션_미리_준비_성공__건너뛰기() {
+        // given
+        when(openviduClientService.isAvailable()).thenReturn(true);
+        givenWarmState(100L);
+        givenWarmState(101L);
+        givenReservations(100L, 1L, 2L, 3L);
+        when(videoRepository.findByReservationId(1L)).thenReturn(Optional.of(mock(Video.class)));
+        when(webrtcSessionService.prewarmSession(anyLong(), eq(true))).thenReturn(true);
+
+        // when
+        int warmed = webrtcPrewarmService.prewarm();
+
+        // then: 전체 한도 3개 중 2개가 이미 준비되어 1개만 준비
+        assertThat(warmed).isEqualTo(1);
+
+        // verify
+        verify(webrtcSessionService).prewarmSession(2L, true);
+        verify(webrtcSessionService, never()).prewarmSession(eq(100L), anyBoolean());
+        verify(webrtcSessionService, never()).prewarmSession(eq(1L), anyBoolean());
+        verify(webrtcSessionService, never()).prewarmSession(eq(3L), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("세션 미리 준비 안함 - Openvidu 호출 차단 중")
+    void 세션_미리_준비_안함__오픈_비두_장애() {
+        // given
+        when(openviduClientService.isAvailable()).thenReturn(false);
+
+        // when
+        int warmed = webrtcPrewarmService.prewarm();
+
+        // then
+        assertThat(warmed).isZero();
+
+        // verify
+        verify(reservationRepository, never()).findByStatusAndReservationTimeBetweenOrderByReservationTimeAsc(any(), any(), any());
+        verify(webrtcSessionService, never()).prewarmSession(anyLong(), anyBoolean());
+    }
+
+    private void givenReservations(Long... reservationIds) {
+        List<Reservation> reservations = LongStream.range(0, reservationIds.length)
+                .mapToObj(i -> {
+                    Reservation reservation = mock(Reservation.class);
+                    lenient().when(reservation.getId()).thenReturn(reservationIds[(int) i]);
+                    return reservation;
+                })
+                .toList();
+        when(reservationRepository.findByStatusAndReservationTimeBetweenOrderByReservationTimeAsc(
+                eq(ReservationStatus.CONFIRMED), any(), any())).thenReturn(reservations);
+    }
+
+    private void givenWarmState(Long reservationId) {
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        webrtcSessionRepository.compute(reservationId, state -> state.warm("ses_" + reservationId));
+    }
+}
@@ -0,0 +1,419 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.streaming.entity.StreamingJob;
+import com.bangguddle.ownbang.domain.streaming.repository.StreamingJobRepository;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.video.service.VideoService;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcReapResult;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.LocalWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcReaperServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WebrtcReaperServiceTest {
+
+    @Mock
+    private OpenVidu openVidu;
+
+    @Mock
+    private WebrtcSessionService webrtcSessionService;
+
+    @Spy
+    private WebrtcSessionRepository webrtcSessionRepository = new LocalWebrtcSessionRepositoryImpl();
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private StreamingService streamingService;
+
+    @Mock
+    private StreamingJobRepository streamingJobRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WebrtcReaperServiceImpl webrtcReaperService;
+
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        reservationId = 10L;
+        ReflectionTestUtils.setField(webrtcReaperService, "idleTimeoutMillis", 1L);
+        ReflectionTestUtils.setField(webrtcReaperService, "maxCallMinutes", 120L);
+        ReflectionTestUtils.setField(webrtcReaperService, "openingTimeoutMillis", 1L);
+        ReflectionTestUtils.setField(webrtcReaperService, "warmTtlMinutes", 30L);
+        ReflectionTestUtils.setField(webrtcReaperService, "openviduClientService", WebrtcSessionServiceTest.openviduClientService());
+    }
+
+    @Test
+    @DisplayName("정리 성공 - Openvidu에서 사라진 녹화 세션은 녹화 중지 후 변환 등록")
+    void 정리_성공__사라진_녹화_세션() throws Exception {
+        // given
+        givenRecordingState("ses_1", "rec_1");
+        Recording recording = mockRecording("rec_1", "ses_1", Recording.Status.started);
+        givenOpenvidu(List.of(), List.of(recording));
+        Video video = mockVideo(VideoStatus.RECORDING);
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+        when(webrtcSessionService.closeSession(reservationId, "ses_1")).thenReturn(true);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.closedSessions()).isEqualTo(1);
+        assertThat(result.stoppedRecordings()).isEqualTo(1);
+        assertThat(result.enqueuedRecordings()).isEqualTo(1);
+        assertThat(meterRegistry.get("webrtc.reaper.reclaimed").tag("type", "closed_session").counter().count())
+                .isEqualTo(1);
+
+        // verify
+        verify(openVidu, times(1)).stopRecording("rec_1");
+        verify(webrtcSessionService, times(1)).closeSession(reservationId, "ses_1");
+        verify(videoService, times(1)).modifyVideo(any(), eq(1L));
+        verify(streamingService, times(1)).uploadStreaming(reservationId, "rec_1");
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 참여자가 모두 나간 세션은 변환 없이 닫음")
+    void 정리_성공__참여자_없는_세션() throws Exception {
+        // given
+        givenOpenState("ses_1");
+        Session session = mockSession("ses_1", List.of());
+        givenOpenvidu(List.of(session), List.of());
+        when(webrtcSessionService.closeSession(reservationId, "ses_1")).thenReturn(true);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.closedSessions()).isEqualTo(1);
+        assertThat(result.enqueuedRecordings()).isZero();
+
+        // verify
+        verify(openVidu, never()).stopRecording(anyString());
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 쓰이지 않은 미리 준비된 세션은 ttl 후 닫음")
+    void 정리_성공__만료된_미리_준비된_세션() throws Exception {
+        // given
+        givenWarmState("ses_1");
+        Session session = mockSession("ses_1", List.of());
+        givenOpenvidu(List.of(session), List.of());
+        when(webrtcSessionService.closeSession(reservationId, "ses_1")).thenReturn(true);
+        ReflectionTestUtils.setField(webrtcReaperService, "warmTtlMinutes", 0L);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.closedSessions()).isEqualTo(1);
+
+        // verify
+        verify(reservationRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("정리 안함 - ttl 전의 미리 준비된 세션은 참여자가 없어도 유지")
+    void 정리_안함__미리_준비된_세션() throws Exception {
+        // given
+        givenWarmState("ses_1");
+        Session session = mockSession("ses_1", List.of());
+        givenOpenvidu(List.of(session), List.of());
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+
+        // verify
+        verify(webrtcSessionService, never()).closeSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 예약 시간이 지난 세션은 참여자가 있어도 닫음")
+    void 정리_성공__예약_시간_초과() throws Exception {
+        // given
+        givenOpenState("ses_1");
+        Session session = mockSession("ses_1", List.of(mock(Connection.class)));
+        givenOpenvidu(List.of(session), List.of());
+        givenReservationTime(LocalDateTime.now().minusHours(3));
+        when(webrtcSessionService.closeSession(reservationId, "ses_1")).thenReturn(true);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.closedSessions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 안함 - 예약 시간 안에 참여 중인 세션")
+    void 정리_안함__참여_중인_세션() throws Exception {
+        // given
+        givenOpenState("ses_1");
+        Session session = mockSession("ses_1", List.of(mock(Connection.class)));
+        givenOpenvidu(List.of(session), List.of());
+        givenReservationTime(LocalDateTime.now().minusMinutes(10));
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(webrtcSessionRepository.findByReservationId(reservationId)).isPresent();
+
+        // verify
+        verify(webrtcSessionService, never()).closeSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 세션 생성 중 멈춘 상태 삭제")
+    void 정리_성공__멈춘_세션_생성() throws Exception {
+        // given
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        givenOpenvidu(List.of(), List.of());
+        Thread.sleep(5);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.abandonedOpenings()).isEqualTo(1);
+        assertThat(webrtcSessionRepository.findByReservationId(reservationId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 닫힌 통화의 녹화 파일이 준비되면 변환 등록")
+    void 정리_성공__닫힌_통화의_준비된_녹화() throws Exception {
+        // given
+        givenRecordedState("ses_1", "rec_1");
+        Recording recording = mockRecording("rec_1", "ses_1", Recording.Status.ready);
+        givenOpenvidu(List.of(), List.of(recording));
+        Video video = mockVideo(VideoStatus.RECORDING);
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.enqueuedRecordings()).isEqualTo(1);
+        assertThat(result.stoppedRecordings()).isZero();
+
+        // verify
+        verify(openVidu, never()).stopRecording(anyString());
+        verify(videoService, times(1)).modifyVideo(any(), eq(1L));
+        verify(streamingService, times(1)).uploadStreaming(reservationId, "rec_1");
+    }
+
+    @Test
+    @DisplayName("정리 성공 - ready 웹훅을 놓쳐 변환 작업 없이 인코딩 상태로 남은 영상 변환 등록")
+    void 정리_성공__놓친_웹훅() throws Exception {
+        // given
+        givenRecordedState("ses_1", "rec_1");
+        Recording recording = mockRecording("rec_1", "ses_1", Recording.Status.ready);
+        givenOpenvidu(List.of(), List.of(recording));
+        Video video = mockVideo(VideoStatus.ENCODING);
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+        when(streamingJobRepository.findByVideoId(1L)).thenReturn(Optional.empty());
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.enqueuedRecordings()).isEqualTo(1);
+
+        // verify
+        verify(videoService, never()).modifyVideo(any(), any());
+        verify(streamingService, times(1)).uploadStreaming(reservationId, "rec_1");
+    }
+
+    @Test
+    @DisplayName("정리 안함 - 변환 작업이 이미 등록된 인코딩 상태 영상")
+    void 정리_안함__변환_작업이_있는_영상() throws Exception {
+        // given
+        givenRecordedState("ses_1", "rec_1");
+        Recording recording = mockRecording("rec_1", "ses_1", Recording.Status.ready);
+        givenOpenvidu(List.of(), List.of(recording));
+        Video video = mockVideo(VideoStatus.ENCODING);
+        when(videoRepository.findByReservationId(reservationId)).thenReturn(Optional.of(video));
+        when(streamingJobRepository.findByVideoId(1L)).thenReturn(Optional.of(mock(StreamingJob.class)));
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+
+        // verify
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 안함 - 닫힌 통화의 녹화 파일이 준비되기 전에는 변환을 등록하지 않음")
+    void 정리_안함__닫힌_통화의_준비되지_않은_녹화() throws Exception {
+        // given
+        givenRecordedState("ses_1", "rec_1");
+        Recording recording = mockRecording("rec_1", "ses_1", Recording.Status.stopped);
+        givenOpenvidu(List.of(), List.of(recording));
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+
+        // verify
+        verify(videoRepository, never()).findByReservationId(any());
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 성공 - 통화 상태 없이 남은 세션과 녹화 회수")
+    void 정리_성공__통화_상태_없는_세션과_녹화() throws Exception {
+        // given
+        Session session = mockSession("ses_9", List.of());
+        Recording recording = mockRecording("rec_9", "ses_9", Recording.Status.started);
+        givenOpenvidu(List.of(session), List.of(recording));
+        Video video = mockVideo(VideoStatus.RECORDING);
+        when(videoRepository.findBySessionId("rec_9")).thenReturn(Optional.of(video));
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result.orphanSessions()).isEqualTo(1);
+        assertThat(result.orphanRecordings()).isEqualTo(1);
+        assertThat(result.enqueuedRecordings()).isEqualTo(1);
+
+        // verify
+        verify(session, times(1)).close();
+        verify(openVidu, times(1)).stopRecording("rec_9");
+        verify(streamingService, times(1)).uploadStreaming(reservationId, "rec_9");
+    }
+
+    @Test
+    @DisplayName("정리 건너뜀 - Openvidu 장애 시 아무것도 닫지 않음")
+    void 정리_건너뜀__오픈_비두_장애() throws Exception {
+        // given
+        givenOpenState("ses_1");
+        when(openVidu.fetch()).thenThrow(OpenViduJavaClientException.class);
+
+        // when
+        WebrtcReapResult result = webrtcReaperService.reap();
+
+        // then
+        assertThat(result).isEqualTo(WebrtcReapResult.EMPTY);
+        assertThat(webrtcSessionRepository.findByReservationId(reservationId))
+                .get().extracting(WebrtcCallState::status).isEqualTo(CallStatus.OPEN);
+
+        // verify
+        verify(webrtcSessionService, never()).closeSession(any(), any());
+    }
+
+    private void givenOpenState(String sessionId) throws InterruptedException {
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        webrtcSessionRepository.compute(reservationId, state -> state.open(sessionId));
+        // 상태 변경 시각이 정리 기준 시각보다 앞서도록 한다.
+        Thread.sleep(5);
+    }
+
+    private void givenWarmState(String sessionId) throws InterruptedException {
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        webrtcSessionRepository.compute(reservationId, state -> state.warm(sessionId));
+        Thread.sleep(5);
+    }
+
+    private void givenRecordingState(String sessionId, String recordingId) throws InterruptedException {
+        givenOpenState(sessionId);
+        webrtcSessionRepository.compute(reservationId, state -> state.withToken(UserType.ROLE_AGENT, "agent-token"));
+        webrtcSessionRepository.compute(reservationId, state -> state.withToken(UserType.ROLE_USER, "user-token"));
+        webrtcSessionRepository.compute(reservationId, state -> state.recording(recordingId));
+        Thread.sleep(5);
+    }
+
+    private void givenRecordedState(String sessionId, String recordingId) throws InterruptedException {
+        givenRecordingState(sessionId, recordingId);
+        webrtcSessionRepository.compute(reservationId, WebrtcCallState::close);
+        Thread.sleep(5);
+    }
+
+    private void givenOpenvidu(List<Session> sessions, List<Recording> recordings) throws Exception {
+        when(openVidu.fetch()).thenReturn(true);
+        when(openVidu.getActiveSessions()).thenReturn(sessions);
+        when(openVidu.listRecordings()).thenReturn(recordings);
+    }
+
+    private void givenReservationTime(LocalDateTime reservationTime) {
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationTime()).thenReturn(reservationTime);
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+    }
+
+    private Session mockSession(String sessionId, List<Connection> connections) {
+        Session session = mock(Session.class);
+        lenient().when(session.getSessionId()).thenReturn(sessionId);
+        lenient().when(session.getActiveConnections()).thenReturn(connections);
+        return session;
+    }
+
+    private Recording mockRecording(String recordingId, String sessionId, Recording.Status status) {
+        Recording recording = mock(Recording.class);
+        lenient().when(recording.getId()).thenReturn(recordingId);
+        lenient().when(recording.getSessionId()).thenReturn(sessionId);
+        lenient().when(recording.getStatus()).thenReturn(status);
+        return recording;
+    }
+
+    private Video mockVideo(VideoStatus videoStatus) {
+        Reservation reservation = mock(Reservation.class);
+        lenient().when(reservation.getId()).thenReturn(reservationId);
+        Video video = mock(Video.class);
+        lenient().when(video.getId()).thenReturn(1L);
+        lenient().when(video.getVideoStatus()).thenReturn(videoStatus);
+        lenient().when(video.getReservation()).thenReturn(reservation);
+        return video;
+    }
+}
@@ -1,8 +1,15 @@
 package com.bangguddle.ownbang.domain.webrtc.service;
 
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.CallStatus;
 import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.LocalWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.OpenviduClientServiceImpl;
 import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcSessionServiceImpl;
+import com.bangguddle.ownbang.global.config.openvidu.OpenviduClientProperties;
 import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.openvidu.java.client.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,9 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -38,6 +47,9 @@ public class WebrtcSessionServiceTest {
     @Mock
     private Recording mockRecording;
 
+    @Spy
+    private WebrtcSessionRepository webrtcSessionRepository = new LocalWebrtcSessionRepositoryImpl();
+
     @InjectMocks
     private WebrtcSessionServiceImpl webrtcSessionService;
 
@@ -45,11 +57,24 @@ public class WebrtcSessionServiceTest {
     private UserType USER;
     private UserType AGENT;
 
+    // 실제 스레드 풀과 서킷 브레이커로 Openvidu를 호출하는 어댑터
+    static OpenviduClientServiceImpl openviduClientService() {
+        OpenviduClientServiceImpl openviduClientService = new OpenviduClientServiceImpl(
+                new OpenviduClientProperties(null, null, null, null, null, null), new SimpleMeterRegistry());
+        openviduClientService.init();
+        return openviduClientService;
+    }
+
     @BeforeEach
     void setUp() {
         reservationId = 10L;
         USER = UserType.ROLE_USER;
         AGENT = UserType.ROLE_AGENT;
+        // 스파이로 감싸면 Mockito가 목 예외의 스택을 정리하다 실패하므로 실제 객체를 넣는다.
+        ReflectionTestUtils.setField(webrtcSessionService, "openviduClientService", openviduClientService());
+        // 등록 정보는 id로 저장되므로 id를 따로 지정하지 않은 테스트에도 기본 id를 준다.
+        lenient().when(mockSession.getSessionId()).thenReturn("session_id");
+        lenient().when(mockRecording.getId()).thenReturn("recording_id");
     }
 
     @Test
@@ -110,6 +135,148 @@ public class WebrtcSessionServiceTest {
         verify(openVidu, times(1)).createSession();
     }
 
+    @Test
+    @DisplayName("세션 미리 준비 성공 - 중개인 토큰까지 만들고 입장 전에는 세션이 없는 것으로 봄")
+    void 세션_미리_준비_성공() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        when(mockSession.createConnection(any())).thenReturn(mockConnection);
+        when(mockConnection.getToken()).thenReturn("agent-warm-token");
+
+        // when
+        boolean warmed = webrtcSessionService.prewarmSession(reservationId, true);
+
+        // then
+        assertThat(warmed).isTrue();
+        assertThat(webrtcSessionService.getSession(reservationId)).isEmpty();
+        assertThat(webrtcSessionService.getToken(reservationId, AGENT)).isEmpty();
+
+        // verify
+        verify(openVidu, times(1)).createSession();
+        verify(mockSession, times(1)).createConnection(any());
+    }
+
+    @Test
+    @DisplayName("세션 미리 준비 실패 - 이미 세션이 있으면 만들지 않음")
+    void 세션_미리_준비_실패__기존_세션_존재() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        webrtcSessionService.createSession(reservationId);
+
+        // when
+        boolean warmed = webrtcSessionService.prewarmSession(reservationId, true);
+
+        // then
+        assertThat(warmed).isFalse();
+
+        // verify
+        verify(openVidu, times(1)).createSession();
+    }
+
+    @Test
+    @DisplayName("세션 미리 준비 실패 - 연결 생성 실패 시 세션을 닫고 상태 정리")
+    void 세션_미리_준비_실패__오픈_비두_장애() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        when(mockSession.createConnection(any())).thenThrow(OpenViduJavaClientException.class);
+
+        // when
+        boolean warmed = webrtcSessionService.prewarmSession(reservationId, true);
+
+        // then
+        assertThat(warmed).isFalse();
+        assertThat(webrtcSessionRepository.findByReservationId(reservationId)).isEmpty();
+
+        // verify
+        verify(mockSession, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("미리 준비된 세션 입장 성공 - 준비된 토큰 반환 후 OPEN")
+    void 미리_준비된_세션_입장_성공() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        when(mockSession.createConnection(any())).thenReturn(mockConnection);
+        when(mockConnection.getToken()).thenReturn("agent-warm-token");
+        webrtcSessionService.prewarmSession(reservationId, true);
+
+        // when
+        Optional<String> token = webrtcSessionService.claimWarmSession(reservationId, AGENT);
+
+        // then
+        assertThat(token).contains("agent-warm-token");
+        assertThat(webrtcSessionService.getSession(reservationId)).contains(mockSession);
+        assertThat(webrtcSessionService.getToken(reservationId, AGENT)).contains("agent-warm-token");
+
+        // verify
+        verify(mockSession, times(1)).createConnection(any());
+    }
+
+    @Test
+    @DisplayName("미리 준비된 세션 입장 실패 - 준비된 세션 없음")
+    void 미리_준비된_세션_입장_실패__준비된_세션_없음() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        webrtcSessionService.createSession(reservationId);
+
+        // when
+        Optional<String> token = webrtcSessionService.claimWarmSession(reservationId, AGENT);
+
+        // then
+        assertThat(token).isEmpty();
+
+        // verify
+        verify(mockSession, never()).createConnection(any());
+    }
+
+    @Test
+    @DisplayName("세션 이어받기 성공 - 녹화 중인 직전 예약의 세션과 토큰을 넘겨받고 녹화 중지")
+    void 세션_이어받기_성공() throws Exception {
+        // given
+        Long nextReservationId = 11L;
+        when(openVidu.createSession()).thenReturn(mockSession);
+        when(mockSession.createConnection(any())).thenReturn(mockConnection);
+        when(mockConnection.getToken()).thenReturn("agent-token", "user-token");
+        when(openVidu.startRecording(eq("session_id"), any(RecordingProperties.class))).thenReturn(mockRecording);
+        webrtcSessionService.createSession(reservationId);
+        webrtcSessionService.createToken(reservationId, AGENT);
+        webrtcSessionService.createToken(reservationId, USER);
+        webrtcSessionService.startRecord(reservationId);
+
+        // when
+        Optional<String> token = webrtcSessionService.handoverSession(reservationId, nextReservationId, AGENT);
+
+        // then
+        assertThat(token).contains("agent-token");
+        assertThat(webrtcSessionService.getSession(nextReservationId)).contains(mockSession);
+        assertThat(webrtcSessionService.getToken(nextReservationId, USER)).contains("user-token");
+        assertThat(webrtcSessionRepository.findByReservationId(reservationId))
+                .get().extracting(WebrtcCallState::status).isEqualTo(CallStatus.RECORDED);
+        assertThat(webrtcSessionService.getRecord(nextReservationId)).isEmpty();
+
+        // verify
+        verify(openVidu, times(1)).stopRecording("recording_id");
+        verify(mockSession, never()).close();
+    }
+
+    @Test
+    @DisplayName("세션 이어받기 실패 - 다음 예약에 이미 통화가 있음")
+    void 세션_이어받기_실패__기존_통화_존재() throws Exception {
+        // given
+        Long nextReservationId = 11L;
+        when(openVidu.createSession()).thenReturn(mockSession);
+        webrtcSessionService.createSession(reservationId);
+        webrtcSessionService.createSession(nextReservationId);
+
+        // when
+        Throwable thrown = catchThrowable(() -> webrtcSessionService.handoverSession(reservationId, nextReservationId, AGENT));
+
+        // then
+        assertThat(thrown).isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BAD_REQUEST);
+        assertThat(webrtcSessionService.getSession(reservationId)).contains(mockSession);
+    }
+
     @Test
     @DisplayName("세션 삭제 성공")
     void 세션_삭제_성공() throws Exception {
@@ -327,6 +494,36 @@ public class WebrtcSessionServiceTest {
         verify(mockSession, times(1)).createConnection(any());
     }
 
+    @Test
+    @DisplayName("토큰 발급 실패 - 동시 요청에 밀리면 만든 연결을 회수")
+    void 토큰_발급_실패__동시_요청에_밀리면_만든_연결을_회수() throws Exception {
+        // given
+        when(openVidu.createSession()).thenReturn(mockSession);
+        when(mockConnection.getToken()).thenReturn("user-test-token");
+        when(mockConnection.getConnectionId()).thenReturn("con_id");
+
+        // 세션 생성
+        webrtcSessionService.createSession(reservationId);
+
+        // 연결을 만드는 사이 다른 요청이 먼저 토큰을 등록
+        when(mockSession.createConnection(any())).thenAnswer(invocation -> {
+            webrtcSessionRepository.compute(reservationId, state -> state.withToken(USER, "other-token"));
+            return mockConnection;
+        });
+
+        // when
+        Throwable thrown = catchThrowable(() -> webrtcSessionService.createToken(reservationId, USER));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", WEBRTC_TOKEN_DUPLICATED);
+        assertThat(webrtcSessionService.getToken(reservationId, USER)).contains("other-token");
+
+        // verify
+        verify(mockSession, times(1)).forceDisconnect("con_id");
+    }
+
     @Test
     @DisplayName("토큰 조회 성공")
     void 토큰_조회_성공() throws Exception {
@@ -801,4 +998,39 @@ public class WebrtcSessionServiceTest {
         // verify
         verify(openVidu, times(1)).deleteRecording(any());
     }
+
+    @Test
+    @DisplayName("녹화 ID로 녹화 삭제 성공 - 이미 삭제된 녹화")
+    void 녹화_ID로_녹화_삭제_성공__이미_삭제된_녹화() throws Exception {
+        // given
+        OpenViduHttpException notFound = mock(OpenViduHttpException.class);
+        when(notFound.getStatus()).thenReturn(404);
+        doThrow(notFound).when(openVidu).deleteRecording("test-record-id");
+
+        // when
+        Throwable thrown = catchThrowable(() -> webrtcSessionService.deleteRecordById("test-record-id"));
+
+        // then
+        assertThat(thrown).isNull();
+
+        // verify
+        verify(openVidu, times(1)).deleteRecording("test-record-id");
+    }
+
+    @Test
+    @DisplayName("녹화 ID로 녹화 삭제 실패 - 오픈 비두 장애")
+    void 녹화_ID로_녹화_삭제_실패__오픈_비두_장애() throws Exception {
+        // given
+        OpenViduHttpException serverError = mock(OpenViduHttpException.class);
+        when(serverError.getStatus()).thenReturn(500);
+        doThrow(serverError).when(openVidu).deleteRecording("test-record-id");
+
+        // when
+        Throwable thrown = catchThrowable(() -> webrtcSessionService.deleteRecordById("test-record-id"));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(AppException.class)
+                .hasFieldOrPropertyWithValue("errorCode", INTERNAL_SERVER_ERROR);
+    }
 }
@@ -0,0 +1,216 @@
+package com.bangguddle.ownbang.domain.webrtc.service;
+
+import com.bangguddle.ownbang.domain.agent.entity.Agent;
+import com.bangguddle.ownbang.domain.reservation.entity.Reservation;
+import com.bangguddle.ownbang.domain.reservation.entity.ReservationStatus;
+import com.bangguddle.ownbang.domain.reservation.repository.ReservationRepository;
+import com.bangguddle.ownbang.domain.room.entity.Room;
+import com.bangguddle.ownbang.domain.streaming.service.StreamingService;
+import com.bangguddle.ownbang.domain.user.entity.User;
+import com.bangguddle.ownbang.domain.video.dto.VideoRecordRequest;
+import com.bangguddle.ownbang.domain.video.dto.VideoUpdateRequest;
+import com.bangguddle.ownbang.domain.video.entity.Video;
+import com.bangguddle.ownbang.domain.video.entity.VideoStatus;
+import com.bangguddle.ownbang.domain.video.repository.VideoRepository;
+import com.bangguddle.ownbang.domain.video.service.VideoService;
+import com.bangguddle.ownbang.domain.webrtc.dto.WebrtcCallState;
+import com.bangguddle.ownbang.domain.webrtc.enums.UserType;
+import com.bangguddle.ownbang.domain.webrtc.repository.WebrtcSessionRepository;
+import com.bangguddle.ownbang.domain.webrtc.repository.impl.LocalWebrtcSessionRepositoryImpl;
+import com.bangguddle.ownbang.domain.webrtc.service.impl.WebrtcTourServiceImpl;
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.Recording;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.BAD_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WebrtcTourServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private StreamingService streamingService;
+
+    @Mock
+    private WebrtcSessionService webrtcSessionService;
+
+    @Spy
+    private WebrtcSessionRepository webrtcSessionRepository = new LocalWebrtcSessionRepositoryImpl();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WebrtcTourServiceImpl webrtcTourService;
+
+    private LocalDateTime now;
+    private Reservation previous;
+    private Reservation next;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webrtcTourService, "maxGapMinutes", 60L);
+        now = LocalDateTime.now();
+        previous = mockReservation(1L, 100L, 200L, now.minusMinutes(30));
+        next = mockReservation(2L, 100L, 200L, now);
+        when(reservationRepository.findById(2L)).thenReturn(Optional.of(next));
+    }
+
+    @Test
+    @DisplayName("투어 이어가기 성공 - 직전 예약 녹화 구간을 변환 등록하고 다음 예약 녹화 시작")
+    void 투어_이어가기_성공() {
+        // given
+        givenPrevious(previous);
+        givenRecordingState(1L, "ses_1");
+        Recording previousRecording = mockRecording("ses_1");
+        Recording nextRecording = mockRecording("ses_1~1");
+        when(webrtcSessionService.getRecord(1L)).thenReturn(Optional.of(previousRecording));
+        when(webrtcSessionService.handoverSession(1L, 2L, UserType.ROLE_AGENT)).thenReturn(Optional.of("agent-token"));
+        Video video = mockVideo(VideoStatus.RECORDING);
+        when(videoRepository.findByReservationId(1L)).thenReturn(Optional.of(video));
+        when(webrtcSessionService.getToken(2L, UserType.ROLE_USER)).thenReturn(Optional.of("user-token"));
+        when(webrtcSessionService.startRecord(2L)).thenReturn(Optional.of(nextRecording));
+
+        // when
+        Optional<String> token = webrtcTourService.continueTour(2L);
+
+        // then
+        assertThat(token).contains("agent-token");
+        assertThat(meterRegistry.counter("webrtc.tour.handovers").count()).isEqualTo(1);
+        ArgumentCaptor<VideoUpdateRequest> updateCaptor = ArgumentCaptor.forClass(VideoUpdateRequest.class);
+        verify(videoService, times(1)).modifyVideo(updateCaptor.capture(), eq(10L));
+        assertThat(updateCaptor.getValue().videoStatus()).isEqualTo(VideoStatus.ENCODING);
+        ArgumentCaptor<VideoRecordRequest> recordCaptor = ArgumentCaptor.forClass(VideoRecordRequest.class);
+        verify(videoService, times(1)).registerVideo(recordCaptor.capture());
+        assertThat(recordCaptor.getValue().reservationId()).isEqualTo(2L);
+        assertThat(recordCaptor.getValue().sessionId()).isEqualTo("ses_1~1");
+
+        // verify
+        verify(streamingService, times(1)).uploadStreaming(1L, "ses_1");
+    }
+
+    @Test
+    @DisplayName("투어 이어가기 안함 - 같은 중개인/임차인의 직전 예약이 없음")
+    void 투어_이어가기_안함__직전_예약_없음() {
+        // given
+        when(reservationRepository.findFirstByRoomAgentIdAndUserIdAndStatusAndIdNotAndReservationTimeBetweenOrderByReservationTimeDescIdDesc(
+                any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        // when
+        Optional<String> token = webrtcTourService.continueTour(2L);
+
+        // then
+        assertThat(token).isEmpty();
+
+        // verify
+        verify(reservationRepository, times(1))
+                .findFirstByRoomAgentIdAndUserIdAndStatusAndIdNotAndReservationTimeBetweenOrderByReservationTimeDescIdDesc(
+                        100L, 200L, ReservationStatus.CONFIRMED, 2L, now.minusMinutes(60), now);
+        verify(webrtcSessionService, never()).handoverSession(any(), any(), any());
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("투어 이어가기 안함 - 직전 예약의 통화가 끝남")
+    void 투어_이어가기_안함__직전_통화_종료() {
+        // given
+        givenPrevious(previous);
+
+        // when
+        Optional<String> token = webrtcTourService.continueTour(2L);
+
+        // then
+        assertThat(token).isEmpty();
+
+        // verify
+        verify(webrtcSessionService, never()).handoverSession(any(), any(), any());
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("투어 이어가기 안함 - 다른 요청이 먼저 세션을 넘겨받음")
+    void 투어_이어가기_안함__이어받기_실패() {
+        // given
+        givenPrevious(previous);
+        givenRecordingState(1L, "ses_1");
+        when(webrtcSessionService.handoverSession(1L, 2L, UserType.ROLE_AGENT)).thenThrow(new AppException(BAD_REQUEST));
+
+        // when
+        Optional<String> token = webrtcTourService.continueTour(2L);
+
+        // then
+        assertThat(token).isEmpty();
+
+        // verify
+        verify(videoService, never()).modifyVideo(any(), any());
+        verify(webrtcSessionService, never()).startRecord(any());
+        verify(streamingService, never()).uploadStreaming(any(), any());
+    }
+
+    private void givenPrevious(Reservation reservation) {
+        when(reservationRepository.findFirstByRoomAgentIdAndUserIdAndStatusAndIdNotAndReservationTimeBetweenOrderByReservationTimeDescIdDesc(
+                eq(100L), eq(200L), eq(ReservationStatus.CONFIRMED), eq(2L), any(), any())).thenReturn(Optional.of(reservation));
+    }
+
+    private void givenRecordingState(Long reservationId, String sessionId) {
+        webrtcSessionRepository.compute(reservationId,
+                state -> WebrtcCallState.opening(state, System.currentTimeMillis(), 30_000L));
+        webrtcSessionRepository.compute(reservationId, state -> state.open(sessionId)
+                .withToken(UserType.ROLE_AGENT, "agent-token")
+                .withToken(UserType.ROLE_USER, "user-token")
+                .recording(sessionId));
+    }
+
+    private Reservation mockReservation(Long reservationId, Long agentId, Long userId, LocalDateTime reservationTime) {
+        Agent agent = mock(Agent.class);
+        lenient().when(agent.getId()).thenReturn(agentId);
+        Room room = mock(Room.class);
+        lenient().when(room.getAgent()).thenReturn(agent);
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(userId);
+
+        Reservation reservation = mock(Reservation.class);
+        lenient().when(reservation.getId()).thenReturn(reservationId);
+        lenient().when(reservation.getRoom()).thenReturn(room);
+        lenient().when(reservation.getUser()).thenReturn(user);
+        lenient().when(reservation.getReservationTime()).thenReturn(reservationTime);
+        return reservation;
+    }
+
+    private Recording mockRecording(String recordingId) {
+        Recording recording = mock(Recording.class);
+        when(recording.getId()).thenReturn(recordingId);
+        return recording;
+    }
+
+    private Video mockVideo(VideoStatus videoStatus) {
+        Video video = mock(Video.class);
+        lenient().when(video.getId()).thenReturn(10L);
+        lenient().when(video.getVideoStatus()).thenReturn(videoStatus);
+        return video;
+    }
+}
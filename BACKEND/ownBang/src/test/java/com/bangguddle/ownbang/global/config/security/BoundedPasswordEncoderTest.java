@@ -0,0 +1,116 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import com.bangguddle.ownbang.global.handler.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.PASSWORD_HASHING_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 성공 - 전용 스레드에서 계산하고 계산 시간 기록")
+    void 비밀번호_해시_성공() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),
+                new PasswordHashingProperties(1, 1, 5000L, 4), meterRegistry);
+
+        // when
+        String encoded = passwordEncoder.encode("password");
+
+        // then
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("other", encoded)).isFalse();
+        assertThat(meterRegistry.timer("auth.password.hash.duration", "operation", "matches").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 실패 - 대기열이 가득 차면 기다리지 않고 거절")
+    void 비밀번호_해시_실패__대기열_초과() throws Exception {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(),
+                new PasswordHashingProperties(1, 1, 5000L, 4), meterRegistry);
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("running"));
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("queued"));
+        awaitQueued(1);
+
+        // when
+        Throwable thrown = catchThrowable(() -> passwordEncoder.encode("rejected"));
+
+        // then
+        assertThat(thrown).isInstanceOf(AppException.class)
+                .hasMessageContaining(PASSWORD_HASHING_BUSY.getMessage());
+        assertThat(meterRegistry.counter("auth.password.hash.rejections",
+                "operation", "encode", "reason", "queue_full").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 실패 - 제한 시간 초과")
+    void 비밀번호_해시_실패__시간_초과() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(),
+                new PasswordHashingProperties(1, 1, 50L, 4), meterRegistry);
+
+        // when
+        Throwable thrown = catchThrowable(() -> passwordEncoder.matches("password", "encoded"));
+
+        // then
+        assertThat(thrown).isInstanceOf(AppException.class)
+                .hasMessageContaining(PASSWORD_HASHING_BUSY.getMessage());
+        assertThat(meterRegistry.counter("auth.password.hash.rejections",
+                "operation", "matches", "reason", "timeout").count()).isEqualTo(1);
+    }
+
+    // release 전까지 끝나지 않는 해시
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQueued(int queued) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("auth.password.hash.queued").gauge().value() < queued
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
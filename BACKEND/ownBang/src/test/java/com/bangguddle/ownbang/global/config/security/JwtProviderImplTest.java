@@ -0,0 +1,69 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import com.bangguddle.ownbang.global.dto.TokenClaims;
+import com.bangguddle.ownbang.global.dto.Tokens;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtProviderImplTest {
+
+    private static final String SIGNING_KEY = "test-signing-key-test-signing-key-test-signing-key";
+
+    private JwtProviderImpl jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProviderImpl(SIGNING_KEY, 2);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 발급한 토큰의 사용자와 만료 시각 반환")
+    void 토큰_검증_성공() {
+        // given
+        Tokens tokens = jwtProvider.generateTokens(7L);
+
+        // when
+        TokenClaims claims = jwtProvider.verify(tokens.accessToken());
+
+        // then
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.expiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThat(jwtProvider.isValid(tokens.accessToken(), 7L)).isTrue();
+        assertThat(jwtProvider.isValid(tokens.accessToken(), 8L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 같은 토큰은 캐시된 claims 반환, 캐시가 가득 차도 검증은 성공")
+    void 토큰_검증_성공__캐시() {
+        // given
+        String first = jwtProvider.generateTokens(1L).accessToken();
+        String second = jwtProvider.generateTokens(2L).accessToken();
+        String third = jwtProvider.generateTokens(3L).accessToken();
+        TokenClaims cached = jwtProvider.verify(first);
+        jwtProvider.verify(second);
+
+        // when
+        TokenClaims hit = jwtProvider.verify(first);
+        TokenClaims overflow = jwtProvider.verify(third);
+
+        // then
+        assertThat(hit).isSameAs(cached);
+        assertThat(overflow.userId()).isEqualTo(3L);
+        assertThat(jwtProvider.verify(third)).isNotSameAs(overflow);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 다른 키로 서명된 토큰")
+    void 토큰_검증_실패__서명_불일치() {
+        // given
+        String token = new JwtProviderImpl(SIGNING_KEY + "-other", 2).generateTokens(1L).accessToken();
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verify(token)).isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bangguddle.ownbang.global.config.security;
+
+import com.bangguddle.ownbang.domain.user.entity.User;
+import com.bangguddle.ownbang.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private User user;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private PrincipalCacheImpl principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCacheImpl(userRepository, redisTemplate, redisMessageListenerContainer, 60_000L, 100);
+        when(userRepository.getById(1L)).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("권한 조회 성공 - 캐시된 사용자는 DB를 읽지 않음")
+    void 권한_조회_성공__캐시() {
+        // given
+        when(user.isAgent()).thenReturn(false);
+        principalCache.isAgent(1L);
+
+        // when
+        boolean agent = principalCache.isAgent(1L);
+
+        // then
+        assertThat(agent).isFalse();
+
+        // verify
+        verify(userRepository, times(1)).getById(1L);
+    }
+
+    @Test
+    @DisplayName("권한 조회 성공 - 중개인 전환 후 무효화하면 바뀐 권한 반환")
+    void 권한_조회_성공__무효화() {
+        // given
+        when(user.isAgent()).thenReturn(false, true);
+        principalCache.isAgent(1L);
+
+        // when
+        principalCache.invalidate(1L);
+        boolean agent = principalCache.isAgent(1L);
+
+        // then
+        assertThat(agent).isTrue();
+
+        // verify
+        verify(userRepository, times(2)).getById(1L);
+        verify(redisTemplate, times(1)).convertAndSend("AUTH_PRINCIPAL_INVALIDATE", "1");
+    }
+
+    @Test
+    @DisplayName("권한 조회 성공 - 다른 서버의 무효화 메시지 수신 후 다시 조회")
+    void 권한_조회_성공__무효화_메시지_수신() {
+        // given
+        when(user.isAgent()).thenReturn(false, true);
+        principalCache.isAgent(1L);
+
+        // when
+        principalCache.onMessage(
+                new DefaultMessage("AUTH_PRINCIPAL_INVALIDATE".getBytes(StandardCharsets.UTF_8),
+                        "1".getBytes(StandardCharsets.UTF_8)), null);
+        boolean agent = principalCache.isAgent(1L);
+
+        // then
+        assertThat(agent).isTrue();
+
+        // verify
+        verify(userRepository, times(2)).getById(1L);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
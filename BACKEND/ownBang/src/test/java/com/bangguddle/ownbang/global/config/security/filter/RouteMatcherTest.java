@@ -0,0 +1,54 @@
+package com.bangguddle.ownbang.global.config.security.filter;
+
+import com.bangguddle.ownbang.global.config.security.filter.RouteMatcher.RouteAuthorization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bangguddle.ownbang.global.config.security.filter.JwtTokenFilter.ROUTE_MATCHER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouteMatcherTest {
+
+    @Test
+    @DisplayName("URI 분류 성공 - 컨트롤러 경로")
+    void URI_분류_성공__컨트롤러_경로() {
+        // 토큰 필요
+        List.of("/bookmarks", "/bookmarks/3", "/agents/auths/sign-up", "/auths/logout",
+                        "/webrtcs/get-token", "/webrtcs/remove-token", "/auths/password-check",
+                        "/auths/password-change", "/videos/1/status", "/mypage", "/agents/mypage",
+                        "/checklists/template", "/reviews", "/rooms/agents", "/rooms/agents/5",
+                        "/reservations/list", "/agents/reservations/delete/2", "/agents/workhour")
+                .forEach(uri -> assertThat(ROUTE_MATCHER.classify(uri)).as(uri).isEqualTo(RouteAuthorization.REQUIRED));
+
+        // 토큰이 없어도 허용
+        List.of("/search", "/rooms/search", "/rooms/search/7", "/reviews/search/avg/3")
+                .forEach(uri -> assertThat(ROUTE_MATCHER.classify(uri)).as(uri).isEqualTo(RouteAuthorization.OPTIONAL));
+
+        // 인증하지 않음
+        List.of("/auths/login", "/auths/refresh", "/auths/sign-up", "/auths/duplicates/email",
+                        "/webrtcs/webhook", "/streamings", "/storage/hls/a.m3u8", "/")
+                .forEach(uri -> assertThat(ROUTE_MATCHER.classify(uri)).as(uri).isEqualTo(RouteAuthorization.PUBLIC));
+    }
+
+    @Test
+    @DisplayName("URI 분류 성공 - 조각 일부만 같은 URI는 일치하지 않음")
+    void URI_분류_성공__조각_단위_일치() {
+        assertThat(ROUTE_MATCHER.classify("/roomsearch")).isEqualTo(RouteAuthorization.PUBLIC);
+        assertThat(ROUTE_MATCHER.classify("/videosx/1")).isEqualTo(RouteAuthorization.PUBLIC);
+        assertThat(ROUTE_MATCHER.classify("//rooms//agents/")).isEqualTo(RouteAuthorization.REQUIRED);
+    }
+
+    @Test
+    @DisplayName("URI 분류 성공 - 긴 규칙을 따라가다 실패해도 겹치는 짧은 규칙과 일치")
+    void URI_분류_성공__실패_링크() {
+        // given
+        RouteMatcher routeMatcher = new RouteMatcher(new String[]{"/b/c"}, new String[]{"/a/b/x", "/c"});
+
+        // when & then
+        assertThat(routeMatcher.classify("/a/b/c")).isEqualTo(RouteAuthorization.OPTIONAL);
+        assertThat(routeMatcher.classify("/a/b/y")).isEqualTo(RouteAuthorization.PUBLIC);
+        assertThat(routeMatcher.classify("/a/b/x/z")).isEqualTo(RouteAuthorization.REQUIRED);
+    }
+}
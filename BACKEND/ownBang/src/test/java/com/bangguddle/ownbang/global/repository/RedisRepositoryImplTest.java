@@ -0,0 +1,148 @@
+package com.bangguddle.ownbang.global.repository;
+
+import com.bangguddle.ownbang.global.dto.Tokens;
+import com.bangguddle.ownbang.global.repository.impl.RedisRepositoryImpl;
+import com.bangguddle.ownbang.global.utils.TokenHashUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisRepositoryImplTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private RedisRepositoryImpl redisRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(redisRepository, "nearCacheMillis", 60_000L);
+        ReflectionTestUtils.setField(redisRepository, "nearCacheSize", 100);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("토큰 조회 성공 - 캐시된 토큰은 Redis를 다시 조회하지 않음")
+    void 토큰_조회_성공__캐시() {
+        // given
+        when(valueOperations.get("access")).thenReturn("refresh");
+        redisRepository.findByToken("access");
+
+        // when & then
+        assertThat(redisRepository.findByToken("access")).contains("refresh");
+
+        // verify
+        verify(valueOperations, times(1)).get("access");
+    }
+
+    @Test
+    @DisplayName("토큰 삭제 성공 - 캐시에서 지우고 다른 서버에 해시로 알림")
+    void 토큰_삭제_성공__무효화_전파() {
+        // given
+        when(valueOperations.get("access")).thenReturn("refresh", (String) null);
+        when(redisTemplate.delete("access")).thenReturn(true);
+        redisRepository.findByToken("access");
+
+        // when
+        redisRepository.delete("access");
+
+        // then
+        assertThat(redisRepository.findByToken("access")).isEmpty();
+
+        // verify
+        verify(redisTemplate, times(1)).convertAndSend("AUTH_TOKEN_REVOKE", TokenHashUtils.hash("access"));
+    }
+
+    @Test
+    @DisplayName("토큰 무효화 메시지 수신 - 캐시에서 지우고 다시 조회")
+    void 토큰_무효화_메시지_수신() {
+        // given
+        RedisSerializer<Object> serializer = new GenericJackson2JsonRedisSerializer();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        when(valueOperations.get("access")).thenReturn("refresh", (String) null);
+        redisRepository.findByToken("access");
+
+        // when
+        byte[] body = serializer.serialize(TokenHashUtils.hash("access"));
+        redisRepository.onMessage(new DefaultMessage("AUTH_TOKEN_REVOKE".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertThat(redisRepository.findByToken("access")).isEmpty();
+
+        // verify
+        verify(valueOperations, times(2)).get("access");
+    }
+
+    @Test
+    @DisplayName("토큰 교체 성공 - refresh token 이 같으면 한 번에 교체하고 기존 토큰 캐시 무효화")
+    void 토큰_교체_성공() {
+        // given
+        Tokens tokens = Tokens.builder().accessToken("new-access").refreshToken("new-refresh").build();
+        when(valueOperations.get("access")).thenReturn("refresh", (String) null);
+        doReturn(1L).when(redisTemplate).execute(anyScript(), eq(List.of("access", "new-access")),
+                eq("refresh"), eq("new-refresh"), any());
+        redisRepository.findByToken("access");
+
+        // when
+        boolean rotated = redisRepository.rotate("access", "refresh", tokens);
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(redisRepository.findByToken("access")).isEmpty();
+
+        // verify
+        verify(redisTemplate, times(1)).convertAndSend("AUTH_TOKEN_REVOKE", TokenHashUtils.hash("access"));
+    }
+
+    @Test
+    @DisplayName("토큰 교체 실패 - refresh token 이 다르면 교체하지 않고 캐시 유지")
+    void 토큰_교체_실패__불일치() {
+        // given
+        Tokens tokens = Tokens.builder().accessToken("new-access").refreshToken("new-refresh").build();
+        when(valueOperations.get("access")).thenReturn("refresh");
+        doReturn(0L).when(redisTemplate).execute(anyScript(), anyList(), any(), any(), any());
+        redisRepository.findByToken("access");
+
+        // when
+        boolean rotated = redisRepository.rotate("access", "other", tokens);
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(redisRepository.findByToken("access")).contains("refresh");
+
+        // verify
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    // 스크립트 결과 타입을 정해 두어 raw 타입 매칭 경고를 피한다.
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
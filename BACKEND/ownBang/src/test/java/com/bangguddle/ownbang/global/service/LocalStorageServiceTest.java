@@ -0,0 +1,118 @@
+package com.bangguddle.ownbang.global.service;
+
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.impl.LocalStorageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LocalStorageServiceTest {
+
+    private static final String segmentKey = "/hls/session/360p/session_00000000.ts";
+    private static final String content = "0123456789";
+
+    @TempDir
+    private Path storagePath;
+
+    private LocalStorageServiceImpl localStorageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path segment = storagePath.resolve(segmentKey.substring(1));
+        Files.createDirectories(segment.getParent());
+        Files.writeString(segment, content);
+
+        localStorageService = new LocalStorageServiceImpl();
+        ReflectionTestUtils.setField(localStorageService, "storagePath", storagePath.toString());
+    }
+
+    @Test
+    @DisplayName("파일 제공 성공 - 전체")
+    void 파일_제공_성공__전체() throws Exception {
+        MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", segmentKey));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(content);
+        assertThat(response.getContentType()).isEqualTo("video/mp2t");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+        assertThat(response.getHeader("ETag")).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("파일 제공 성공 - 요청한 구간만")
+    void 파일_제공_성공__요청한_구간만() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", segmentKey);
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("파일 제공 성공 - 마지막 n바이트")
+    void 파일_제공_성공__마지막_n바이트() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", segmentKey);
+        request.addHeader("Range", "bytes=-3");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    @DisplayName("파일 제공 성공 - ETag가 같으면 본문 없이 304")
+    void 파일_제공_성공__ETag가_같으면_본문_없이_304() throws Exception {
+        String eTag = serve(new MockHttpServletRequest("GET", segmentKey)).getHeader("ETag");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", segmentKey);
+        request.addHeader("If-None-Match", eTag);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일 제공 실패 - 파일 크기를 넘는 구간")
+    void 파일_제공_실패__파일_크기를_넘는_구간() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", segmentKey);
+        request.addHeader("Range", "bytes=10-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("파일 제공 실패 - 저장소 밖의 경로")
+    void 파일_제공_실패__저장소_밖의_경로() {
+        Throwable thrown = catchThrowable(() -> serve(new MockHttpServletRequest("GET", "/../secret.txt")));
+
+        assertThat(thrown).isInstanceOf(AppException.class);
+        assertThat(((AppException) thrown).getErrorCode()).isEqualTo(NOT_FOUND);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        localStorageService.serve(request.getRequestURI(), request, response);
+        return response;
+    }
+}
@@ -0,0 +1,110 @@
+package com.bangguddle.ownbang.global.service;
+
+import com.bangguddle.ownbang.global.handler.AppException;
+import com.bangguddle.ownbang.global.service.impl.LocalUploaderServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.bangguddle.ownbang.global.enums.ErrorCode.BAD_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+public class LocalUploaderServiceTest {
+
+    private static final String baseUrl = "http://localhost:8080/storage";
+
+    @TempDir
+    private Path tempPath;
+
+    private Path storagePath;
+    private Path outputPath;
+
+    private LocalUploaderServiceImpl localUploaderService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storagePath = Files.createDirectories(tempPath.resolve("storage"));
+        outputPath = Files.createDirectories(tempPath.resolve("output"));
+
+        localUploaderService = new LocalUploaderServiceImpl();
+        ReflectionTestUtils.setField(localUploaderService, "storagePath", storagePath.toString());
+        ReflectionTestUtils.setField(localUploaderService, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(localUploaderService, "hlsPath", "hls");
+    }
+
+    @Test
+    @DisplayName("파일 저장 성공 - 같은 파일 시스템이면 하드 링크로 저장")
+    void 파일_저장_성공__하드_링크() throws Exception {
+        Path source = Files.writeString(tempPath.resolve("thumbnail.jpg"), "image");
+
+        String url = localUploaderService.uploadToS3(source.toFile(), "thumbnails");
+
+        Path target = storagePath.resolve("thumbnails/thumbnail.jpg");
+        assertThat(url).isEqualTo(baseUrl + "/thumbnails/thumbnail.jpg");
+        assertThat(Files.readString(target)).isEqualTo("image");
+        assertThat(Files.isSameFile(source, target)).isTrue();
+        assertThat(target.resolveSibling("thumbnail.jpg.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파일 저장 성공 - 하드 링크를 만들 수 없으면 복사")
+    void 파일_저장_성공__하드_링크_실패_시_복사() throws Exception {
+        Path source = Files.writeString(tempPath.resolve("thumbnail.jpg"), "image");
+
+        try (MockedStatic<Files> files = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+            files.when(() -> Files.createLink(any(), any())).thenThrow(new IOException("cross-device link"));
+
+            localUploaderService.uploadToS3(source.toFile(), "thumbnails");
+        }
+
+        Path target = storagePath.resolve("thumbnails/thumbnail.jpg");
+        assertThat(Files.readString(target)).isEqualTo("image");
+        assertThat(Files.isSameFile(source, target)).isFalse();
+        assertThat(target.resolveSibling("thumbnail.jpg.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("HLS 저장 성공 - 플레이리스트는 임시 파일을 거쳐 교체하고 이미 있는 세그먼트는 건너뜀")
+    void HLS_저장_성공__플레이리스트_교체() throws Exception {
+        Files.createDirectories(outputPath.resolve("360p"));
+        Files.writeString(outputPath.resolve("master.m3u8"), "#EXTM3U new");
+        Files.writeString(outputPath.resolve("360p/session_00000000.ts"), "new segment");
+        Path sessionPath = Files.createDirectories(storagePath.resolve("hls/session/360p")).getParent();
+        Files.writeString(sessionPath.resolve("master.m3u8"), "#EXTM3U old");
+        // 이전에 중단된 저장이 남긴 임시 파일
+        Files.writeString(sessionPath.resolve("master.m3u8.tmp"), "#EXTM3U broken");
+        Files.writeString(sessionPath.resolve("360p/session_00000000.ts"), "stored segment");
+
+        String url = localUploaderService.uploadHlsFiles(outputPath, "session");
+
+        assertThat(url).isEqualTo(baseUrl + "/hls/session");
+        assertThat(Files.readString(sessionPath.resolve("master.m3u8"))).isEqualTo("#EXTM3U new");
+        assertThat(sessionPath.resolve("master.m3u8.tmp")).doesNotExist();
+        assertThat(Files.readString(sessionPath.resolve("360p/session_00000000.ts"))).isEqualTo("stored segment");
+    }
+
+    @Test
+    @DisplayName("파일 저장 실패 - 저장소 밖을 가리키는 파일 이름")
+    void 파일_저장_실패__저장소_밖의_경로() {
+        MockMultipartFile file = new MockMultipartFile("roomImageFile", "../../../../escaped.png",
+                "image/png", "image".getBytes());
+
+        Throwable thrown = catchThrowable(() -> localUploaderService.uploadFile(file, "rooms"));
+
+        assertThat(thrown).isInstanceOf(AppException.class);
+        assertThat(((AppException) thrown).getErrorCode()).isEqualTo(BAD_REQUEST);
+        assertThat(tempPath.resolve("escaped.png")).doesNotExist();
+    }
+}
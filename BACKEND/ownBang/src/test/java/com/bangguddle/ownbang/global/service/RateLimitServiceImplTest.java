@@ -0,0 +1,98 @@
+package com.bangguddle.ownbang.global.service;
+
+import com.bangguddle.ownbang.global.config.RateLimitProperties;
+import com.bangguddle.ownbang.global.config.RateLimitProperties.Rule;
+import com.bangguddle.ownbang.global.service.impl.RateLimitServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitServiceImplTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RateLimitService rateLimitService;
+
+    private final Rule rule = new Rule("login", "POST", "/auths/login", 10, 60L, 3);
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, 4, 60_000L, 100, List.of(rule));
+        rateLimitService = new RateLimitServiceImpl(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("요청 허용 성공 - 미리 받아 둔 토큰은 Redis 호출 없이 사용")
+    void 요청_허용_성공__받아_둔_토큰() {
+        // given
+        givenTaken(List.of(3L, 0L));
+
+        // when
+        List<Long> results = List.of(
+                rateLimitService.tryAcquire(rule, "ip:1.1.1.1"),
+                rateLimitService.tryAcquire(rule, "ip:1.1.1.1"),
+                rateLimitService.tryAcquire(rule, "ip:1.1.1.1"));
+
+        // then
+        assertThat(results).containsOnly(0L);
+
+        // verify
+        verify(redisTemplate, times(1)).execute(anyTakeScript(), eq(List.of("RATE_LIMIT_login:ip:1.1.1.1")),
+                eq(10), eq(60_000L), eq(3));
+    }
+
+    @Test
+    @DisplayName("요청 거절 - 버킷이 비면 남은 시간 동안 Redis 호출 없이 거절")
+    void 요청_거절__빈_버킷() {
+        // given
+        givenTaken(List.of(0L, 6000L));
+
+        // when
+        long first = rateLimitService.tryAcquire(rule, "user:1");
+        long second = rateLimitService.tryAcquire(rule, "user:1");
+
+        // then
+        assertThat(first).isEqualTo(6000L);
+        assertThat(second).isPositive().isLessThanOrEqualTo(6000L);
+
+        // verify
+        verify(redisTemplate, times(1)).execute(anyTakeScript(), anyList(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 허용 - Redis에 닿지 않으면 막지 않음")
+    void 요청_허용__Redis_장애() {
+        // given
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(anyTakeScript(), anyList(), any(), any(), any());
+
+        // when
+        long result = rateLimitService.tryAcquire(rule, "user:1");
+
+        // then
+        assertThat(result).isZero();
+    }
+
+    private void givenTaken(List<Long> taken) {
+        doReturn(taken).when(redisTemplate).execute(anyTakeScript(), anyList(), any(), any(), any());
+    }
+
+    // 스크립트 결과 타입을 정해 두어 raw 타입 매칭 경고를 피한다.
+    private static RedisScript<List<Long>> anyTakeScript() {
+        return any();
+    }
+}